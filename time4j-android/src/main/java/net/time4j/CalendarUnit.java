@@ -680,36 +680,7 @@ public enum CalendarUnit
 
             PlainDate d1 = start.get(PlainDate.CALENDAR_DATE);
             PlainDate d2 = end.get(PlainDate.CALENDAR_DATE);
-            long amount;
-
-            switch (this.unit) {
-                case MILLENNIA:
-                    amount = this.monthDelta(d1, d2) / 12000;
-                    break;
-                case CENTURIES:
-                    amount = this.monthDelta(d1, d2) / 1200;
-                    break;
-                case DECADES:
-                    amount = this.monthDelta(d1, d2) / 120;
-                    break;
-                case YEARS:
-                    amount = this.monthDelta(d1, d2) / 12;
-                    break;
-                case QUARTERS:
-                    amount = this.monthDelta(d1, d2) / 3;
-                    break;
-                case MONTHS:
-                    amount = this.monthDelta(d1, d2);
-                    break;
-                case WEEKS:
-                    amount = dayDelta(d1, d2) / 7;
-                    break;
-                case DAYS:
-                    amount = dayDelta(d1, d2);
-                    break;
-                default:
-                    throw new UnsupportedOperationException(this.unit.name());
-            }
+            long amount = delta(this.unit, this.policy, d1, d2);
 
             if (
                 (amount != 0)
@@ -741,22 +712,63 @@ public enum CalendarUnit
 
         }
 
-        private long monthDelta(
+        /**
+         * <p>Bestimmt den Abstand zwischen zwei Kalenderdaten ohne
+         * Ber&uuml;cksichtigung einer Uhrzeit. </p>
+         *
+         * @param   unit    calendar unit
+         * @param   policy  strategy for handling day overflow
+         * @param   d1      start date
+         * @param   d2      end date
+         * @return  temporal distance in given unit
+         */
+        static long delta(
+            CalendarUnit unit,
+            int policy,
+            PlainDate d1,
+            PlainDate d2
+        ) {
+
+            switch (unit) {
+                case MILLENNIA:
+                    return monthDelta(d1, d2, policy) / 12000;
+                case CENTURIES:
+                    return monthDelta(d1, d2, policy) / 1200;
+                case DECADES:
+                    return monthDelta(d1, d2, policy) / 120;
+                case YEARS:
+                    return monthDelta(d1, d2, policy) / 12;
+                case QUARTERS:
+                    return monthDelta(d1, d2, policy) / 3;
+                case MONTHS:
+                    return monthDelta(d1, d2, policy);
+                case WEEKS:
+                    return dayDelta(d1, d2) / 7;
+                case DAYS:
+                    return dayDelta(d1, d2);
+                default:
+                    throw new UnsupportedOperationException(unit.name());
+            }
+
+        }
+
+        private static long monthDelta(
             PlainDate start,
-            PlainDate end
+            PlainDate end,
+            int policy
         ) {
 
             long amount = (end.getEpochMonths() - start.getEpochMonths());
 
             if (
-                (this.policy == POLICY_KEEPING_LAST_DATE)
-                || (this.policy == POLICY_END_OF_MONTH)
-                || (this.policy == POLICY_JODA_METRIC)
+                (policy == POLICY_KEEPING_LAST_DATE)
+                || (policy == POLICY_END_OF_MONTH)
+                || (policy == POLICY_JODA_METRIC)
             ) {
                 CalendarUnit u = CalendarUnit.MONTHS;
-                if ((amount > 0) && PlainDate.doAdd(u, start, amount, this.policy).isAfter(end)) {
+                if ((amount > 0) && PlainDate.doAdd(u, start, amount, policy).isAfter(end)) {
                     amount--;
-                } else if ((amount < 0) && PlainDate.doAdd(u, start, amount, this.policy).isBefore(end)) {
+                } else if ((amount < 0) && PlainDate.doAdd(u, start, amount, policy).isBefore(end)) {
                     amount++;
                 }
             } else {
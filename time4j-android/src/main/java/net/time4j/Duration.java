@@ -45,6 +45,8 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.time4j.CalendarUnit.*;
 import static net.time4j.ClockUnit.*;
@@ -143,6 +145,27 @@ public final class Duration<U extends IsoUnit>
     private static final long MRD = 1000000000L;
     private static final long MIO = 1000000L;
 
+    // kleine Beträge häufiger Einheiten werden ohne neue Item-Objekte dargestellt
+    private static final int MAX_CACHED_AMOUNT = 60;
+    private static final Item<?>[][] ITEM_CACHE;
+    private static final int CLOCK_OFFSET = CalendarUnit.values().length;
+
+    static {
+        CalendarUnit[] calendarUnits = CalendarUnit.values();
+        ClockUnit[] clockUnits = ClockUnit.values();
+        Item<?>[][] cache = new Item<?>[calendarUnits.length + clockUnits.length][];
+
+        for (int i = 0; i < cache.length; i++) {
+            IsoUnit unit = ((i < calendarUnits.length) ? calendarUnits[i] : clockUnits[i - calendarUnits.length]);
+            cache[i] = new Item<?>[MAX_CACHED_AMOUNT + 1];
+            for (int amount = 1; amount <= MAX_CACHED_AMOUNT; amount++) {
+                cache[i][amount] = Item.of(amount, unit);
+            }
+        }
+
+        ITEM_CACHE = cache;
+    }
+
     @SuppressWarnings("rawtypes")
     private static final Duration ZERO = new Duration();
 
@@ -298,6 +321,18 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    // Dauer mit genau einer Einheit (ohne Sortierung und Listenkopie)
+    private Duration(
+        Item<U> item,
+        boolean negative
+    ) {
+        super();
+
+        this.items = Collections.singletonList(item);
+        this.negative = negative;
+
+    }
+
     // Kopiekonstruktor (siehe inverse())
     private Duration(
         Duration<U> duration,
@@ -414,9 +449,7 @@ public final class Duration<U extends IsoUnit>
 	        }
         }
 
-        List<Item<U>> items = new ArrayList<Item<U>>(1);
-        items.add(Item.of(value, u));
-        return new Duration<U>(items, (amount < 0));
+        return new Duration<U>(itemOf(value, u), (amount < 0));
 
     }
 
@@ -1090,7 +1123,6 @@ public final class Duration<U extends IsoUnit>
         }
 
         // Millis und Micros ersetzen
-        List<Item<U>> temp = new ArrayList<Item<U>>(this.getTotalLength());
         Item<U> item = replaceFraction(amount, unit);
 
         if (item != null) {
@@ -1099,17 +1131,28 @@ public final class Duration<U extends IsoUnit>
         }
 
         if (this.isEmpty()) {
-            temp.add((item == null) ? Item.of(amount, unit) : item);
-            return new Duration<U>(temp, negatedValue);
+            return new Duration<U>(((item == null) ? itemOf(amount, unit) : item), negatedValue);
+        } else if ((this.count() == 1) && this.items.get(0).getUnit().equals(unit)) { // ohne Listenkopie
+            long sum =
+                MathUtils.safeAdd(
+                    (this.isNegative() ? -this.items.get(0).getAmount() : this.items.get(0).getAmount()),
+                    (negatedValue ? -amount : amount)
+                );
+            if (sum == 0) {
+                return ofZero();
+            }
+            return new Duration<U>(itemOf(((sum < 0) ? MathUtils.safeNegate(sum) : sum), unit), (sum < 0));
         }
 
+        List<Item<U>> temp = new ArrayList<Item<U>>(this.getTotalLength());
+
         // Items aktualisieren
         int index = this.getIndex(unit);
         boolean resultNegative = this.isNegative();
 
         if (index < 0) { // Einheit nicht vorhanden
             if (this.isNegative() == negatedValue) {
-                temp.add(Item.of(amount, unit));
+                temp.add(itemOf(amount, unit));
             } else { // mixed signs possible => last try
                 return this.plus(Duration.of(originalAmount, originalUnit));
             }
@@ -1133,7 +1176,7 @@ public final class Duration<U extends IsoUnit>
                 || (this.isNegative() == (sum < 0))
             ) {
                 long absSum = ((sum < 0) ? MathUtils.safeNegate(sum) : sum);
-                temp.set(index, Item.of(absSum, unit));
+                temp.set(index, itemOf(absSum, unit));
                 resultNegative = (sum < 0);
             } else { // mixed signs possible => last try
                 return this.plus(Duration.of(originalAmount, originalUnit));
@@ -1474,7 +1517,7 @@ public final class Duration<U extends IsoUnit>
         for (int i = 0, n = this.count(); i < n; i++) {
             Item<U> item = this.getTotalLength().get(i);
             newItems.add(
-                Item.of(
+                itemOf(
                     MathUtils.safeMultiply(item.getAmount(), scalar),
                     item.getUnit()
                 )
@@ -1632,13 +1675,15 @@ public final class Duration<U extends IsoUnit>
 
         if (this.isEmpty()) {
             return Duration.ofZero();
+        } else if (this.hasOnly(CalendarUnit.class)) {
+            return cast(this);
         }
 
         List<Item<CalendarUnit>> calItems = new ArrayList<Item<CalendarUnit>>();
 
         for (Item<U> item : this.items) {
             if (item.getUnit() instanceof CalendarUnit) {
-                calItems.add(Item.of(item.getAmount(), CalendarUnit.class.cast(item.getUnit())));
+                calItems.add(itemOf(item.getAmount(), CalendarUnit.class.cast(item.getUnit())));
             }
         }
 
@@ -1675,13 +1720,15 @@ public final class Duration<U extends IsoUnit>
 
         if (this.isEmpty()) {
             return Duration.ofZero();
+        } else if (this.hasOnly(ClockUnit.class)) {
+            return cast(this);
         }
 
         List<Item<ClockUnit>> clockItems = new ArrayList<Item<ClockUnit>>();
 
         for (Item<U> item : this.items) {
             if (item.getUnit() instanceof ClockUnit) {
-                clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
+                clockItems.add(itemOf(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             }
         }
 
@@ -1727,7 +1774,7 @@ public final class Duration<U extends IsoUnit>
 
         for (Item<U> item : this.items) {
             if (item.getUnit() instanceof ClockUnit) {
-                clockItems.add(Item.of(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
+                clockItems.add(itemOf(item.getAmount(), ClockUnit.class.cast(item.getUnit())));
             } else if (item.getUnit().equals(CalendarUnit.DAYS)) {
                 extraHours = MathUtils.safeMultiply(item.getAmount(), 24);
             }
@@ -1739,13 +1786,13 @@ public final class Duration<U extends IsoUnit>
                 Item<ClockUnit> item = clockItems.get(i);
                 if (item.getUnit() == ClockUnit.HOURS) {
                     hasHours = true;
-                    item = Item.of(MathUtils.safeAdd(item.getAmount(), extraHours), ClockUnit.HOURS);
+                    item = itemOf(MathUtils.safeAdd(item.getAmount(), extraHours), ClockUnit.HOURS);
                     clockItems.set(i, item);
                     break;
                 }
             }
             if (!hasHours) {
-                clockItems.add(Item.of(extraHours, ClockUnit.HOURS));
+                clockItems.add(itemOf(extraHours, ClockUnit.HOURS));
             }
         } else if (clockItems.isEmpty()) {
             return Duration.ofZero();
@@ -2545,7 +2592,7 @@ public final class Duration<U extends IsoUnit>
         }
 
         boolean xml = (style == PRINT_STYLE_XML);
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(this.count() * 8 + 12);
 
         if (this.isNegative()) {
             sb.append('-');
@@ -2655,11 +2702,10 @@ public final class Duration<U extends IsoUnit>
             seconds = MathUtils.safeAdd(seconds, nanos / MRD);
             sb.append(seconds);
             sb.append(xml ? '.' : ISO_DECIMAL_SEPARATOR);
-            String f = String.valueOf(nanos % MRD);
-            for (int i = 0, len = 9 - f.length(); i < len; i++) {
-                sb.append('0');
+            int f = (int) (nanos % MRD);
+            for (int divisor = 100000000; divisor > 0; divisor /= 10) {
+                sb.append((char) ('0' + (f / divisor) % 10));
             }
-            sb.append(f);
             sb.append('S');
         } else if (seconds != 0) {
             sb.append(seconds);
@@ -2698,6 +2744,43 @@ public final class Duration<U extends IsoUnit>
 
     }
 
+    private boolean hasOnly(Class<? extends IsoUnit> type) {
+
+        for (int i = 0, n = this.items.size(); i < n; i++) {
+            if (!type.isInstance(this.items.get(i).getUnit())) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    /**
+     * <p>Liefert ein Dauerelement, f&uuml;r kleine Betr&auml;ge von Standardeinheiten aus einem Cache. </p>
+     *
+     * @param   amount  non-negative amount
+     * @param   unit    time unit
+     * @return  item (maybe cached)
+     */
+    @SuppressWarnings("unchecked")
+    static <U> Item<U> itemOf(
+        long amount,
+        U unit
+    ) {
+
+        if ((amount > 0) && (amount <= MAX_CACHED_AMOUNT)) {
+            if (unit instanceof CalendarUnit) {
+                return (Item<U>) ITEM_CACHE[((CalendarUnit) unit).ordinal()][(int) amount];
+            } else if (unit instanceof ClockUnit) {
+                return (Item<U>) ITEM_CACHE[CLOCK_OFFSET + ((ClockUnit) unit).ordinal()][(int) amount];
+            }
+        }
+
+        return Item.of(amount, unit);
+
+    }
+
     private int count() {
 
         return this.getTotalLength().size();
@@ -2744,15 +2827,15 @@ public final class Duration<U extends IsoUnit>
         List<Item<CalendarUnit>> items = new ArrayList<Item<CalendarUnit>>(3);
 
         if (years != 0) {
-            items.add(Item.of(years, YEARS));
+            items.add(itemOf(years, YEARS));
         }
 
         if (months != 0) {
-            items.add(Item.of(months, MONTHS));
+            items.add(itemOf(months, MONTHS));
         }
 
         if (days != 0) {
-            items.add(Item.of(days, DAYS));
+            items.add(itemOf(days, DAYS));
         }
 
         return new Duration<CalendarUnit>(items, negative);
@@ -2770,19 +2853,19 @@ public final class Duration<U extends IsoUnit>
         List<Item<ClockUnit>> items = new ArrayList<Item<ClockUnit>>(4);
 
         if (hours != 0) {
-            items.add(Item.of(hours, HOURS));
+            items.add(itemOf(hours, HOURS));
         }
 
         if (minutes != 0) {
-            items.add(Item.of(minutes, MINUTES));
+            items.add(itemOf(minutes, MINUTES));
         }
 
         if (seconds != 0) {
-            items.add(Item.of(seconds, SECONDS));
+            items.add(itemOf(seconds, SECONDS));
         }
 
         if (nanos != 0) {
-            items.add(Item.of(nanos, NANOS));
+            items.add(itemOf(nanos, NANOS));
         }
 
         return new Duration<ClockUnit>(items, negative);
@@ -2820,14 +2903,14 @@ public final class Duration<U extends IsoUnit>
                 } else if (key == NANOS) {
                     nanos = MathUtils.safeAdd(nanos, amount);
                 } else {
-                    temp.add(Item.of(amount, key));
+                    temp.add(itemOf(amount, key));
                 }
             }
         }
 
         if (nanos != 0) {
             U key = cast(NANOS);
-            temp.add(Item.of(nanos, key));
+            temp.add(itemOf(nanos, key));
         } else if (temp.isEmpty()) {
             return ofZero();
         }
@@ -2886,7 +2969,7 @@ public final class Duration<U extends IsoUnit>
             return null;
         }
 
-        return Item.of(amount, unit);
+        return itemOf(amount, unit);
 
     }
 
@@ -3235,7 +3318,10 @@ public final class Duration<U extends IsoUnit>
             throw new ParseException(period, from);
         }
 
-        StringBuilder num = null;
+        // einmaliger Durchlauf, Ziffern werden direkt akkumuliert (ohne Zwischen-Strings)
+        long num = 0;
+        int digits = 0;
+        boolean overflow = false;
         boolean endOfItem = false;
         ChronoUnit last = null;
         int index = from;
@@ -3245,23 +3331,35 @@ public final class Duration<U extends IsoUnit>
             char c = period.charAt(i);
 
             if ((c >= '0') && (c <= '9')) {
-                if (num == null) {
-                    num = new StringBuilder();
+                if (digits == 0) {
+                    num = 0;
+                    overflow = false;
                     endOfItem = false;
                     index = i;
                 }
-                num.append(c);
+                int d = c - '0';
+                if (decimal) {
+                    if (digits < 9) {
+                        num = num * 10 + d;
+                    }
+                } else if (num > (Long.MAX_VALUE - d) / 10) {
+                    overflow = true; // reported at end of item
+                } else {
+                    num = num * 10 + d;
+                }
+                digits++;
             } else if ((c == ',') || (c == '.')) {
-                if ((num == null) || (typeID != CLOCK_TYPE)) {
+                if ((digits == 0) || (typeID != CLOCK_TYPE)) {
                     throw new ParseException(
                         "Decimal separator misplaced: " + period, i);
+                } else if (overflow) {
+                    throw new ParseException(period, index);
                 } else {
                     endOfItem = true;
-                    long amount = parseAmount(period, num.toString(), index);
                     ChronoUnit unit = SECONDS;
                     last =
-                        addParsedItem(unit, last, amount, period, i, items);
-                    num = null;
+                        addParsedItem(unit, last, num, period, i, items);
+                    digits = 0;
                     decimal = true;
                 }
             } else if (endOfItem) {
@@ -3271,28 +3369,25 @@ public final class Duration<U extends IsoUnit>
                 if (c != 'S') {
                     throw new ParseException(
                         "Second symbol expected: " + period, i);
-                } else if (num == null) {
+                } else if (digits == 0) {
                     throw new ParseException(
                         "Decimal separator misplaced: " + period, i - 1);
-                } else if (num.length() > 9) {
-                    num.delete(9, num.length());
                 }
-                for (int j = num.length(); j < 9; j++) {
-                    num.append('0');
+                for (int j = digits; j < 9; j++) {
+                    num *= 10;
                 }
                 endOfItem = true;
-                long amount = parseAmount(period, num.toString(), index);
+                long amount = num;
                 ChronoUnit unit = NANOS;
-                num = null;
+                digits = 0;
                 last = addParsedItem(unit, last, amount, period, i, items);
             } else {
                 endOfItem = true;
-                long amount =
-                    parseAmount(
-                        period,
-                        (num == null) ? String.valueOf(c) : num.toString(),
-                        index);
-                num = null;
+                if ((digits == 0) || overflow) {
+                    throw new ParseException(period, index); // missing or too big number
+                }
+                long amount = num;
+                digits = 0;
                 ChronoUnit unit;
                 if (typeID == CLOCK_TYPE) {
                     unit = parseTimeSymbol(c, period, i);
@@ -3356,15 +3451,15 @@ public final class Duration<U extends IsoUnit>
             }
             if (years > 0) {
                 U unit = cast(YEARS);
-                items.add(Item.of(years, unit));
+                items.add(itemOf(years, unit));
             }
             if (months > 0) {
                 U unit = cast(MONTHS);
-                items.add(Item.of(months, unit));
+                items.add(itemOf(months, unit));
             }
             if (days > 0) {
                 U unit = cast(DAYS);
-                items.add(Item.of(days, unit));
+                items.add(itemOf(days, unit));
             }
         } else {
             if (from + 2 < to) {
@@ -3379,7 +3474,7 @@ public final class Duration<U extends IsoUnit>
                         from);
                 }
                 U unit = cast(HOURS);
-                items.add(Item.of(hours, unit));
+                items.add(itemOf(hours, unit));
             }
             long minutes = dur.getPartialAmount(MINUTES);
             if (minutes > 0) {
@@ -3389,7 +3484,7 @@ public final class Duration<U extends IsoUnit>
                         from + 2 + (extended ? 1 : 0));
                 }
                 U unit = cast(MINUTES);
-                items.add(Item.of(minutes, unit));
+                items.add(itemOf(minutes, unit));
             }
             long seconds = dur.getPartialAmount(SECONDS);
             if (seconds > 0) {
@@ -3399,12 +3494,12 @@ public final class Duration<U extends IsoUnit>
                         from + 4 + (extended ? 2 : 0));
                 }
                 U unit = cast(SECONDS);
-                items.add(Item.of(seconds, unit));
+                items.add(itemOf(seconds, unit));
             }
             long nanos = dur.getPartialAmount(NANOS);
             if (nanos > 0) {
                 U unit = cast(NANOS);
-                items.add(Item.of(nanos, unit));
+                items.add(itemOf(nanos, unit));
             }
         }
 
@@ -3551,7 +3646,7 @@ public final class Duration<U extends IsoUnit>
         ) {
             if (amount != 0) {
                 U reified = cast(unit);
-                items.add(Item.of(amount, reified));
+                items.add(itemOf(amount, reified));
             }
             return unit;
         } else if (Double.compare(unit.getLength(), last.getLength()) == 0) {
@@ -3564,22 +3659,6 @@ public final class Duration<U extends IsoUnit>
 
     }
 
-    private static long parseAmount(
-        String period,
-        String number,
-        int index
-    ) throws ParseException {
-
-        try {
-            return Long.parseLong(number);
-        } catch (NumberFormatException nfe) {
-            ParseException pe = new ParseException(period, index);
-            pe.initCause(nfe);
-            throw pe;
-        }
-
-    }
-
     /**
      * @serialData  Uses <a href="../../serialized-form.html#net.time4j.SPX">
      *              a dedicated serialization form</a> as proxy. The layout
@@ -3962,7 +4041,7 @@ public final class Duration<U extends IsoUnit>
             }
 
             if (amount != 0) {
-                Item<IsoUnit> item = Item.of(amount, unit);
+                Item<IsoUnit> item = itemOf(amount, unit);
                 this.items.add(item);
             }
 
@@ -3983,7 +4062,7 @@ public final class Duration<U extends IsoUnit>
                     if (item.getUnit().equals(NANOS)) {
                         this.items.set(
                             i,
-                            Item.of(
+                            itemOf(
                                 MathUtils.safeAdd(
                                     MathUtils.safeMultiply(amount, factor),
                                     item.getAmount()
@@ -3997,7 +4076,7 @@ public final class Duration<U extends IsoUnit>
 
                 if (amount != 0) {
                     this.items.add(
-                        Item.of(
+                        itemOf(
                             MathUtils.safeMultiply(amount, factor),
                             unit
                         )
@@ -4196,6 +4275,11 @@ public final class Duration<U extends IsoUnit>
             "'P'[-#################Y'Y'][-#################M'M'][-#################W'W'][-#################D'D']"
             + "['T'[-#################h'H'][-#################m'M'][-#################s'S'[.fffffffff]]]";
 
+        // Formatierer sind unveränderlich und können daher pro Einheitentyp und Muster geteilt werden
+        private static final int MAX_CACHED_PATTERNS = 500;
+        private static final ConcurrentMap<Class<?>, ConcurrentMap<String, Formatter<?>>> CACHE =
+            new ConcurrentHashMap<Class<?>, ConcurrentMap<String, Formatter<?>>>();
+
         //~ Konstruktoren -------------------------------------------------
 
         private Formatter(
@@ -4506,7 +4590,37 @@ public final class Duration<U extends IsoUnit>
             String pattern
         ) {
 
-            return new Formatter<U>(type, pattern);
+            if (
+                (type == null)
+                || (pattern == null)
+                || (type.getClassLoader() != Formatter.class.getClassLoader()) // no class loader leaks
+            ) {
+                return new Formatter<U>(type, pattern);
+            }
+
+            ConcurrentMap<String, Formatter<?>> byPattern = CACHE.get(type);
+
+            if (byPattern == null) {
+                byPattern = new ConcurrentHashMap<String, Formatter<?>>();
+                ConcurrentMap<String, Formatter<?>> old = CACHE.putIfAbsent(type, byPattern);
+                if (old != null) {
+                    byPattern = old;
+                }
+            }
+
+            Formatter<?> formatter = byPattern.get(pattern);
+
+            if (formatter == null) {
+                formatter = new Formatter<U>(type, pattern);
+                if (byPattern.size() < MAX_CACHED_PATTERNS) {
+                    Formatter<?> old = byPattern.putIfAbsent(pattern, formatter);
+                    if (old != null) {
+                        formatter = old;
+                    }
+                }
+            }
+
+            return cast(formatter);
 
         }
 
@@ -4616,9 +4730,9 @@ public final class Duration<U extends IsoUnit>
             IsoUnit unit = item.getUnit();
 
             if (unit.equals(ClockUnit.MILLIS)) {
-                return Item.of(MathUtils.safeMultiply(item.getAmount(), 1000000L), (U) ClockUnit.NANOS);
+                return itemOf(MathUtils.safeMultiply(item.getAmount(), 1000000L), (U) ClockUnit.NANOS);
             } else if (unit.equals(ClockUnit.MICROS)) {
-                return Item.of(MathUtils.safeMultiply(item.getAmount(), 1000L), (U) ClockUnit.NANOS);
+                return itemOf(MathUtils.safeMultiply(item.getAmount(), 1000L), (U) ClockUnit.NANOS);
             }
 
             return item;
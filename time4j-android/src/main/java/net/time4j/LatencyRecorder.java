@@ -0,0 +1,553 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j;
+
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>Concurrent recorder of latencies in a log-linear histogram. </p>
+ *
+ * <p>Measurements are based on the monotonic tick source of {@link SystemClock#MONOTONIC}. Every
+ * recorded latency is counted in a bucket whose relative width is determined by the precision
+ * in binary digits (default {@code 7}, that is a relative error of less than 1 percent). The
+ * buckets are distributed over several stripes in order to reduce the contention between
+ * threads. Recording is lock-free and does not allocate any objects: </p>
+ *
+ * <pre>
+ *  static final LatencyRecorder RECORDER = new LatencyRecorder();
+ *
+ *  long start = RECORDER.start();
+ *  doSomething();
+ *  RECORDER.stop(start);
+ *
+ *  LatencyRecorder.Snapshot snapshot = RECORDER.snapshot();
+ *  System.out.println(&quot;p99=&quot; + snapshot.getPercentile(99.0));
+ * </pre>
+ *
+ * <p>Snapshots are only weakly consistent if measurements happen concurrently. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Nebenl&auml;ufiger Aufzeichner von Latenzen in einem logarithmisch-linearen Histogramm. </p>
+ *
+ * <p>Messungen basieren auf dem monotonen Taktgeber von {@link SystemClock#MONOTONIC}. Jede
+ * aufgezeichnete Latenz wird in einem Bereich gez&auml;hlt, dessen relative Breite durch die
+ * Genauigkeit in Bin&auml;rziffern bestimmt wird (Standard {@code 7}, also ein relativer Fehler
+ * von weniger als einem Prozent). Die Bereiche sind auf mehrere Streifen verteilt, um die
+ * Konkurrenz zwischen Threads zu verringern. Das Aufzeichnen ist sperrfrei und erzeugt keine
+ * Objekte: </p>
+ *
+ * <pre>
+ *  static final LatencyRecorder RECORDER = new LatencyRecorder();
+ *
+ *  long start = RECORDER.start();
+ *  doSomething();
+ *  RECORDER.stop(start);
+ *
+ *  LatencyRecorder.Snapshot snapshot = RECORDER.snapshot();
+ *  System.out.println(&quot;p99=&quot; + snapshot.getPercentile(99.0));
+ * </pre>
+ *
+ * <p>Momentaufnahmen sind nur schwach konsistent, wenn gleichzeitig gemessen wird. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class LatencyRecorder {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final int DEFAULT_PRECISION = 7;
+    private static final int MAX_PRECISION = 10;
+    private static final int MAX_STRIPES = 16;
+
+    // Abstand der Statistikfelder eines Streifens (64 Bytes gegen false sharing)
+    private static final int STRIDE = 8;
+    private static final int SUM = 0;
+    private static final int MIN = 1;
+    private static final int MAX = 2;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int precision;
+    private final int bucketCount;
+    private final int stripeMask;
+    private final AtomicLongArray buckets;
+    private final AtomicLongArray stats;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new recorder with a precision of seven binary digits. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Aufzeichner mit einer Genauigkeit von sieben Bin&auml;rziffern. </p>
+     */
+    public LatencyRecorder() {
+        this(DEFAULT_PRECISION);
+
+    }
+
+    /**
+     * <p>Creates a new recorder with given precision. </p>
+     *
+     * <p>Latencies smaller than {@code 2 ^ precision} nanoseconds are recorded exactly, greater
+     * latencies with a relative error smaller than {@code 2 ^ (1 - precision)}. </p>
+     *
+     * @param   precision   count of significant binary digits in range {@code 1-10}
+     * @throws  IllegalArgumentException if the precision is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Aufzeichner mit der angegebenen Genauigkeit. </p>
+     *
+     * <p>Latenzen kleiner als {@code 2 ^ precision} Nanosekunden werden exakt aufgezeichnet,
+     * gr&ouml;&szlig;ere Latenzen mit einem relativen Fehler kleiner als
+     * {@code 2 ^ (1 - precision)}. </p>
+     *
+     * @param   precision   count of significant binary digits in range {@code 1-10}
+     * @throws  IllegalArgumentException if the precision is out of range
+     */
+    public LatencyRecorder(int precision) {
+        super();
+
+        if ((precision < 1) || (precision > MAX_PRECISION)) {
+            throw new IllegalArgumentException("Precision out of range: " + precision);
+        }
+
+        int stripes = 1;
+
+        while ((stripes < Runtime.getRuntime().availableProcessors()) && (stripes < MAX_STRIPES)) {
+            stripes <<= 1;
+        }
+
+        this.precision = precision;
+        this.bucketCount = (65 - precision) << (precision - 1);
+        this.stripeMask = stripes - 1;
+        this.buckets = new AtomicLongArray(stripes * this.bucketCount);
+        this.stats = new AtomicLongArray(stripes * STRIDE);
+        this.reset();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Starts a measurement. </p>
+     *
+     * @return  start tick in nanoseconds (only suitable as argument for {@link #stop(long)})
+     */
+    /*[deutsch]
+     * <p>Startet eine Messung. </p>
+     *
+     * @return  start tick in nanoseconds (only suitable as argument for {@link #stop(long)})
+     */
+    public long start() {
+
+        return SystemClock.ticks();
+
+    }
+
+    /**
+     * <p>Stops a measurement and records the elapsed time. </p>
+     *
+     * @param   startTick   result of a former call of {@link #start()}
+     * @return  elapsed time in nanoseconds
+     */
+    /*[deutsch]
+     * <p>Stoppt eine Messung und zeichnet die vergangene Zeit auf. </p>
+     *
+     * @param   startTick   result of a former call of {@link #start()}
+     * @return  elapsed time in nanoseconds
+     */
+    public long stop(long startTick) {
+
+        long elapsed = Math.max(0, SystemClock.ticks() - startTick);
+        this.record(elapsed);
+        return elapsed;
+
+    }
+
+    /**
+     * <p>Records given latency. </p>
+     *
+     * <p>The sum of all recorded latencies should not exceed about 292 years. </p>
+     *
+     * @param   nanos   latency in nanoseconds
+     * @throws  IllegalArgumentException if the latency is negative
+     */
+    /*[deutsch]
+     * <p>Zeichnet die angegebene Latenz auf. </p>
+     *
+     * <p>Die Summe aller aufgezeichneten Latenzen sollte etwa 292 Jahre nicht
+     * &uuml;berschreiten. </p>
+     *
+     * @param   nanos   latency in nanoseconds
+     * @throws  IllegalArgumentException if the latency is negative
+     */
+    public void record(long nanos) {
+
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Negative latency: " + nanos);
+        }
+
+        int stripe = (int) Thread.currentThread().getId() & this.stripeMask;
+        this.buckets.incrementAndGet(stripe * this.bucketCount + this.indexOf(nanos));
+
+        int base = stripe * STRIDE;
+        this.stats.addAndGet(base + SUM, nanos);
+
+        long current;
+
+        while ((nanos < (current = this.stats.get(base + MIN))) && !this.stats.compareAndSet(base + MIN, current, nanos)) {
+            // retry
+        }
+
+        while ((nanos > (current = this.stats.get(base + MAX))) && !this.stats.compareAndSet(base + MAX, current, nanos)) {
+            // retry
+        }
+
+    }
+
+    /**
+     * <p>Records given latency. </p>
+     *
+     * @param   duration    latency as machine time (scale will be ignored)
+     * @throws  IllegalArgumentException if the latency is negative
+     * @throws  ArithmeticException if the duration does not fit into a long nanosecond value
+     */
+    /*[deutsch]
+     * <p>Zeichnet die angegebene Latenz auf. </p>
+     *
+     * @param   duration    latency as machine time (scale will be ignored)
+     * @throws  IllegalArgumentException if the latency is negative
+     * @throws  ArithmeticException if the duration does not fit into a long nanosecond value
+     */
+    public void record(MachineTime<?> duration) {
+
+        long nanos = duration.getSeconds();
+
+        if ((nanos > Long.MAX_VALUE / MRD) || (nanos < Long.MIN_VALUE / MRD)) {
+            throw new ArithmeticException("Latency out of range: " + duration);
+        }
+
+        this.record(nanos * MRD + duration.getFraction());
+
+    }
+
+    /**
+     * <p>Creates a snapshot of all recorded latencies. </p>
+     *
+     * @return  immutable snapshot
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Momentaufnahme aller aufgezeichneten Latenzen. </p>
+     *
+     * @return  immutable snapshot
+     */
+    public Snapshot snapshot() {
+
+        int stripes = this.stripeMask + 1;
+        long[] counts = new long[this.bucketCount];
+        long total = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int s = 0; s < stripes; s++) {
+            int offset = s * this.bucketCount;
+            for (int i = 0; i < this.bucketCount; i++) {
+                long n = this.buckets.get(offset + i);
+                counts[i] += n;
+                total += n;
+            }
+            int base = s * STRIDE;
+            sum += this.stats.get(base + SUM);
+            min = Math.min(min, this.stats.get(base + MIN));
+            max = Math.max(max, this.stats.get(base + MAX));
+        }
+
+        return new Snapshot(this.precision, counts, total, sum, min, max);
+
+    }
+
+    /**
+     * <p>Removes all recorded latencies. </p>
+     *
+     * <p>Measurements which happen concurrently might get lost or be partially recorded. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle aufgezeichneten Latenzen. </p>
+     *
+     * <p>Gleichzeitig stattfindende Messungen k&ouml;nnen verloren gehen oder nur teilweise
+     * aufgezeichnet werden. </p>
+     */
+    public void reset() {
+
+        for (int i = 0, n = this.buckets.length(); i < n; i++) {
+            this.buckets.set(i, 0);
+        }
+
+        for (int base = 0, n = this.stats.length(); base < n; base += STRIDE) {
+            this.stats.set(base + SUM, 0);
+            this.stats.set(base + MIN, Long.MAX_VALUE);
+            this.stats.set(base + MAX, Long.MIN_VALUE);
+        }
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "LatencyRecorder[precision=" + this.precision + ",stripes=" + (this.stripeMask + 1) + "]";
+
+    }
+
+    // Werte unterhalb von 2 ^ precision linear, darüber mit precision signifikanten Binärziffern
+    private int indexOf(long nanos) {
+
+        if (nanos < (1L << this.precision)) {
+            return (int) nanos;
+        }
+
+        int shift = 64 - Long.numberOfLeadingZeros(nanos) - this.precision;
+        return (shift << (this.precision - 1)) + (int) (nanos >>> shift);
+
+    }
+
+    // größter Wert, der im angegebenen Bereich gezählt wird
+    private static long highestValueOf(
+        int index,
+        int precision
+    ) {
+
+        if (index < (1 << precision)) {
+            return index;
+        }
+
+        int half = 1 << (precision - 1);
+        int shift = index / half - 1;
+        long mantissa = (index % half) + half;
+        return (mantissa << shift) + ((1L << shift) - 1);
+
+    }
+
+    private static MachineTime<TimeUnit> toMachineTime(long nanos) {
+
+        return MachineTime.ofPosixUnits(nanos / MRD, (int) (nanos % MRD));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Immutable snapshot of a {@code LatencyRecorder}. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Unver&auml;nderliche Momentaufnahme eines {@code LatencyRecorder}. </p>
+     *
+     * @author  Meno Hochschild
+     * @since   5.9
+     */
+    public static final class Snapshot {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int precision;
+        private final long[] counts;
+        private final long total;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Snapshot(
+            int precision,
+            long[] counts,
+            long total,
+            long sum,
+            long min,
+            long max
+        ) {
+            super();
+
+            this.precision = precision;
+            this.counts = counts;
+            this.total = total;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of recorded latencies. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der aufgezeichneten Latenzen. </p>
+         *
+         * @return  long
+         */
+        public long getCount() {
+
+            return this.total;
+
+        }
+
+        /**
+         * <p>Yields the shortest recorded latency. </p>
+         *
+         * @return  exact minimum on the POSIX scale
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        /*[deutsch]
+         * <p>Liefert die k&uuml;rzeste aufgezeichnete Latenz. </p>
+         *
+         * @return  exact minimum on the POSIX scale
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        public MachineTime<TimeUnit> getMin() {
+
+            this.checkNotEmpty();
+            return toMachineTime(this.min);
+
+        }
+
+        /**
+         * <p>Yields the longest recorded latency. </p>
+         *
+         * @return  exact maximum on the POSIX scale
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        /*[deutsch]
+         * <p>Liefert die l&auml;ngste aufgezeichnete Latenz. </p>
+         *
+         * @return  exact maximum on the POSIX scale
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        public MachineTime<TimeUnit> getMax() {
+
+            this.checkNotEmpty();
+            return toMachineTime(this.max);
+
+        }
+
+        /**
+         * <p>Yields the arithmetic mean of all recorded latencies. </p>
+         *
+         * @return  mean on the POSIX scale, rounded to nanoseconds (half-even)
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        /*[deutsch]
+         * <p>Liefert das arithmetische Mittel aller aufgezeichneten Latenzen. </p>
+         *
+         * @return  mean on the POSIX scale, rounded to nanoseconds (half-even)
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        public MachineTime<TimeUnit> getMean() {
+
+            this.checkNotEmpty();
+            return toMachineTime(this.sum).dividedBy(this.total, RoundingMode.HALF_EVEN);
+
+        }
+
+        /**
+         * <p>Yields the percentile of recorded latencies using the nearest-rank-method. </p>
+         *
+         * <p>The result is the highest value of the histogram bucket with the searched rank,
+         * but not outside of the range between minimum and maximum. </p>
+         *
+         * @param   percent percentage in range {@code 0 < percent <= 100}
+         * @return  latency on the POSIX scale which is not exceeded by given percentage of values
+         * @throws  IllegalArgumentException if the percentage is out of range
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        /*[deutsch]
+         * <p>Liefert das Perzentil der aufgezeichneten Latenzen mit Hilfe der Methode des
+         * n&auml;chsten Rangs. </p>
+         *
+         * <p>Das Ergebnis ist der gr&ouml;&szlig;te Wert des Histogrammbereichs mit dem gesuchten
+         * Rang, aber nicht au&szlig;erhalb der Spanne zwischen Minimum und Maximum. </p>
+         *
+         * @param   percent percentage in range {@code 0 < percent <= 100}
+         * @return  latency on the POSIX scale which is not exceeded by given percentage of values
+         * @throws  IllegalArgumentException if the percentage is out of range
+         * @throws  IllegalStateException if nothing has been recorded
+         */
+        public MachineTime<TimeUnit> getPercentile(double percent) {
+
+            if (!(percent > 0.0) || (percent > 100.0)) {
+                throw new IllegalArgumentException("Percentage out of range: " + percent);
+            }
+
+            this.checkNotEmpty();
+            long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * this.total));
+            long cumulated = 0;
+            int index = 0;
+
+            while (index < this.counts.length - 1) {
+                cumulated += this.counts[index];
+                if (cumulated >= rank) {
+                    break;
+                }
+                index++;
+            }
+
+            long value = highestValueOf(index, this.precision);
+            return toMachineTime(Math.max(this.min, Math.min(this.max, value)));
+
+        }
+
+        @Override
+        public String toString() {
+
+            if (this.total == 0) {
+                return "Snapshot[count=0]";
+            }
+
+            return "Snapshot[count=" + this.total + ",min=" + this.getMin() + ",max=" + this.getMax()
+                + ",p50=" + this.getPercentile(50.0) + ",p99=" + this.getPercentile(99.0) + "]";
+
+        }
+
+        private void checkNotEmpty() {
+
+            if (this.total == 0) {
+                throw new IllegalStateException("No latencies recorded.");
+            }
+
+        }
+
+    }
+
+}
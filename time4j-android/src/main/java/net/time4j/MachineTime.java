@@ -35,6 +35,7 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -905,6 +906,212 @@ public final class MachineTime<U>
 
     }
 
+    /**
+     * <p>Sums up given nanosecond values without creating intermediate objects. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  total duration on the POSIX scale
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Summiert die angegebenen Nanosekundenwerte ohne Zwischenobjekte zu erzeugen. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  total duration on the POSIX scale
+     * @throws  ArithmeticException in case of numerical overflow
+     * @since   5.9
+     */
+    public static MachineTime<TimeUnit> sumOf(long[] nanos) {
+
+        Accumulator acc = new Accumulator();
+
+        for (int i = 0; i < nanos.length; i++) {
+            acc.add(nanos[i]);
+        }
+
+        return acc.getSum();
+
+    }
+
+    /**
+     * <p>Determines the arithmetic mean of given nanosecond values. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  mean duration on the POSIX scale, rounded to nanoseconds (half-even)
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Bestimmt das arithmetische Mittel der angegebenen Nanosekundenwerte. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  mean duration on the POSIX scale, rounded to nanoseconds (half-even)
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    public static MachineTime<TimeUnit> meanOf(long[] nanos) {
+
+        checkNotEmpty(nanos);
+        return sumOf(nanos).dividedBy(nanos.length, RoundingMode.HALF_EVEN);
+
+    }
+
+    /**
+     * <p>Determines the minimum of given nanosecond values. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  shortest duration on the POSIX scale
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Bestimmt das Minimum der angegebenen Nanosekundenwerte. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  shortest duration on the POSIX scale
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    public static MachineTime<TimeUnit> minOf(long[] nanos) {
+
+        checkNotEmpty(nanos);
+        long min = nanos[0];
+
+        for (int i = 1; i < nanos.length; i++) {
+            if (nanos[i] < min) {
+                min = nanos[i];
+            }
+        }
+
+        return ofNanos(min);
+
+    }
+
+    /**
+     * <p>Determines the maximum of given nanosecond values. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  longest duration on the POSIX scale
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Bestimmt das Maximum der angegebenen Nanosekundenwerte. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @return  longest duration on the POSIX scale
+     * @throws  IllegalArgumentException if the array is empty
+     * @since   5.9
+     */
+    public static MachineTime<TimeUnit> maxOf(long[] nanos) {
+
+        checkNotEmpty(nanos);
+        long max = nanos[0];
+
+        for (int i = 1; i < nanos.length; i++) {
+            if (nanos[i] > max) {
+                max = nanos[i];
+            }
+        }
+
+        return ofNanos(max);
+
+    }
+
+    /**
+     * <p>Determines the percentile of given nanosecond values using the nearest-rank-method. </p>
+     *
+     * <p>The array itself will not be changed but sorted in a copy. Example for the median:
+     * {@code MachineTime.percentileOf(latencies, 50.0)}. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @param   percent percentage in range {@code 0 < percent <= 100}
+     * @return  duration on the POSIX scale which is not exceeded by given percentage of values
+     * @throws  IllegalArgumentException if the array is empty or the percentage is out of range
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Bestimmt das Perzentil der angegebenen Nanosekundenwerte mit Hilfe der Methode
+     * des n&auml;chsten Rangs. </p>
+     *
+     * <p>Das Array selbst wird nicht ver&auml;ndert, sondern in einer Kopie sortiert. Beispiel
+     * f&uuml;r den Median: {@code MachineTime.percentileOf(latencies, 50.0)}. </p>
+     *
+     * @param   nanos   array of nanosecond values
+     * @param   percent percentage in range {@code 0 < percent <= 100}
+     * @return  duration on the POSIX scale which is not exceeded by given percentage of values
+     * @throws  IllegalArgumentException if the array is empty or the percentage is out of range
+     * @since   5.9
+     */
+    public static MachineTime<TimeUnit> percentileOf(
+        long[] nanos,
+        double percent
+    ) {
+
+        checkNotEmpty(nanos);
+
+        if (!(percent > 0.0) || (percent > 100.0)) {
+            throw new IllegalArgumentException("Percentage out of range: " + percent);
+        }
+
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return ofNanos(sorted[Math.max(rank, 1) - 1]);
+
+    }
+
+    /**
+     * <p>Counts given nanosecond values in buckets defined by ascending upper bounds. </p>
+     *
+     * <p>The bucket {@code i} counts all values which are greater than {@code upperBounds[i - 1]}
+     * and not greater than {@code upperBounds[i]}. The last element of the result counts all
+     * values greater than the last upper bound. </p>
+     *
+     * @param   nanos           array of nanosecond values
+     * @param   upperBounds     ascending sorted inclusive upper bounds in nanoseconds
+     * @return  array of counts with the length {@code upperBounds.length + 1}
+     * @throws  IllegalArgumentException if the upper bounds are not sorted in strictly ascending order
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die angegebenen Nanosekundenwerte in Bereichen, die durch aufsteigende
+     * Obergrenzen definiert sind. </p>
+     *
+     * <p>Der Bereich {@code i} z&auml;hlt alle Werte, die gr&ouml;&szlig;er als
+     * {@code upperBounds[i - 1]} und nicht gr&ouml;&szlig;er als {@code upperBounds[i]} sind.
+     * Das letzte Element des Ergebnisses z&auml;hlt alle Werte gr&ouml;&szlig;er als die letzte
+     * Obergrenze. </p>
+     *
+     * @param   nanos           array of nanosecond values
+     * @param   upperBounds     ascending sorted inclusive upper bounds in nanoseconds
+     * @return  array of counts with the length {@code upperBounds.length + 1}
+     * @throws  IllegalArgumentException if the upper bounds are not sorted in strictly ascending order
+     * @since   5.9
+     */
+    public static long[] histogram(
+        long[] nanos,
+        long[] upperBounds
+    ) {
+
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i - 1] >= upperBounds[i]) {
+                throw new IllegalArgumentException("Upper bounds not in strictly ascending order.");
+            }
+        }
+
+        long[] counts = new long[upperBounds.length + 1];
+
+        for (int i = 0; i < nanos.length; i++) {
+            int pos = Arrays.binarySearch(upperBounds, nanos[i]);
+            counts[(pos >= 0) ? pos : ~pos]++;
+        }
+
+        return counts;
+
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends TimePoint<? super U, T>> T addTo(T time) {
@@ -1121,6 +1328,20 @@ public final class MachineTime<U>
 
     }
 
+    private static MachineTime<TimeUnit> ofNanos(long nanos) {
+
+        return MachineTime.ofPosixUnits(MathUtils.floorDivide(nanos, MRD), MathUtils.floorModulo(nanos, MRD));
+
+    }
+
+    private static void checkNotEmpty(long[] nanos) {
+
+        if (nanos.length == 0) {
+            throw new IllegalArgumentException("No values given.");
+        }
+
+    }
+
     private static long negateExact(long a) {
         if (a == Long.MIN_VALUE) {
             throw new ArithmeticException("Long overflow.");
@@ -1174,6 +1395,270 @@ public final class MachineTime<U>
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Mutable accumulator of durations for statistical purposes. </p>
+     *
+     * <p>An accumulator collects count, sum, minimum and maximum of nanosecond values without
+     * creating any objects per value. It is not thread-safe, but every thread can fill its own
+     * instance, and the partial results can finally be merged: </p>
+     *
+     * <pre>
+     *  MachineTime.Accumulator total = new MachineTime.Accumulator();
+     *  for (MachineTime.Accumulator partial : perThreadAccumulators) {
+     *      total.merge(partial);
+     *  }
+     *  System.out.println(total.getMean());
+     * </pre>
+     *
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Ver&auml;nderlicher Sammler von Dauern f&uuml;r statistische Zwecke. </p>
+     *
+     * <p>Ein Sammler erfasst Anzahl, Summe, Minimum und Maximum von Nanosekundenwerten, ohne
+     * Objekte pro Wert zu erzeugen. Er ist nicht thread-sicher, aber jeder Thread kann seine
+     * eigene Instanz f&uuml;llen, und die Teilergebnisse k&ouml;nnen schlie&szlig;lich
+     * zusammengef&uuml;hrt werden: </p>
+     *
+     * <pre>
+     *  MachineTime.Accumulator total = new MachineTime.Accumulator();
+     *  for (MachineTime.Accumulator partial : perThreadAccumulators) {
+     *      total.merge(partial);
+     *  }
+     *  System.out.println(total.getMean());
+     * </pre>
+     *
+     * @since   5.9
+     */
+    public static final class Accumulator {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long count = 0;
+        private long seconds = 0;
+        private long fraction = 0; // immer im Bereich (-MRD, MRD)
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        /**
+         * <p>Creates an empty accumulator. </p>
+         */
+        /*[deutsch]
+         * <p>Erzeugt einen leeren Sammler. </p>
+         */
+        public Accumulator() {
+            super();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Adds given nanosecond value. </p>
+         *
+         * @param   nanos   duration in nanoseconds
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt den angegebenen Nanosekundenwert hinzu. </p>
+         *
+         * @param   nanos   duration in nanoseconds
+         * @return  this instance for method chaining
+         */
+        public Accumulator add(long nanos) {
+
+            this.count++;
+            this.addSum(nanos / MRD, nanos % MRD);
+
+            if (nanos < this.min) {
+                this.min = nanos;
+            }
+
+            if (nanos > this.max) {
+                this.max = nanos;
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Adds given machine time. </p>
+         *
+         * @param   duration    machine time to be added (scale will be ignored)
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException if the duration does not fit into a long nanosecond value
+         */
+        /*[deutsch]
+         * <p>F&uuml;gt die angegebene Maschinenzeit hinzu. </p>
+         *
+         * @param   duration    machine time to be added (scale will be ignored)
+         * @return  this instance for method chaining
+         * @throws  ArithmeticException if the duration does not fit into a long nanosecond value
+         */
+        public Accumulator add(MachineTime<?> duration) {
+
+            return this.add(
+                MathUtils.safeAdd(MathUtils.safeMultiply(duration.getSeconds(), MRD), duration.getFraction()));
+
+        }
+
+        /**
+         * <p>Merges the state of given accumulator into this instance. </p>
+         *
+         * @param   other   another accumulator which stays unchanged
+         * @return  this instance for method chaining
+         */
+        /*[deutsch]
+         * <p>F&uuml;hrt den Zustand des angegebenen Sammlers mit dieser Instanz zusammen. </p>
+         *
+         * @param   other   another accumulator which stays unchanged
+         * @return  this instance for method chaining
+         */
+        public Accumulator merge(Accumulator other) {
+
+            if (other.count > 0) {
+                this.count += other.count;
+                this.addSum(other.seconds, other.fraction);
+                this.min = Math.min(this.min, other.min);
+                this.max = Math.max(this.max, other.max);
+            }
+
+            return this;
+
+        }
+
+        /**
+         * <p>Yields the count of added values. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der hinzugef&uuml;gten Werte. </p>
+         *
+         * @return  long
+         */
+        public long getCount() {
+
+            return this.count;
+
+        }
+
+        /**
+         * <p>Yields the sum of all added values. </p>
+         *
+         * @return  total duration on the POSIX scale
+         */
+        /*[deutsch]
+         * <p>Liefert die Summe aller hinzugef&uuml;gten Werte. </p>
+         *
+         * @return  total duration on the POSIX scale
+         */
+        public MachineTime<TimeUnit> getSum() {
+
+            return MachineTime.ofPosixUnits(this.seconds, (int) this.fraction);
+
+        }
+
+        /**
+         * <p>Yields the arithmetic mean of all added values. </p>
+         *
+         * @return  mean duration on the POSIX scale, rounded to nanoseconds (half-even)
+         * @throws  IllegalStateException if no values have been added
+         */
+        /*[deutsch]
+         * <p>Liefert das arithmetische Mittel aller hinzugef&uuml;gten Werte. </p>
+         *
+         * @return  mean duration on the POSIX scale, rounded to nanoseconds (half-even)
+         * @throws  IllegalStateException if no values have been added
+         */
+        public MachineTime<TimeUnit> getMean() {
+
+            this.checkNotEmpty();
+            return this.getSum().dividedBy(this.count, RoundingMode.HALF_EVEN);
+
+        }
+
+        /**
+         * <p>Yields the minimum of all added values. </p>
+         *
+         * @return  shortest duration on the POSIX scale
+         * @throws  IllegalStateException if no values have been added
+         */
+        /*[deutsch]
+         * <p>Liefert das Minimum aller hinzugef&uuml;gten Werte. </p>
+         *
+         * @return  shortest duration on the POSIX scale
+         * @throws  IllegalStateException if no values have been added
+         */
+        public MachineTime<TimeUnit> getMin() {
+
+            this.checkNotEmpty();
+            return ofNanos(this.min);
+
+        }
+
+        /**
+         * <p>Yields the maximum of all added values. </p>
+         *
+         * @return  longest duration on the POSIX scale
+         * @throws  IllegalStateException if no values have been added
+         */
+        /*[deutsch]
+         * <p>Liefert das Maximum aller hinzugef&uuml;gten Werte. </p>
+         *
+         * @return  longest duration on the POSIX scale
+         * @throws  IllegalStateException if no values have been added
+         */
+        public MachineTime<TimeUnit> getMax() {
+
+            this.checkNotEmpty();
+            return ofNanos(this.max);
+
+        }
+
+        @Override
+        public String toString() {
+
+            if (this.count == 0) {
+                return "Accumulator[count=0]";
+            }
+
+            return "Accumulator[count=" + this.count + ",sum=" + this.getSum() + ",min="
+                + this.getMin() + ",max=" + this.getMax() + "]";
+
+        }
+
+        private void addSum(
+            long secs,
+            long nanos
+        ) {
+
+            this.seconds = MathUtils.safeAdd(this.seconds, secs);
+            this.fraction += nanos;
+
+            if (this.fraction >= MRD) {
+                this.fraction -= MRD;
+                this.seconds = MathUtils.safeAdd(this.seconds, 1);
+            } else if (this.fraction <= -MRD) {
+                this.fraction += MRD;
+                this.seconds = MathUtils.safeSubtract(this.seconds, 1);
+            }
+
+        }
+
+        private void checkNotEmpty() {
+
+            if (this.count == 0) {
+                throw new IllegalStateException("No values added.");
+            }
+
+        }
+
+    }
+
     /**
      * <p>Non-localized and user-defined format for machine-time-durations based on a
      * pattern containing some standard symbols and literals. </p>
@@ -40,6 +40,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FlagElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -1859,6 +1860,74 @@ public final class Moment
 
     }
 
+    /**
+     * <p>Liefert den internen Nanosekundenanteil einschlie&szlig;lich des
+     * Schaltsekundenbits {@code 0x40000000}. </p>
+     *
+     * @return  raw fraction (natural order within the same POSIX second)
+     */
+    int getRawFraction() {
+
+        return this.fraction;
+
+    }
+
+    /**
+     * <p>Erzeugt einen Moment aus der POSIX-Zeit und einem internen
+     * Nanosekundenanteil, der das Schaltsekundenbit enthalten darf. </p>
+     *
+     * @param   posixTime       UNIX-time in seconds
+     * @param   rawFraction     raw fraction as obtained by {@link #getRawFraction()}
+     * @return  new moment
+     * @throws  IllegalArgumentException if any argument is out of range or if the
+     *          leap second bit does not match a registered leap second
+     * @see     #checkRaw(long, int)
+     */
+    static Moment ofRaw(
+        long posixTime,
+        int rawFraction
+    ) {
+
+        checkRaw(posixTime, rawFraction);
+        return new Moment(rawFraction, posixTime);
+
+    }
+
+    /**
+     * <p>Pr&uuml;ft die POSIX-Zeit und einen internen Nanosekundenanteil einschlie&szlig;lich
+     * des Schaltsekundenbits nach den gleichen Regeln wie bei der Deserialisierung. </p>
+     *
+     * @param   posixTime       UNIX-time in seconds
+     * @param   rawFraction     raw fraction as obtained by {@link #getRawFraction()}
+     * @throws  IllegalArgumentException if any argument is out of range or if the
+     *          leap second bit does not match a registered leap second
+     */
+    static void checkRaw(
+        long posixTime,
+        int rawFraction
+    ) {
+
+        checkUnixTime(posixTime);
+        checkFraction(rawFraction & (~POSITIVE_LEAP_MASK));
+
+        if ((rawFraction & POSITIVE_LEAP_MASK) != 0) {
+            if ((posixTime == 0) || (posixTime == MIN_LIMIT) || (posixTime == MAX_LIMIT)) {
+                throw new IllegalArgumentException("Not a leap second: " + posixTime);
+            }
+
+            LeapSeconds ls = LeapSeconds.getInstance();
+
+            if (
+                ls.isEnabled() // keep LS-state of foreign data if leap seconds are switched off
+                && !ls.isPositiveLS(ls.enhance(posixTime) + 1)
+            ) {
+                throw new IllegalArgumentException(
+                    "Not registered as leap second event: " + posixTime);
+            }
+        }
+
+    }
+
     private String toStringUTC(boolean extended) {
 
         // Datum berechnen
@@ -2818,7 +2887,7 @@ public final class Moment
     }
 
     private static enum IntElement
-        implements ChronoElement<Integer>, ElementRule<Moment, Integer> {
+        implements ChronoElement<Integer>, IntElementRule<Moment> {
 
         //~ Statische Felder/Initialisierungen ----------------------------
 
@@ -2899,6 +2968,13 @@ public final class Moment
 
         }
 
+        @Override
+        public int getInt(Moment context) {
+
+            return context.getNanosecond();
+
+        }
+
         @Override
         public Integer getMinimum(Moment context) {
 
@@ -2919,12 +2995,17 @@ public final class Moment
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
 
-            int val = value.intValue();
-            return ((val >= 0) && (val < MRD));
+        }
+
+        @Override
+        public boolean isValid(
+            Moment context,
+            int value
+        ) {
+
+            return ((value >= 0) && (value < MRD));
 
         }
 
@@ -2939,15 +3020,26 @@ public final class Moment
                 throw new IllegalArgumentException("Missing fraction value.");
             }
 
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public Moment withValue(
+            Moment context,
+            int value,
+            boolean lenient
+        ) {
+
             if (LeapSeconds.getInstance().isEnabled()) {
                 return Moment.of(
                     context.getElapsedTime(TimeScale.UTC),
-                    value.intValue(),
+                    value,
                     TimeScale.UTC);
             } else {
                 return Moment.of(
                     context.getPosixTime(),
-                    value.intValue(),
+                    value,
                     TimeScale.POSIX);
             }
 
@@ -0,0 +1,643 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>Chronologically sorted column of moments stored outside of the java heap. </p>
+ *
+ * <p>Every moment occupies 12 bytes: the POSIX seconds in a {@code LongBuffer} and the
+ * nanosecond fraction in an {@code IntBuffer}. A positive leap second is marked by the bit
+ * {@code 0x40000000} in the fraction (the same convention as used in the serialized form of
+ * {@code Moment}). Both buffers are direct buffers by default. Alternatively, existing buffers
+ * (for example memory-mapped files) can be wrapped so that a column can be persisted and restored
+ * without any copying. </p>
+ *
+ * <p>{@code Moment}-objects are only created on demand by {@link #get(int)} or during iteration.
+ * Range lookups work on the primitive data via binary search. Example: </p>
+ *
+ * <pre>
+ *  MomentColumn column = new MomentColumn(1000000);
+ *  for (Event event : events) {
+ *      column.append(event.getTimestamp()); // ascending order
+ *  }
+ *  int start = column.ceilingIndex(from);
+ *  int end = column.ceilingIndex(to);
+ *  for (Moment m : column.subColumn(start, end)) {
+ *      ...
+ *  }
+ * </pre>
+ *
+ * <p>Note: This class is not thread-safe. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Chronologisch sortierte Spalte von Momenten, die au&szlig;erhalb des Java-Heaps
+ * gespeichert werden. </p>
+ *
+ * <p>Jeder Moment belegt 12 Bytes: die POSIX-Sekunden in einem {@code LongBuffer} und den
+ * Nanosekundenanteil in einem {@code IntBuffer}. Eine positive Schaltsekunde wird durch das
+ * Bit {@code 0x40000000} im Nanosekundenanteil markiert (die gleiche Konvention wie in der
+ * serialisierten Form von {@code Moment}). Beide Puffer sind standardm&auml;&szlig;ig direkte
+ * Puffer. Alternativ k&ouml;nnen existierende Puffer (zum Beispiel speicherabgebildete Dateien)
+ * eingebunden werden, so da&szlig; eine Spalte ohne Kopieren persistiert und wiederhergestellt
+ * werden kann. </p>
+ *
+ * <p>{@code Moment}-Objekte werden nur bei Bedarf mittels {@link #get(int)} oder w&auml;hrend
+ * einer Iteration erzeugt. Bereichssuchen arbeiten mit bin&auml;rer Suche direkt auf den
+ * primitiven Daten. Beispiel: </p>
+ *
+ * <pre>
+ *  MomentColumn column = new MomentColumn(1000000);
+ *  for (Event event : events) {
+ *      column.append(event.getTimestamp()); // ascending order
+ *  }
+ *  int start = column.ceilingIndex(from);
+ *  int end = column.ceilingIndex(to);
+ *  for (Moment m : column.subColumn(start, end)) {
+ *      ...
+ *  }
+ * </pre>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class MomentColumn
+    implements Iterable<Moment> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / 8;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ByteBuffer secondsBytes;
+    private ByteBuffer fractionsBytes;
+    private LongBuffer seconds;
+    private IntBuffer fractions;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty column backed by direct buffers with given initial capacity. </p>
+     *
+     * <p>If the capacity is exhausted then the column will allocate new and larger
+     * direct buffers. </p>
+     *
+     * @param   capacity    initial count of moments which can be stored without reallocation
+     * @throws  IllegalArgumentException if the capacity is negative or greater than
+     *          {@code Integer.MAX_VALUE / 8}
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Spalte mit direkten Puffern und der angegebenen
+     * Anfangskapazit&auml;t. </p>
+     *
+     * <p>Wenn die Kapazit&auml;t ersch&ouml;pft ist, wird die Spalte neue und gr&ouml;&szlig;ere
+     * direkte Puffer reservieren. </p>
+     *
+     * @param   capacity    initial count of moments which can be stored without reallocation
+     * @throws  IllegalArgumentException if the capacity is negative or greater than
+     *          {@code Integer.MAX_VALUE / 8}
+     */
+    public MomentColumn(int capacity) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        } else if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+
+        this.init(allocate(capacity * 8), allocate(capacity * 4));
+        this.size = 0;
+
+    }
+
+    private MomentColumn(
+        ByteBuffer secondsBytes,
+        ByteBuffer fractionsBytes,
+        int size
+    ) {
+        super();
+
+        this.init(secondsBytes, fractionsBytes);
+        this.size = size;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Wraps given byte buffers as column without copying. </p>
+     *
+     * <p>The first buffer contains the POSIX seconds as 8-byte-values, the second buffer the
+     * fractions as 4-byte-values, both starting at their current positions and using their own
+     * byte order. Typically these buffers have been obtained by {@link #getSecondsBuffer()} and
+     * {@link #getFractionsBuffer()} and then been persisted, for example in memory-mapped files.
+     * The content must be sorted in ascending order and any leap second flag must refer to a
+     * registered leap second. Both conditions are verified by one sequential pass over the data
+     * (without copying). Appending further moments beyond the capacity of the wrapped buffers
+     * will copy the column into new direct buffers. </p>
+     *
+     * @param   seconds     buffer containing the POSIX seconds
+     * @param   fractions   buffer containing the fractions including the leap second flag
+     * @param   size        count of stored moments
+     * @return  new column
+     * @throws  IllegalArgumentException if any buffer is too small for given size or if
+     *          the content is not sorted or contains invalid entries
+     */
+    /*[deutsch]
+     * <p>Bindet die angegebenen Byte-Puffer ohne Kopieren als Spalte ein. </p>
+     *
+     * <p>Der erste Puffer enth&auml;lt die POSIX-Sekunden als 8-Byte-Werte, der zweite Puffer
+     * die Nanosekundenanteile als 4-Byte-Werte, beide ab ihrer aktuellen Position und in ihrer
+     * eigenen Byte-Reihenfolge. Typischerweise wurden diese Puffer mittels
+     * {@link #getSecondsBuffer()} und {@link #getFractionsBuffer()} erhalten und dann zum
+     * Beispiel in speicherabgebildeten Dateien persistiert. Der Inhalt mu&szlig; aufsteigend
+     * sortiert sein, und jedes Schaltsekundenbit mu&szlig; sich auf eine registrierte
+     * Schaltsekunde beziehen. Beide Bedingungen werden mit einem sequentiellen Durchlauf
+     * &uuml;ber die Daten gepr&uuml;ft (ohne Kopieren). Das Anh&auml;ngen weiterer Momente
+     * &uuml;ber die Kapazit&auml;t der eingebundenen Puffer hinaus kopiert die Spalte in neue
+     * direkte Puffer. </p>
+     *
+     * @param   seconds     buffer containing the POSIX seconds
+     * @param   fractions   buffer containing the fractions including the leap second flag
+     * @param   size        count of stored moments
+     * @return  new column
+     * @throws  IllegalArgumentException if any buffer is too small for given size or if
+     *          the content is not sorted or contains invalid entries
+     */
+    public static MomentColumn wrap(
+        ByteBuffer seconds,
+        ByteBuffer fractions,
+        int size
+    ) {
+
+        if ((size < 0) || (seconds.remaining() / 8 < size) || (fractions.remaining() / 4 < size)) {
+            throw new IllegalArgumentException("Buffers too small for size: " + size);
+        }
+
+        MomentColumn column =
+            new MomentColumn(
+                seconds.slice().order(seconds.order()),
+                fractions.slice().order(fractions.order()),
+                size);
+        column.validate();
+        return column;
+
+    }
+
+    /**
+     * <p>Yields the count of stored moments. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der gespeicherten Momente. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Appends given moment at the end of this column. </p>
+     *
+     * @param   moment  new moment which must not be before the last moment of this column
+     * @throws  IllegalArgumentException if given moment is before the last moment
+     * @throws  java.nio.ReadOnlyBufferException if this column wraps read-only buffers
+     * @throws  IllegalStateException if the maximum capacity {@code Integer.MAX_VALUE / 8} is exhausted
+     */
+    /*[deutsch]
+     * <p>H&auml;ngt den angegebenen Moment an das Ende dieser Spalte an. </p>
+     *
+     * @param   moment  new moment which must not be before the last moment of this column
+     * @throws  IllegalArgumentException if given moment is before the last moment
+     * @throws  java.nio.ReadOnlyBufferException if this column wraps read-only buffers
+     * @throws  IllegalStateException if the maximum capacity {@code Integer.MAX_VALUE / 8} is exhausted
+     */
+    public void append(Moment moment) {
+
+        long posix = moment.getPosixTime();
+        int fraction = moment.getRawFraction();
+        int n = this.size;
+
+        if ((n > 0) && (compare(this.seconds.get(n - 1), this.fractions.get(n - 1), posix, fraction) > 0)) {
+            throw new IllegalArgumentException("Moment before last entry of column: " + moment);
+        }
+
+        if ((n == this.seconds.capacity()) || (n == this.fractions.capacity())) {
+            this.grow();
+        }
+
+        this.seconds.put(n, posix);
+        this.fractions.put(n, fraction);
+        this.size++;
+
+    }
+
+    /**
+     * <p>Creates a moment view of the entry at given position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  new moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Moment-Sicht des Eintrags an der angegebenen Position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  new moment
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public Moment get(int index) {
+
+        this.checkIndex(index);
+        return Moment.ofRaw(this.seconds.get(index), this.fractions.get(index));
+
+    }
+
+    /**
+     * <p>Yields the POSIX seconds of the entry at given position without creating a moment. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  elapsed seconds since UNIX epoch on the POSIX scale
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getPosixTime()
+     */
+    /*[deutsch]
+     * <p>Liefert die POSIX-Sekunden des Eintrags an der angegebenen Position, ohne einen
+     * Moment zu erzeugen. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  elapsed seconds since UNIX epoch on the POSIX scale
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getPosixTime()
+     */
+    public long getPosixTime(int index) {
+
+        this.checkIndex(index);
+        return this.seconds.get(index);
+
+    }
+
+    /**
+     * <p>Yields the nanosecond fraction of the entry at given position without creating
+     * a moment. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  nanosecond in range {@code 0 - 999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getNanosecond()
+     */
+    /*[deutsch]
+     * <p>Liefert den Nanosekundenanteil des Eintrags an der angegebenen Position, ohne einen
+     * Moment zu erzeugen. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  nanosecond in range {@code 0 - 999,999,999}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#getNanosecond()
+     */
+    public int getNanosecond(int index) {
+
+        this.checkIndex(index);
+        return (this.fractions.get(index) & 0x3FFFFFFF);
+
+    }
+
+    /**
+     * <p>Queries if the entry at given position is a positive leap second. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    /*[deutsch]
+     * <p>Ist der Eintrag an der angegebenen Position eine positive Schaltsekunde? </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  boolean
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     * @see     Moment#isLeapSecond()
+     */
+    public boolean isLeapSecond(int index) {
+
+        this.checkIndex(index);
+        return ((this.fractions.get(index) >>> 30) != 0);
+
+    }
+
+    /**
+     * <p>Yields the position of the first entry which is not before given moment. </p>
+     *
+     * @param   moment  search key
+     * @return  position in range {@code 0 <= index <= size()}
+     */
+    /*[deutsch]
+     * <p>Liefert die Position des ersten Eintrags, der nicht vor dem angegebenen
+     * Moment liegt. </p>
+     *
+     * @param   moment  search key
+     * @return  position in range {@code 0 <= index <= size()}
+     */
+    public int ceilingIndex(Moment moment) {
+
+        long posix = moment.getPosixTime();
+        int fraction = moment.getRawFraction();
+        int low = 0;
+        int high = this.size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(this.seconds.get(mid), this.fractions.get(mid), posix, fraction) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+
+    }
+
+    /**
+     * <p>Counts the entries in the half-open range {@code [start, end)}. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  count of entries in range
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die Eintr&auml;ge im halb-offenen Intervall {@code [start, end)}. </p>
+     *
+     * @param   start   start of range (inclusive)
+     * @param   end     end of range (exclusive)
+     * @return  count of entries in range
+     */
+    public int count(
+        Moment start,
+        Moment end
+    ) {
+
+        return Math.max(0, this.ceilingIndex(end) - this.ceilingIndex(start));
+
+    }
+
+    /**
+     * <p>Yields a view of the entries in given index range. </p>
+     *
+     * <p>The view shares the underlying buffers with this column. Later changes of this
+     * column are not visible in the view. </p>
+     *
+     * @param   fromIndex   first position (inclusive)
+     * @param   toIndex     last position (exclusive)
+     * @return  read-only view
+     * @throws  IndexOutOfBoundsException if the range is invalid
+     */
+    /*[deutsch]
+     * <p>Liefert eine Sicht auf die Eintr&auml;ge im angegebenen Indexbereich. </p>
+     *
+     * <p>Die Sicht teilt die zugrundeliegenden Puffer mit dieser Spalte. Sp&auml;tere
+     * &Auml;nderungen dieser Spalte sind in der Sicht nicht sichtbar. </p>
+     *
+     * @param   fromIndex   first position (inclusive)
+     * @param   toIndex     last position (exclusive)
+     * @return  read-only view
+     * @throws  IndexOutOfBoundsException if the range is invalid
+     */
+    public MomentColumn subColumn(
+        int fromIndex,
+        int toIndex
+    ) {
+
+        if ((fromIndex < 0) || (toIndex > this.size) || (fromIndex > toIndex)) {
+            throw new IndexOutOfBoundsException("Invalid range: [" + fromIndex + ", " + toIndex + ")");
+        }
+
+        return new MomentColumn(
+            view(this.secondsBytes, fromIndex * 8, toIndex * 8),
+            view(this.fractionsBytes, fromIndex * 4, toIndex * 4),
+            toIndex - fromIndex);
+
+    }
+
+    /**
+     * <p>Yields a read-only byte view of the stored POSIX seconds for persistence without
+     * copying. </p>
+     *
+     * @return  read-only buffer containing {@code 8 * size()} bytes in the byte order of the column
+     * @see     #wrap(ByteBuffer, ByteBuffer, int)
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Byte-Sicht der gespeicherten POSIX-Sekunden
+     * f&uuml;r die Persistierung ohne Kopieren. </p>
+     *
+     * @return  read-only buffer containing {@code 8 * size()} bytes in the byte order of the column
+     * @see     #wrap(ByteBuffer, ByteBuffer, int)
+     */
+    public ByteBuffer getSecondsBuffer() {
+
+        return view(this.secondsBytes, 0, this.size * 8);
+
+    }
+
+    /**
+     * <p>Yields a read-only byte view of the stored fractions for persistence without
+     * copying. </p>
+     *
+     * @return  read-only buffer containing {@code 4 * size()} bytes in the byte order of the column
+     * @see     #wrap(ByteBuffer, ByteBuffer, int)
+     */
+    /*[deutsch]
+     * <p>Liefert eine schreibgesch&uuml;tzte Byte-Sicht der gespeicherten Nanosekundenanteile
+     * f&uuml;r die Persistierung ohne Kopieren. </p>
+     *
+     * @return  read-only buffer containing {@code 4 * size()} bytes in the byte order of the column
+     * @see     #wrap(ByteBuffer, ByteBuffer, int)
+     */
+    public ByteBuffer getFractionsBuffer() {
+
+        return view(this.fractionsBytes, 0, this.size * 4);
+
+    }
+
+    /**
+     * <p>Iterates over all entries and creates the moment views on demand. </p>
+     *
+     * @return  read-only iterator
+     */
+    /*[deutsch]
+     * <p>Iteriert &uuml;ber alle Eintr&auml;ge und erzeugt die Moment-Sichten bei Bedarf. </p>
+     *
+     * @return  read-only iterator
+     */
+    @Override
+    public Iterator<Moment> iterator() {
+
+        final int n = this.size;
+
+        return new Iterator<Moment>() {
+            private int index = 0;
+            @Override
+            public boolean hasNext() {
+                return (this.index < n);
+            }
+            @Override
+            public Moment next() {
+                if (this.index >= n) {
+                    throw new NoSuchElementException();
+                }
+                return MomentColumn.this.get(this.index++);
+            }
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("MomentColumn[size=");
+        sb.append(this.size);
+
+        if (this.size > 0) {
+            sb.append(",first=");
+            sb.append(this.get(0));
+            sb.append(",last=");
+            sb.append(this.get(this.size - 1));
+        }
+
+        return sb.append(']').toString();
+
+    }
+
+    // Schaltsekundenbit ist größer als jeder Nanosekundenwert => natürliche Ordnung
+    private static int compare(
+        long s1,
+        int f1,
+        long s2,
+        int f2
+    ) {
+
+        if (s1 < s2) {
+            return -1;
+        } else if (s1 > s2) {
+            return 1;
+        } else {
+            return ((f1 < f2) ? -1 : ((f1 > f2) ? 1 : 0));
+        }
+
+    }
+
+    private void validate() {
+
+        LongBuffer s = this.seconds;
+        IntBuffer f = this.fractions;
+
+        for (int i = 0; i < this.size; i++) {
+            long posix = s.get(i);
+            int fraction = f.get(i);
+            Moment.checkRaw(posix, fraction);
+            if ((i > 0) && (compare(s.get(i - 1), f.get(i - 1), posix, fraction) > 0)) {
+                throw new IllegalArgumentException("Content not sorted at index: " + i);
+            }
+        }
+
+    }
+
+    private void grow() {
+
+        int n = this.size;
+
+        if (n >= MAX_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity of column exhausted: " + n);
+        }
+
+        int capacity = Math.min(MAX_CAPACITY, Math.max(MIN_CAPACITY, n + (n >> 1)));
+        ByteBuffer sb = allocate(capacity * 8);
+        ByteBuffer fb = allocate(capacity * 4);
+        sb.put(view(this.secondsBytes, 0, n * 8)).clear();
+        fb.put(view(this.fractionsBytes, 0, n * 4)).clear();
+        this.init(sb, fb);
+
+    }
+
+    private void init(
+        ByteBuffer secondsBytes,
+        ByteBuffer fractionsBytes
+    ) {
+
+        this.secondsBytes = secondsBytes;
+        this.fractionsBytes = fractionsBytes;
+        this.seconds = secondsBytes.asLongBuffer();
+        this.fractions = fractionsBytes.asIntBuffer();
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+
+    }
+
+    private static ByteBuffer view(
+        ByteBuffer buffer,
+        int start,
+        int end
+    ) {
+
+        ByteBuffer bb = buffer.asReadOnlyBuffer();
+        bb.position(start);
+        bb.limit(end);
+        return bb.slice().order(buffer.order());
+
+    }
+
+}
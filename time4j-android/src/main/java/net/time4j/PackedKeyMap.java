@@ -0,0 +1,562 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Sorted map of primitive long keys to primitive long values, designed for keys
+ * created by {@link PrimitiveCodec}. </p>
+ *
+ * <p>Keys and values are stored in two parallel sorted arrays so no object per entry is
+ * created. Lookups use binary search. Keys which are appended in ascending order (the typical
+ * case for time series) are stored in amortized constant time, other insertions need to shift
+ * the following entries. Example for counting events per minute: </p>
+ *
+ * <pre>
+ *  PackedKeyMap buckets = new PackedKeyMap();
+ *  for (PlainTimestamp tsp : events) {
+ *      buckets.add(PrimitiveCodec.packTimestamp(tsp.with(PlainTime.PRECISION, ClockUnit.MINUTES)), 1);
+ *  }
+ *  long total =
+ *      buckets.sum(
+ *          PrimitiveCodec.packTimestamp(PlainTimestamp.of(2017, 1, 1, 0, 0)),
+ *          PrimitiveCodec.packTimestamp(PlainTimestamp.of(2017, 2, 1, 0, 0)));
+ * </pre>
+ *
+ * <p>Note: This class is not thread-safe. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Sortierte Abbildung von primitiven long-Schl&uuml;sseln auf primitive long-Werte,
+ * gedacht f&uuml;r Schl&uuml;ssel, die mit {@link PrimitiveCodec} erzeugt werden. </p>
+ *
+ * <p>Schl&uuml;ssel und Werte werden in zwei parallelen sortierten Arrays gespeichert, so
+ * da&szlig; kein Objekt pro Eintrag erzeugt wird. Suchvorg&auml;nge verwenden eine bin&auml;re
+ * Suche. Schl&uuml;ssel, die in aufsteigender Reihenfolge angeh&auml;ngt werden (der typische
+ * Fall f&uuml;r Zeitreihen), werden in amortisiert konstanter Zeit gespeichert, andere
+ * Einf&uuml;gungen m&uuml;ssen die folgenden Eintr&auml;ge verschieben. Beispiel f&uuml;r das
+ * Z&auml;hlen von Ereignissen pro Minute: </p>
+ *
+ * <pre>
+ *  PackedKeyMap buckets = new PackedKeyMap();
+ *  for (PlainTimestamp tsp : events) {
+ *      buckets.add(PrimitiveCodec.packTimestamp(tsp.with(PlainTime.PRECISION, ClockUnit.MINUTES)), 1);
+ *  }
+ *  long total =
+ *      buckets.sum(
+ *          PrimitiveCodec.packTimestamp(PlainTimestamp.of(2017, 1, 1, 0, 0)),
+ *          PrimitiveCodec.packTimestamp(PlainTimestamp.of(2017, 2, 1, 0, 0)));
+ * </pre>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht thread-sicher. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class PackedKeyMap {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates an empty map with default capacity. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Abbildung mit Standardkapazit&auml;t. </p>
+     */
+    public PackedKeyMap() {
+        this(DEFAULT_CAPACITY);
+
+    }
+
+    /**
+     * <p>Creates an empty map with given initial capacity. </p>
+     *
+     * @param   capacity    initial count of entries which can be stored without reallocation
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine leere Abbildung mit der angegebenen Anfangskapazit&auml;t. </p>
+     *
+     * @param   capacity    initial count of entries which can be stored without reallocation
+     * @throws  IllegalArgumentException if the capacity is negative
+     */
+    public PackedKeyMap(int capacity) {
+        super();
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + capacity);
+        }
+
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.size = 0;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the count of entries. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Queries if given key is contained. </p>
+     *
+     * @param   key     packed key
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ist der angegebene Schl&uuml;ssel enthalten? </p>
+     *
+     * @param   key     packed key
+     * @return  boolean
+     */
+    public boolean containsKey(long key) {
+
+        return (this.indexOf(key) >= 0);
+
+    }
+
+    /**
+     * <p>Obtains the value associated with given key. </p>
+     *
+     * @param   key             packed key
+     * @param   defaultValue    value to be returned if the key is not contained
+     * @return  associated value or the default value
+     */
+    /*[deutsch]
+     * <p>Liefert den mit dem angegebenen Schl&uuml;ssel verkn&uuml;pften Wert. </p>
+     *
+     * @param   key             packed key
+     * @param   defaultValue    value to be returned if the key is not contained
+     * @return  associated value or the default value
+     */
+    public long get(
+        long key,
+        long defaultValue
+    ) {
+
+        int index = this.indexOf(key);
+        return ((index >= 0) ? this.values[index] : defaultValue);
+
+    }
+
+    /**
+     * <p>Associates given value with given key and replaces any former value. </p>
+     *
+     * @param   key     packed key
+     * @param   value   new value
+     */
+    /*[deutsch]
+     * <p>Verkn&uuml;pft den angegebenen Wert mit dem angegebenen Schl&uuml;ssel und ersetzt
+     * einen eventuell vorhandenen Wert. </p>
+     *
+     * @param   key     packed key
+     * @param   value   new value
+     */
+    public void put(
+        long key,
+        long value
+    ) {
+
+        int index = this.locate(key);
+
+        if (index >= 0) {
+            this.values[index] = value;
+        } else {
+            this.insert(~index, key, value);
+        }
+
+    }
+
+    /**
+     * <p>Adds given amount to the value associated with given key. </p>
+     *
+     * <p>Missing keys are treated as if associated with zero. </p>
+     *
+     * @param   key     packed key
+     * @param   amount  amount to be added
+     * @return  new value
+     */
+    /*[deutsch]
+     * <p>Addiert den angegebenen Betrag zu dem mit dem angegebenen Schl&uuml;ssel verkn&uuml;pften
+     * Wert. </p>
+     *
+     * <p>Fehlende Schl&uuml;ssel werden so behandelt, als ob sie mit null verkn&uuml;pft w&auml;ren. </p>
+     *
+     * @param   key     packed key
+     * @param   amount  amount to be added
+     * @return  new value
+     */
+    public long add(
+        long key,
+        long amount
+    ) {
+
+        int index = this.locate(key);
+
+        if (index >= 0) {
+            return (this.values[index] += amount);
+        }
+
+        this.insert(~index, key, amount);
+        return amount;
+
+    }
+
+    /**
+     * <p>Yields the position of given key. </p>
+     *
+     * @param   key     packed key
+     * @return  index of key if found else {@code -(insertion point) - 1}
+     */
+    /*[deutsch]
+     * <p>Liefert die Position des angegebenen Schl&uuml;ssels. </p>
+     *
+     * @param   key     packed key
+     * @return  index of key if found else {@code -(insertion point) - 1}
+     */
+    public int indexOf(long key) {
+
+        return Arrays.binarySearch(this.keys, 0, this.size, key);
+
+    }
+
+    /**
+     * <p>Yields the key at given position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  packed key
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Schl&uuml;ssel an der angegebenen Position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  packed key
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long keyAt(int index) {
+
+        this.checkIndex(index);
+        return this.keys[index];
+
+    }
+
+    /**
+     * <p>Yields the value at given position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  associated value
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Wert an der angegebenen Position. </p>
+     *
+     * @param   index   position in range {@code 0 <= index < size()}
+     * @return  associated value
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long valueAt(int index) {
+
+        this.checkIndex(index);
+        return this.values[index];
+
+    }
+
+    /**
+     * <p>Yields the position of the first key which is not smaller than given key. </p>
+     *
+     * @param   key     packed key
+     * @return  position in range {@code 0 <= index <= size()}
+     */
+    /*[deutsch]
+     * <p>Liefert die Position des ersten Schl&uuml;ssels, der nicht kleiner als der angegebene
+     * Schl&uuml;ssel ist. </p>
+     *
+     * @param   key     packed key
+     * @return  position in range {@code 0 <= index <= size()}
+     */
+    public int ceilingIndex(long key) {
+
+        int index = this.indexOf(key);
+        return ((index >= 0) ? index : ~index);
+
+    }
+
+    /**
+     * <p>Counts the entries whose keys are in the half-open range {@code [from, to)}. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  count of entries in range
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt die Eintr&auml;ge, deren Schl&uuml;ssel im halb-offenen Intervall
+     * {@code [from, to)} liegen. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  count of entries in range
+     */
+    public int count(
+        long from,
+        long to
+    ) {
+
+        if (from >= to) {
+            return 0;
+        }
+
+        return this.ceilingIndex(to) - this.ceilingIndex(from);
+
+    }
+
+    /**
+     * <p>Sums up the values whose keys are in the half-open range {@code [from, to)}. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  sum of values in range
+     */
+    /*[deutsch]
+     * <p>Summiert die Werte, deren Schl&uuml;ssel im halb-offenen Intervall
+     * {@code [from, to)} liegen. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  sum of values in range
+     */
+    public long sum(
+        long from,
+        long to
+    ) {
+
+        if (from >= to) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (int i = this.ceilingIndex(from), n = this.ceilingIndex(to); i < n; i++) {
+            total += this.values[i];
+        }
+
+        return total;
+
+    }
+
+    /**
+     * <p>Copies the keys in the half-open range {@code [from, to)} in ascending order. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  new array of sorted keys
+     */
+    /*[deutsch]
+     * <p>Kopiert die Schl&uuml;ssel im halb-offenen Intervall {@code [from, to)} in
+     * aufsteigender Reihenfolge. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  new array of sorted keys
+     */
+    public long[] keys(
+        long from,
+        long to
+    ) {
+
+        if (from >= to) {
+            return new long[0];
+        }
+
+        return Arrays.copyOfRange(this.keys, this.ceilingIndex(from), this.ceilingIndex(to));
+
+    }
+
+    /**
+     * <p>Copies the values whose keys are in the half-open range {@code [from, to)}. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  new array of values in ascending order of keys
+     */
+    /*[deutsch]
+     * <p>Kopiert die Werte, deren Schl&uuml;ssel im halb-offenen Intervall {@code [from, to)}
+     * liegen. </p>
+     *
+     * @param   from    packed start key (inclusive)
+     * @param   to      packed end key (exclusive)
+     * @return  new array of values in ascending order of keys
+     */
+    public long[] values(
+        long from,
+        long to
+    ) {
+
+        if (from >= to) {
+            return new long[0];
+        }
+
+        return Arrays.copyOfRange(this.values, this.ceilingIndex(from), this.ceilingIndex(to));
+
+    }
+
+    /**
+     * <p>Removes all entries but keeps the allocated capacity. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Eintr&auml;ge, beh&auml;lt aber die reservierte Kapazit&auml;t. </p>
+     */
+    public void clear() {
+
+        this.size = 0;
+
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof PackedKeyMap) {
+            PackedKeyMap that = (PackedKeyMap) obj;
+            if (this.size != that.size) {
+                return false;
+            }
+            for (int i = 0; i < this.size; i++) {
+                if ((this.keys[i] != that.keys[i]) || (this.values[i] != that.values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+
+    }
+
+    @Override
+    public int hashCode() {
+
+        int h = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            long k = this.keys[i];
+            long v = this.values[i];
+            h = 31 * h + ((int) (k ^ (k >>> 32)) ^ (int) (v ^ (v >>> 32)));
+        }
+
+        return h;
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(this.size * 24 + 2);
+        sb.append('{');
+
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(this.keys[i]);
+            sb.append('=');
+            sb.append(this.values[i]);
+        }
+
+        return sb.append('}').toString();
+
+    }
+
+    // append-Optimierung: aufsteigende Schlüssel ohne binäre Suche
+    private int locate(long key) {
+
+        int n = this.size;
+
+        if ((n == 0) || (this.keys[n - 1] < key)) {
+            return ~n;
+        }
+
+        return this.indexOf(key);
+
+    }
+
+    private void insert(
+        int index,
+        long key,
+        long value
+    ) {
+
+        int n = this.size;
+
+        if (n == this.keys.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, n + (n >> 1));
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        if (index < n) {
+            System.arraycopy(this.keys, index, this.keys, index + 1, n - index);
+            System.arraycopy(this.values, index, this.values, index + 1, n - index);
+        }
+
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+
+    }
+
+    private void checkIndex(int index) {
+
+        if ((index < 0) || (index >= this.size)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+    }
+
+}
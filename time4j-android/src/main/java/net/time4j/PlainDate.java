@@ -1488,6 +1488,63 @@ public final class PlainDate
 
     }
 
+    @Override
+    public PlainDate plus(
+        long amount,
+        IsoDateUnit unit
+    ) {
+
+        if (unit instanceof CalendarUnit) {
+            if (amount == 0) {
+                return this;
+            }
+
+            // direct path without lookup of unit rule
+            try {
+                return doAdd(CalendarUnit.class.cast(unit), this, amount, OverflowUnit.POLICY_PREVIOUS_VALID_DATE);
+            } catch (IllegalArgumentException iae) {
+                ArithmeticException ex = new ArithmeticException("Result beyond boundaries of time axis.");
+                ex.initCause(iae);
+                throw ex;
+            }
+        }
+
+        return super.plus(amount, unit);
+
+    }
+
+    @Override
+    public long until(
+        PlainDate end,
+        IsoDateUnit unit
+    ) {
+
+        if (unit instanceof CalendarUnit) {
+            // direct path without lookup of unit rule
+            return CalendarUnit.Rule.delta(
+                CalendarUnit.class.cast(unit), OverflowUnit.POLICY_PREVIOUS_VALID_DATE, this, end);
+        }
+
+        return super.until(end, unit);
+
+    }
+
+    @Override
+    public PlainDate plus(TimeSpan<? extends IsoDateUnit> timeSpan) {
+
+        PlainDate result = this.addCalendarUnits(timeSpan, false);
+        return ((result == null) ? super.plus(timeSpan) : result);
+
+    }
+
+    @Override
+    public PlainDate minus(TimeSpan<? extends IsoDateUnit> timeSpan) {
+
+        PlainDate result = this.addCalendarUnits(timeSpan, true);
+        return ((result == null) ? super.minus(timeSpan) : result);
+
+    }
+
     /**
      * <p>Provides a static access to the associated chronology on base of
      * epoch days which contains the chronological rules. </p>
@@ -1704,6 +1761,99 @@ public final class PlainDate
 
     }
 
+    /**
+     * <p>Direkte Addition einer Dauer in Kalendereinheiten. </p>
+     *
+     * <p>Entspricht dem Standard-Algorithmus von {@code Duration}, der alle monatsbasierten
+     * Einheiten und alle tagesbasierten Einheiten jeweils zusammenfasst: Zuerst werden die
+     * Monate addiert, dann die Tage (bei negativer Richtung umgekehrt). </p>
+     *
+     * @param   timeSpan    time span to be added
+     * @param   inverse     subtraction?
+     * @return  result of addition or {@code null} if there is no direct path
+     */
+    private PlainDate addCalendarUnits(
+        TimeSpan<? extends IsoDateUnit> timeSpan,
+        boolean inverse
+    ) {
+
+        if (!(timeSpan instanceof Duration)) {
+            return null;
+        }
+
+        List<? extends TimeSpan.Item<? extends IsoDateUnit>> items = timeSpan.getTotalLength();
+        long months = 0;
+        long days = 0;
+
+        for (int i = 0, n = items.size(); i < n; i++) {
+            TimeSpan.Item<? extends IsoDateUnit> item = items.get(i);
+            IsoDateUnit unit = item.getUnit();
+
+            if (!(unit instanceof CalendarUnit)) {
+                return null;
+            }
+
+            long amount = item.getAmount();
+
+            switch (CalendarUnit.class.cast(unit)) {
+                case MILLENNIA:
+                    months = MathUtils.safeAdd(months, MathUtils.safeMultiply(amount, 12 * 1000));
+                    break;
+                case CENTURIES:
+                    months = MathUtils.safeAdd(months, MathUtils.safeMultiply(amount, 12 * 100));
+                    break;
+                case DECADES:
+                    months = MathUtils.safeAdd(months, MathUtils.safeMultiply(amount, 12 * 10));
+                    break;
+                case YEARS:
+                    months = MathUtils.safeAdd(months, MathUtils.safeMultiply(amount, 12));
+                    break;
+                case QUARTERS:
+                    months = MathUtils.safeAdd(months, MathUtils.safeMultiply(amount, 3));
+                    break;
+                case MONTHS:
+                    months = MathUtils.safeAdd(months, amount);
+                    break;
+                case WEEKS:
+                    days = MathUtils.safeAdd(days, MathUtils.safeMultiply(amount, 7));
+                    break;
+                case DAYS:
+                    days = MathUtils.safeAdd(days, amount);
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        PlainDate result = this;
+        int policy = OverflowUnit.POLICY_PREVIOUS_VALID_DATE;
+
+        try {
+            if (timeSpan.isNegative() == inverse) {
+                if (months != 0) {
+                    result = doAdd(CalendarUnit.MONTHS, result, months, policy);
+                }
+                if (days != 0) {
+                    result = doAdd(CalendarUnit.DAYS, result, days, policy);
+                }
+            } else {
+                if (days != 0) {
+                    result = doAdd(CalendarUnit.DAYS, result, MathUtils.safeNegate(days), policy);
+                }
+                if (months != 0) {
+                    result = doAdd(CalendarUnit.MONTHS, result, MathUtils.safeNegate(months), policy);
+                }
+            }
+        } catch (IllegalArgumentException iae) {
+            ArithmeticException ex = new ArithmeticException("Result beyond boundaries of time axis.");
+            ex.initCause(iae);
+            throw ex;
+        }
+
+        return result;
+
+    }
+
     /**
      * <p>Liefert die Epochenmonate relativ zu 1970. </p>
      *
@@ -1957,7 +2107,7 @@ public final class PlainDate
         long dom = MathUtils.safeAdd(date.dayOfMonth, amount);
 
         if ((dom >= 1) && (dom <= 28)) {
-            return PlainDate.of(date.year, date.month, (int) dom);
+            return PlainDate.of(date.year, date.month, (int) dom, false);
         }
 
         long doy = MathUtils.safeAdd(date.getDayOfYear(), amount);
@@ -2581,12 +2731,13 @@ public final class PlainDate
                 EpochDays.MODIFIED_JULIAN_DATE.transform(
                     utcDays,
                     EpochDays.UTC);
-            long packedDate = GregorianMath.toPackedDate(mjd);
+            long packedDate = GregorianMath.toPackedDate(mjd); // includes range check of year
 
             return PlainDate.of(
                 GregorianMath.readYear(packedDate),
                 GregorianMath.readMonth(packedDate),
-                GregorianMath.readDayOfMonth(packedDate)
+                GregorianMath.readDayOfMonth(packedDate),
+                false
             );
 
         }
@@ -37,6 +37,7 @@ import net.time4j.engine.Converter;
 import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -2446,7 +2447,7 @@ public final class PlainTime
     }
 
     private static class IntegerElementRule
-        implements ElementRule<PlainTime, Integer> {
+        implements IntElementRule<PlainTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -2482,6 +2483,13 @@ public final class PlainTime
         @Override
         public Integer getValue(PlainTime context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(PlainTime context) {
+
             int ret;
 
             switch (this.index) {
@@ -2538,7 +2546,7 @@ public final class PlainTime
                         this.element.name());
             }
 
-            return Integer.valueOf(ret);
+            return ret;
 
         }
 
@@ -2551,8 +2559,21 @@ public final class PlainTime
 
             if (value == null) {
                 throw new IllegalArgumentException("Missing element value.");
-            } else if (lenient) {
-                return this.withValueInLenientMode(context, value.intValue());
+            }
+
+            return this.withValue(context, value.intValue(), lenient);
+
+        }
+
+        @Override
+        public PlainTime withValue(
+            PlainTime context,
+            int value,
+            boolean lenient
+        ) {
+
+            if (lenient) {
+                return this.withValueInLenientMode(context, value);
             } else if (!this.isValid(context, value)) {
                 throw new IllegalArgumentException(
                     "Value out of range: " + value);
@@ -2562,7 +2583,7 @@ public final class PlainTime
             int m = context.minute;
             int s = context.second;
             int f = context.nano;
-            int v = value.intValue();
+            int v = value;
 
             switch (this.index) {
                 case IntegerTimeElement.CLOCK_HOUR_OF_AMPM:
@@ -2623,11 +2644,17 @@ public final class PlainTime
             Integer value
         ) {
 
-            if (value == null) {
-                return false;
-            }
+            return ((value != null) && this.isValid(context, value.intValue()));
+
+        }
+
+        @Override
+        public boolean isValid(
+            PlainTime context,
+            int value
+        ) {
 
-            int v = value.intValue();
+            int v = value;
 
             if ((v < this.min) || (v > this.max)) {
                 return false;
@@ -2742,7 +2769,7 @@ public final class PlainTime
                 || (this.element == DIGITAL_HOUR_OF_AMPM)
             ) {
                 return context.plus(
-                    MathUtils.safeSubtract(value, context.get(this.element)),
+                    MathUtils.safeSubtract(value, this.getInt(context)),
                     ClockUnit.HOURS);
             } else if (this.element == MINUTE_OF_HOUR) {
                 return context.plus(
@@ -2755,12 +2782,12 @@ public final class PlainTime
             } else if (this.element == MILLI_OF_SECOND) {
                 return context.plus(
                     MathUtils.safeSubtract(
-                        value, context.get(MILLI_OF_SECOND)),
+                        value, context.nano / MIO),
                     ClockUnit.MILLIS);
             } else if (this.element == MICRO_OF_SECOND) {
                 return context.plus(
                     MathUtils.safeSubtract(
-                        value, context.get(MICRO_OF_SECOND)),
+                        value, context.nano / KILO),
                     ClockUnit.MICROS);
             } else if (this.element == NANO_OF_SECOND) {
                 return context.plus(
@@ -2779,16 +2806,14 @@ public final class PlainTime
                 if ((remainder == 0) && context.isFullMinute()) {
                     return (value > 0) ? PlainTime.MAX : PlainTime.MIN;
                 } else {
-                    return this.withValue(
-                        context, Integer.valueOf(remainder), false);
+                    return this.withValue(context, remainder, false);
                 }
             } else if (this.element == SECOND_OF_DAY) {
                 int remainder = MathUtils.floorModulo(value, 86400);
                 if ((remainder == 0) && (context.nano == 0)) {
                     return (value > 0) ? PlainTime.MAX : PlainTime.MIN;
                 } else {
-                    return this.withValue(
-                        context, Integer.valueOf(remainder), false);
+                    return this.withValue(context, remainder, false);
                 }
             } else {
                 throw new UnsupportedOperationException(this.element.name());
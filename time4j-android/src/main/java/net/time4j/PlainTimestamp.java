@@ -38,6 +38,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FlagElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.Normalizer;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
@@ -276,11 +277,11 @@ public final class PlainTimestamp
                     DAYS)
                 .appendElement(
                     YEAR,
-                    FieldRule.of(YEAR),
+                    new IntFieldRule(YEAR),
                     YEARS)
                 .appendElement(
                     YEAR_OF_WEEKDATE,
-                    FieldRule.of(YEAR_OF_WEEKDATE),
+                    new IntFieldRule(YEAR_OF_WEEKDATE),
                     Weekcycle.YEARS)
                 .appendElement(
                     QUARTER_OF_YEAR,
@@ -292,11 +293,11 @@ public final class PlainTimestamp
                     MONTHS)
                 .appendElement(
                     MONTH_AS_NUMBER,
-                    FieldRule.of(MONTH_AS_NUMBER),
+                    new IntFieldRule(MONTH_AS_NUMBER),
                     MONTHS)
                 .appendElement(
                     DAY_OF_MONTH,
-                    FieldRule.of(DAY_OF_MONTH),
+                    new IntFieldRule(DAY_OF_MONTH),
                     DAYS)
                 .appendElement(
                     DAY_OF_WEEK,
@@ -304,11 +305,11 @@ public final class PlainTimestamp
                     DAYS)
                 .appendElement(
                     DAY_OF_YEAR,
-                    FieldRule.of(DAY_OF_YEAR),
+                    new IntFieldRule(DAY_OF_YEAR),
                     DAYS)
                 .appendElement(
                     DAY_OF_QUARTER,
-                    FieldRule.of(DAY_OF_QUARTER),
+                    new IntFieldRule(DAY_OF_QUARTER),
                     DAYS)
                 .appendElement(
                     WEEKDAY_IN_MONTH,
@@ -322,55 +323,55 @@ public final class PlainTimestamp
                     FieldRule.of(AM_PM_OF_DAY))
                 .appendElement(
                     CLOCK_HOUR_OF_AMPM,
-                    FieldRule.of(CLOCK_HOUR_OF_AMPM),
+                    new IntFieldRule(CLOCK_HOUR_OF_AMPM),
                     HOURS)
                 .appendElement(
                     CLOCK_HOUR_OF_DAY,
-                    FieldRule.of(CLOCK_HOUR_OF_DAY),
+                    new IntFieldRule(CLOCK_HOUR_OF_DAY),
                     HOURS)
                 .appendElement(
                     DIGITAL_HOUR_OF_AMPM,
-                    FieldRule.of(DIGITAL_HOUR_OF_AMPM),
+                    new IntFieldRule(DIGITAL_HOUR_OF_AMPM),
                     HOURS)
                 .appendElement(
                     DIGITAL_HOUR_OF_DAY,
-                    FieldRule.of(DIGITAL_HOUR_OF_DAY),
+                    new IntFieldRule(DIGITAL_HOUR_OF_DAY),
                     HOURS)
                 .appendElement(
                     HOUR_FROM_0_TO_24,
-                    FieldRule.of(HOUR_FROM_0_TO_24),
+                    new IntFieldRule(HOUR_FROM_0_TO_24),
                     HOURS)
                 .appendElement(
                     MINUTE_OF_HOUR,
-                    FieldRule.of(MINUTE_OF_HOUR),
+                    new IntFieldRule(MINUTE_OF_HOUR),
                     MINUTES)
                 .appendElement(
                     MINUTE_OF_DAY,
-                    FieldRule.of(MINUTE_OF_DAY),
+                    new IntFieldRule(MINUTE_OF_DAY),
                     MINUTES)
                 .appendElement(
                     SECOND_OF_MINUTE,
-                    FieldRule.of(SECOND_OF_MINUTE),
+                    new IntFieldRule(SECOND_OF_MINUTE),
                     SECONDS)
                 .appendElement(
                     SECOND_OF_DAY,
-                    FieldRule.of(SECOND_OF_DAY),
+                    new IntFieldRule(SECOND_OF_DAY),
                     SECONDS)
                 .appendElement(
                     MILLI_OF_SECOND,
-                    FieldRule.of(MILLI_OF_SECOND),
+                    new IntFieldRule(MILLI_OF_SECOND),
                     MILLIS)
                 .appendElement(
                     MICRO_OF_SECOND,
-                    FieldRule.of(MICRO_OF_SECOND),
+                    new IntFieldRule(MICRO_OF_SECOND),
                     MICROS)
                 .appendElement(
                     NANO_OF_SECOND,
-                    FieldRule.of(NANO_OF_SECOND),
+                    new IntFieldRule(NANO_OF_SECOND),
                     NANOS)
                 .appendElement(
                     MILLI_OF_DAY,
-                    FieldRule.of(MILLI_OF_DAY),
+                    new IntFieldRule(MILLI_OF_DAY),
                     MILLIS)
                 .appendElement(
                     MICRO_OF_DAY,
@@ -1713,6 +1714,12 @@ public final class PlainTimestamp
 
         }
 
+        ChronoElement<V> getElement() {
+
+            return this.element;
+
+        }
+
         private long toNumber(V value) {
 
             return Number.class.cast(value).longValue();
@@ -1721,6 +1728,58 @@ public final class PlainTimestamp
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<PlainTimestamp> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(PlainTimestamp context) {
+
+            ChronoElement<Integer> element = this.getElement();
+
+            if (element.isDateElement()) {
+                return context.date.getInt(element);
+            } else if (element.isTimeElement()) {
+                return context.time.getInt(element);
+            }
+
+            throw new ChronoException(
+                "Missing rule for: " + element.name());
+
+        }
+
+        @Override
+        public boolean isValid(
+            PlainTimestamp context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public PlainTimestamp withValue(
+            PlainTimestamp context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
+    }
+
     private static class DecimalRule
         extends FieldRule<BigDecimal> {
 
@@ -0,0 +1,351 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.base.MathUtils;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+
+/**
+ * <p>Encodes the basic temporal types of Time4J as primitive values and vice versa. </p>
+ *
+ * <p>Applications which hold very large amounts of dates or timestamps (for example as keys of
+ * aggregation buckets) can use the packed representations in order to avoid the overhead of
+ * one object per value. All packed forms preserve the natural order of the original types,
+ * so sorting the primitive values yields the same order as sorting the objects. See also
+ * {@link PackedKeyMap}. </p>
+ *
+ * <ul>
+ *     <li>{@code PlainDate} =&gt; {@code (year << 32) | (month << 16) | dayOfMonth}
+ *     (compatible with {@link GregorianMath#readYear(long)} etc.)</li>
+ *     <li>{@code PlainDate} =&gt; {@code int} as count of days since UNIX epoch (1970-01-01)</li>
+ *     <li>{@code PlainTime} =&gt; nanoseconds of day (0 - 86400000000000 inclusive T24:00)</li>
+ *     <li>{@code PlainTimestamp} =&gt; local nanoseconds since 1970-01-01T00:00</li>
+ *     <li>{@code Moment} =&gt; nanoseconds since UNIX epoch on the POSIX scale</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Kodiert die grundlegenden Zeittypen von Time4J als primitive Werte und umgekehrt. </p>
+ *
+ * <p>Anwendungen, die sehr viele Datums- oder Zeitstempelwerte halten (zum Beispiel als
+ * Schl&uuml;ssel von Aggregationsbereichen), k&ouml;nnen die gepackten Darstellungen verwenden,
+ * um den Aufwand eines Objekts pro Wert zu vermeiden. Alle gepackten Formen erhalten die
+ * nat&uuml;rliche Ordnung der urspr&uuml;nglichen Typen, so da&szlig; das Sortieren der primitiven
+ * Werte die gleiche Reihenfolge wie das Sortieren der Objekte ergibt. Siehe auch
+ * {@link PackedKeyMap}. </p>
+ *
+ * <ul>
+ *     <li>{@code PlainDate} =&gt; {@code (year << 32) | (month << 16) | dayOfMonth}
+ *     (kompatibel mit {@link GregorianMath#readYear(long)} usw.)</li>
+ *     <li>{@code PlainDate} =&gt; {@code int} als Anzahl der Tage seit der UNIX-Epoche (1970-01-01)</li>
+ *     <li>{@code PlainTime} =&gt; Nanosekunden des Tages (0 - 86400000000000 inklusive T24:00)</li>
+ *     <li>{@code PlainTimestamp} =&gt; lokale Nanosekunden seit 1970-01-01T00:00</li>
+ *     <li>{@code Moment} =&gt; Nanosekunden seit der UNIX-Epoche auf der POSIX-Skala</li>
+ * </ul>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class PrimitiveCodec {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final long NANOS_PER_DAY = 86400L * MRD;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private PrimitiveCodec() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Packs given calendar date into a long value containing year, month and day-of-month. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  packed date in the format of {@code GregorianMath}
+     * @see     #unpackDate(long)
+     */
+    /*[deutsch]
+     * <p>Packt das angegebene Kalenderdatum in einen long-Wert, der Jahr, Monat und Tag
+     * des Monats enth&auml;lt. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  packed date in the format of {@code GregorianMath}
+     * @see     #unpackDate(long)
+     */
+    public static long packDate(PlainDate date) {
+
+        return (
+            (((long) date.getYear()) << 32)
+            | (date.getMonth() << 16)
+            | date.getDayOfMonth()
+        );
+
+    }
+
+    /**
+     * <p>Restores a calendar date from its packed form. </p>
+     *
+     * @param   packedDate  packed date as created by {@link #packDate(PlainDate)}
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the packed value does not represent a valid date
+     */
+    /*[deutsch]
+     * <p>Stellt ein Kalenderdatum aus seiner gepackten Form wieder her. </p>
+     *
+     * @param   packedDate  packed date as created by {@link #packDate(PlainDate)}
+     * @return  calendar date
+     * @throws  IllegalArgumentException if the packed value does not represent a valid date
+     */
+    public static PlainDate unpackDate(long packedDate) {
+
+        return PlainDate.of(
+            GregorianMath.readYear(packedDate),
+            GregorianMath.readMonth(packedDate),
+            GregorianMath.readDayOfMonth(packedDate));
+
+    }
+
+    /**
+     * <p>Packs given calendar date into an int value counting the days since UNIX epoch. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  count of days since 1970-01-01
+     * @throws  ArithmeticException if the date is out of int range (beyond about 5.8 million years)
+     * @see     #unpackEpochDay(int)
+     */
+    /*[deutsch]
+     * <p>Packt das angegebene Kalenderdatum in einen int-Wert, der die Tage seit der
+     * UNIX-Epoche z&auml;hlt. </p>
+     *
+     * @param   date    calendar date to be packed
+     * @return  count of days since 1970-01-01
+     * @throws  ArithmeticException if the date is out of int range (beyond about 5.8 million years)
+     * @see     #unpackEpochDay(int)
+     */
+    public static int packEpochDay(PlainDate date) {
+
+        return MathUtils.safeCast(EpochDays.UNIX.transform(date.getDaysSinceUTC(), EpochDays.UTC));
+
+    }
+
+    /**
+     * <p>Restores a calendar date from the count of days since UNIX epoch. </p>
+     *
+     * @param   epochDay    count of days since 1970-01-01
+     * @return  calendar date
+     * @see     #packEpochDay(PlainDate)
+     */
+    /*[deutsch]
+     * <p>Stellt ein Kalenderdatum aus der Anzahl der Tage seit der UNIX-Epoche wieder her. </p>
+     *
+     * @param   epochDay    count of days since 1970-01-01
+     * @return  calendar date
+     * @see     #packEpochDay(PlainDate)
+     */
+    public static PlainDate unpackEpochDay(int epochDay) {
+
+        return PlainDate.of(epochDay, EpochDays.UNIX);
+
+    }
+
+    /**
+     * <p>Packs given wall time into the count of nanoseconds since midnight. </p>
+     *
+     * <p>The time 24:00 is mapped to {@code 86400000000000L}. </p>
+     *
+     * @param   time    wall time to be packed
+     * @return  nanosecond of day
+     * @see     #unpackTime(long)
+     */
+    /*[deutsch]
+     * <p>Packt die angegebene Uhrzeit in die Anzahl der Nanosekunden seit Mitternacht. </p>
+     *
+     * <p>Die Uhrzeit 24:00 wird auf {@code 86400000000000L} abgebildet. </p>
+     *
+     * @param   time    wall time to be packed
+     * @return  nanosecond of day
+     * @see     #unpackTime(long)
+     */
+    public static long packTime(PlainTime time) {
+
+        return (
+            time.getNanosecond()
+            + time.getSecond() * (long) MRD
+            + time.getMinute() * 60L * MRD
+            + time.getHour() * 3600L * MRD
+        );
+
+    }
+
+    /**
+     * <p>Restores a wall time from the count of nanoseconds since midnight. </p>
+     *
+     * @param   nanoOfDay   nanosecond of day in range {@code 0 - 86400000000000L}
+     * @return  wall time
+     * @throws  IllegalArgumentException if the argument is out of range
+     * @see     #packTime(PlainTime)
+     */
+    /*[deutsch]
+     * <p>Stellt eine Uhrzeit aus der Anzahl der Nanosekunden seit Mitternacht wieder her. </p>
+     *
+     * @param   nanoOfDay   nanosecond of day in range {@code 0 - 86400000000000L}
+     * @return  wall time
+     * @throws  IllegalArgumentException if the argument is out of range
+     * @see     #packTime(PlainTime)
+     */
+    public static PlainTime unpackTime(long nanoOfDay) {
+
+        if ((nanoOfDay < 0) || (nanoOfDay > NANOS_PER_DAY)) {
+            throw new IllegalArgumentException("Nanosecond of day out of range: " + nanoOfDay);
+        }
+
+        int nanosecond = (int) (nanoOfDay % MRD);
+        int secondsOfDay = (int) (nanoOfDay / MRD);
+        int second = secondsOfDay % 60;
+        int minutesOfDay = secondsOfDay / 60;
+        int minute = minutesOfDay % 60;
+        int hour = minutesOfDay / 60;
+
+        return PlainTime.of(hour, minute, second, nanosecond);
+
+    }
+
+    /**
+     * <p>Packs given timestamp into the count of local nanoseconds since 1970-01-01T00:00. </p>
+     *
+     * @param   tsp     local timestamp to be packed
+     * @return  local nanoseconds since 1970-01-01T00:00
+     * @throws  ArithmeticException if the timestamp is beyond the years 1677-2262
+     * @see     #unpackTimestamp(long)
+     */
+    /*[deutsch]
+     * <p>Packt den angegebenen Zeitstempel in die Anzahl der lokalen Nanosekunden seit
+     * 1970-01-01T00:00. </p>
+     *
+     * @param   tsp     local timestamp to be packed
+     * @return  local nanoseconds since 1970-01-01T00:00
+     * @throws  ArithmeticException if the timestamp is beyond the years 1677-2262
+     * @see     #unpackTimestamp(long)
+     */
+    public static long packTimestamp(PlainTimestamp tsp) {
+
+        long days = EpochDays.UNIX.transform(tsp.getCalendarDate().getDaysSinceUTC(), EpochDays.UTC);
+        return MathUtils.safeAdd(MathUtils.safeMultiply(days, NANOS_PER_DAY), packTime(tsp.getWallTime()));
+
+    }
+
+    /**
+     * <p>Restores a timestamp from the count of local nanoseconds since 1970-01-01T00:00. </p>
+     *
+     * @param   localNanos  local nanoseconds since 1970-01-01T00:00
+     * @return  local timestamp
+     * @see     #packTimestamp(PlainTimestamp)
+     */
+    /*[deutsch]
+     * <p>Stellt einen Zeitstempel aus der Anzahl der lokalen Nanosekunden seit
+     * 1970-01-01T00:00 wieder her. </p>
+     *
+     * @param   localNanos  local nanoseconds since 1970-01-01T00:00
+     * @return  local timestamp
+     * @see     #packTimestamp(PlainTimestamp)
+     */
+    public static PlainTimestamp unpackTimestamp(long localNanos) {
+
+        long days = localNanos / NANOS_PER_DAY;
+        long nanoOfDay = localNanos % NANOS_PER_DAY;
+
+        if (nanoOfDay < 0) {
+            days--;
+            nanoOfDay += NANOS_PER_DAY;
+        }
+
+        return PlainTimestamp.of(PlainDate.of(days, EpochDays.UNIX), unpackTime(nanoOfDay));
+
+    }
+
+    /**
+     * <p>Packs given moment into the count of nanoseconds since UNIX epoch on the POSIX scale. </p>
+     *
+     * <p>Note: Leap second information is lost because the POSIX scale does not count
+     * leap seconds. A leap second will be unpacked as the preceding second 23:59:59. </p>
+     *
+     * @param   moment  moment to be packed
+     * @return  POSIX nanoseconds since 1970-01-01T00:00Z
+     * @throws  ArithmeticException if the moment is beyond the years 1677-2262
+     * @see     #unpackMoment(long)
+     */
+    /*[deutsch]
+     * <p>Packt den angegebenen Moment in die Anzahl der Nanosekunden seit der UNIX-Epoche
+     * auf der POSIX-Skala. </p>
+     *
+     * <p>Hinweis: Schaltsekundeninformationen gehen verloren, weil die POSIX-Skala keine
+     * Schaltsekunden z&auml;hlt. Eine Schaltsekunde wird als die vorangehende Sekunde 23:59:59
+     * entpackt. </p>
+     *
+     * @param   moment  moment to be packed
+     * @return  POSIX nanoseconds since 1970-01-01T00:00Z
+     * @throws  ArithmeticException if the moment is beyond the years 1677-2262
+     * @see     #unpackMoment(long)
+     */
+    public static long packMoment(Moment moment) {
+
+        return MathUtils.safeAdd(MathUtils.safeMultiply(moment.getPosixTime(), MRD), moment.getNanosecond());
+
+    }
+
+    /**
+     * <p>Restores a moment from the count of nanoseconds since UNIX epoch on the POSIX scale. </p>
+     *
+     * @param   posixNanos  POSIX nanoseconds since 1970-01-01T00:00Z
+     * @return  moment
+     * @see     #packMoment(Moment)
+     */
+    /*[deutsch]
+     * <p>Stellt einen Moment aus der Anzahl der Nanosekunden seit der UNIX-Epoche auf der
+     * POSIX-Skala wieder her. </p>
+     *
+     * @param   posixNanos  POSIX nanoseconds since 1970-01-01T00:00Z
+     * @return  moment
+     * @see     #packMoment(Moment)
+     */
+    public static Moment unpackMoment(long posixNanos) {
+
+        long secs = posixNanos / MRD;
+        int nanos = (int) (posixNanos % MRD);
+
+        if (nanos < 0) {
+            secs--;
+            nanos += MRD;
+        }
+
+        return Moment.of(secs, nanos, TimeScale.POSIX);
+
+    }
+
+}
@@ -99,6 +99,10 @@ class StdNormalizer<U extends IsoUnit>
     @Override
     public Duration<U> normalize(TimeSpan<? extends U> timespan) {
 
+        if ((timespan instanceof Duration) && this.isNormalized(timespan)) {
+            return (Duration<U>) timespan; // keine neue Instanz nötig
+        }
+
         int count = timespan.getTotalLength().size();
         List<TimeSpan.Item<U>> items = new ArrayList<TimeSpan.Item<U>>(count);
         long years = 0, months = 0, weeks = 0, days = 0;
@@ -186,7 +190,7 @@ class StdNormalizer<U extends IsoUnit>
                         throw new UnsupportedOperationException(unit.toString());
                 }
             } else {
-                items.add(TimeSpan.Item.of(amount, unit));
+                items.add(Duration.itemOf(amount, unit));
             }
         }
 
@@ -221,45 +225,89 @@ class StdNormalizer<U extends IsoUnit>
 
             if (y != 0) {
                 unit = (U) YEARS;
-                items.add(TimeSpan.Item.of(y, unit));
+                items.add(Duration.itemOf(y, unit));
             }
             if (m != 0) {
                 unit = (U) MONTHS;
-                items.add(TimeSpan.Item.of(m, unit));
+                items.add(Duration.itemOf(m, unit));
             }
             if (d != 0) {
                 unit = (U) DAYS;
-                items.add(TimeSpan.Item.of(d, unit));
+                items.add(Duration.itemOf(d, unit));
             }
         } else if (weeks != 0) {
             unit = (U) WEEKS;
-            items.add(TimeSpan.Item.of(weeks, unit));
+            items.add(Duration.itemOf(weeks, unit));
         }
 
         if (h != 0) {
             unit = (U) HOURS;
-            items.add(TimeSpan.Item.of(h, unit));
+            items.add(Duration.itemOf(h, unit));
         }
 
         if (n != 0) {
             unit = (U) MINUTES;
-            items.add(TimeSpan.Item.of(n, unit));
+            items.add(Duration.itemOf(n, unit));
         }
 
         if (s != 0) {
             unit = (U) SECONDS;
-            items.add(TimeSpan.Item.of(s, unit));
+            items.add(Duration.itemOf(s, unit));
         }
 
         if (f != 0) {
             unit = (U) NANOS;
-            items.add(TimeSpan.Item.of(f, unit));
+            items.add(Duration.itemOf(f, unit));
         }
 
         return new Duration<U>(items, timespan.isNegative());
 
     }
 
+    // entspricht die Zeitspanne bereits dem Ergebnis von normalize()?
+    private boolean isNormalized(TimeSpan<?> timespan) {
+
+        List<? extends TimeSpan.Item<?>> items = timespan.getTotalLength();
+        boolean ymd = false;
+        boolean weeks = false;
+
+        for (int i = 0, n = items.size(); i < n; i++) {
+            TimeSpan.Item<?> item = items.get(i);
+            Object unit = item.getUnit();
+            long amount = item.getAmount();
+
+            if (amount <= 0) {
+                return false;
+            } else if ((unit == YEARS) || (unit == DAYS)) {
+                ymd = true;
+            } else if (unit == MONTHS) {
+                if (amount >= 12) {
+                    return false;
+                }
+                ymd = true;
+            } else if (unit == WEEKS) {
+                weeks = true;
+            } else if (unit == HOURS) {
+                if (this.mixed && (amount >= 24)) {
+                    return false;
+                }
+            } else if ((unit == MINUTES) || (unit == SECONDS)) {
+                if (amount >= 60) {
+                    return false;
+                }
+            } else if (unit == NANOS) {
+                if (amount >= MRD) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+
+        return !(ymd && weeks);
+
+    }
+
     static int compare(
         ChronoUnit u1,
         ChronoUnit u2
@@ -28,6 +28,13 @@ import net.time4j.scale.TimeScale;
 import net.time4j.tz.TZID;
 import net.time4j.tz.Timezone;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * <p>Represents a clock which is based on the clock of the underlying operating system. </p>
@@ -118,17 +125,28 @@ public final class SystemClock
 
     private final boolean monotonic;
     private final long offset;
+    private final CoarseTicker ticker;
 
     //~ Konstruktoren -----------------------------------------------------
 
     private SystemClock(
         boolean monotonic,
         long offset
+    ) {
+        this(monotonic, offset, 0);
+
+    }
+
+    private SystemClock(
+        boolean monotonic,
+        long offset,
+        int granularity
     ) {
         super();
 
         this.monotonic = monotonic;
         this.offset = offset;
+        this.ticker = ((granularity > 0) ? CoarseTicker.start(new SystemClock(monotonic, offset), granularity) : null);
 
     }
 
@@ -137,7 +155,9 @@ public final class SystemClock
     @Override
     public Moment currentTime() {
 
-        if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
+        if (this.ticker != null) {
+            return this.ticker.moment;
+        } else if ((this.monotonic || MONOTON_MODE) && LeapSeconds.getInstance().isEnabled()) {
             long nanos = this.utcNanos();
             return Moment.of(
                 MathUtils.floorDivide(nanos, MRD),
@@ -169,7 +189,9 @@ public final class SystemClock
      */
     public long currentTimeInMillis() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.ticker != null) {
+            return this.ticker.millis;
+        } else if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(MathUtils.floorDivide(nanos, MRD));
             return MathUtils.safeMultiply(secs, 1000) + MathUtils.floorModulo(nanos, MIO);
@@ -209,7 +231,9 @@ public final class SystemClock
      */
     public long currentTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.ticker != null) {
+            return MathUtils.safeMultiply(this.ticker.millis, 1000);
+        } else if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(MathUtils.floorDivide(nanos, MRD));
             return MathUtils.safeMultiply(secs, MIO) + MathUtils.floorModulo(nanos, 1000);
@@ -237,7 +261,9 @@ public final class SystemClock
      */
     public long realTimeInMicros() {
 
-        if (this.monotonic || MONOTON_MODE) {
+        if (this.ticker != null) {
+            return this.ticker.realMicros;
+        } else if (this.monotonic || MONOTON_MODE) {
             return MathUtils.floorDivide(this.utcNanos(), 1000);
         } else {
             long millis = System.currentTimeMillis();
@@ -424,7 +450,7 @@ public final class SystemClock
      */
     public SystemClock recalibrated() {
 
-        return new SystemClock(this.monotonic, calibrate());
+        return new SystemClock(this.monotonic, calibrate(), this.getGranularity());
 
     }
 
@@ -461,7 +487,70 @@ public final class SystemClock
         long instantNanos = MathUtils.safeMultiply(utc, MRD) + time.getNanosecond(TimeScale.UTC);
         long newOffset = MathUtils.safeSubtract(instantNanos, compare);
 
-        return new SystemClock(this.monotonic, newOffset);
+        return new SystemClock(this.monotonic, newOffset, this.getGranularity());
+
+    }
+
+    /**
+     * <p>Yields a coarse copy of this clock which only reads a cached time updated in the background
+     * with given granularity. </p>
+     *
+     * <p>Every call of {@code currentTime()} or {@code currentTimeInMillis()} on the coarse clock just
+     * reads a volatile field without any calculation or object allocation. This is useful for logging
+     * or metrics which need to timestamp millions of events per second and can tolerate a resolution
+     * of a few milliseconds. The cached time is updated by one daemon thread per granularity which is
+     * shared by all coarse clocks with the same granularity and stops as soon as none of them is
+     * referenced any longer. </p>
+     *
+     * @param   granularity     update interval in milliseconds (positive)
+     * @return  coarse copy of this instance
+     * @throws  IllegalArgumentException if the granularity is not positive
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Liefert eine grobe Kopie dieser Uhr, die nur eine im Hintergrund mit der angegebenen
+     * Granularit&auml;t aktualisierte zwischengespeicherte Zeit liest. </p>
+     *
+     * <p>Jeder Aufruf von {@code currentTime()} oder {@code currentTimeInMillis()} auf der groben Uhr
+     * liest nur ein volatile-Feld ohne jede Berechnung oder Objekterzeugung. Das ist f&uuml;r das
+     * Protokollieren oder f&uuml;r Metriken n&uuml;tzlich, die Millionen von Ereignissen pro Sekunde
+     * mit Zeitstempeln versehen m&uuml;ssen und eine Aufl&ouml;sung von wenigen Millisekunden tolerieren
+     * k&ouml;nnen. Die zwischengespeicherte Zeit wird von einem D&auml;mon-Thread pro Granularit&auml;t
+     * aktualisiert, den sich alle groben Uhren mit der gleichen Granularit&auml;t teilen und der sich
+     * beendet, sobald keine von ihnen mehr referenziert wird. </p>
+     *
+     * @param   granularity     update interval in milliseconds (positive)
+     * @return  coarse copy of this instance
+     * @throws  IllegalArgumentException if the granularity is not positive
+     * @since   5.9
+     */
+    public SystemClock coarse(int granularity) {
+
+        if (granularity <= 0) {
+            throw new IllegalArgumentException("Granularity must be positive: " + granularity);
+        }
+
+        return new SystemClock(this.monotonic, this.offset, granularity);
+
+    }
+
+    /**
+     * <p>Yields the update interval of the cached time in milliseconds. </p>
+     *
+     * @return  granularity in milliseconds or {@code 0} if this clock is not coarse
+     * @see     #coarse(int)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Liefert das Aktualisierungsintervall der zwischengespeicherten Zeit in Millisekunden. </p>
+     *
+     * @return  granularity in milliseconds or {@code 0} if this clock is not coarse
+     * @see     #coarse(int)
+     * @since   5.9
+     */
+    public int getGranularity() {
+
+        return ((this.ticker == null) ? 0 : this.ticker.granularity);
 
     }
 
@@ -486,15 +575,164 @@ public final class SystemClock
 
     }
 
+    // unkalibrierter Rohwert des monotonen Taktgebers, nur für Differenzmessungen geeignet
+    static long ticks() {
+
+        return (MONOTON_MODE ? System.nanoTime() : PROVIDER.getNanos());
+
+    }
+
     private long utcNanos() {
 
-        long nanos = (MONOTON_MODE ? System.nanoTime() : PROVIDER.getNanos());
-        return MathUtils.safeAdd(nanos, this.offset);
+        return MathUtils.safeAdd(ticks(), this.offset);
 
     }
 
     //~ Innere Klassen ----------------------------------------------------
 
+    private static class CoarseTicker {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final SystemClock source;
+        private final int granularity;
+
+        private volatile Moment moment;
+        private volatile long millis;
+        private volatile long realMicros;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private CoarseTicker(
+            SystemClock source,
+            int granularity
+        ) {
+            super();
+
+            this.source = source;
+            this.granularity = granularity;
+            this.update();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static CoarseTicker start(
+            SystemClock source,
+            int granularity
+        ) {
+
+            CoarseTicker ticker = new CoarseTicker(source, granularity);
+            Updater.register(ticker);
+            return ticker;
+
+        }
+
+        void update() {
+
+            Moment current = this.source.currentTime();
+            this.millis = MathUtils.safeMultiply(current.getPosixTime(), 1000) + current.getNanosecond() / MIO;
+            this.realMicros = this.source.realTimeInMicros();
+            this.moment = current;
+
+        }
+
+    }
+
+    // ein Thread pro Granularität, der die Ticker nur schwach hält und mit dem letzten Ticker endet
+    private static class Updater
+        implements Runnable {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final Map<Integer, Updater> UPDATERS = new HashMap<Integer, Updater>();
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int granularity;
+        private final List<WeakReference<CoarseTicker>> refs;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Updater(int granularity) {
+            super();
+
+            this.granularity = granularity;
+            this.refs = new ArrayList<WeakReference<CoarseTicker>>();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        static void register(CoarseTicker ticker) {
+
+            Integer key = Integer.valueOf(ticker.granularity);
+
+            synchronized (UPDATERS) {
+                Updater updater = UPDATERS.get(key);
+
+                if (updater == null) {
+                    updater = new Updater(ticker.granularity);
+                    UPDATERS.put(key, updater);
+                    Thread thread = new Thread(updater, "Time4A-CoarseClock-" + ticker.granularity + "ms");
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+
+                updater.refs.add(new WeakReference<CoarseTicker>(ticker));
+            }
+
+        }
+
+        @Override
+        public void run() {
+
+            List<CoarseTicker> tickers = new ArrayList<CoarseTicker>();
+
+            try {
+                while (true) {
+                    Thread.sleep(this.granularity);
+
+                    synchronized (UPDATERS) {
+                        Iterator<WeakReference<CoarseTicker>> iter = this.refs.iterator();
+                        while (iter.hasNext()) {
+                            CoarseTicker ticker = iter.next().get();
+                            if (ticker == null) {
+                                iter.remove();
+                            } else {
+                                tickers.add(ticker);
+                            }
+                        }
+                        if (tickers.isEmpty()) {
+                            return;
+                        }
+                    }
+
+                    for (CoarseTicker ticker : tickers) {
+                        try {
+                            ticker.update();
+                        } catch (RuntimeException re) {
+                            // letzten Schnappschuss behalten, beim nächsten Takt erneut versuchen
+                        }
+                    }
+
+                    tickers.clear();
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } finally {
+                synchronized (UPDATERS) {
+                    Integer key = Integer.valueOf(this.granularity);
+                    if (UPDATERS.get(key) == this) {
+                        UPDATERS.remove(key); // spätere Registrierungen starten einen neuen Thread
+                    }
+                }
+            }
+
+        }
+
+    }
+
     private static class StdTickProvider
         implements TickProvider {
 
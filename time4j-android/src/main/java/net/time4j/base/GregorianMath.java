@@ -432,6 +432,95 @@ public final class GregorianMath {
 
     }
 
+    /**
+     * <p>Adds given count of days to a binary compressed date. </p>
+     *
+     * <p>Small day shifts within the same month are directly applied on the day-of-month-bits,
+     * otherwise the calculation takes a detour via the modified julian date. </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @param   days        count of days to be added (maybe negative)
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the packed date is invalid or if the result is out of year range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #toPackedDate(long)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Tagen zu einem bin&auml;r gepackten Datum. </p>
+     *
+     * <p>Kleine Verschiebungen innerhalb desselben Monats werden direkt auf die Bits des Tags
+     * des Monats angewandt, sonst erfolgt die Berechnung &uuml;ber das modifizierte julianische
+     * Datum. </p>
+     *
+     * @param   packedDate  packed date in binary format
+     * @param   days        count of days to be added (maybe negative)
+     * @return  packed date in binary format
+     * @throws  IllegalArgumentException if the packed date is invalid or if the result is out of year range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #toPackedDate(long)
+     * @since   5.9
+     */
+    public static long addDays(
+        long packedDate,
+        long days
+    ) {
+
+        int year = readYear(packedDate);
+        int month = readMonth(packedDate);
+        int dom = readDayOfMonth(packedDate);
+
+        checkDate(year, month, dom);
+
+        if ((days >= -27) && (days <= 27)) {
+            int sum = dom + (int) days;
+            if ((sum >= 1) && (sum <= 28)) {
+                return ((((long) year) << 32) | (month << 16) | sum);
+            }
+        }
+
+        return toPackedDate(MathUtils.safeAdd(toMJD(year, month, dom), days));
+
+    }
+
+    /**
+     * <p>Adds given count of days to all binary compressed dates of given array. </p>
+     *
+     * <p>The array will be modified in place so no new objects are created. This method
+     * is suitable for bulk operations on large sets of dates. </p>
+     *
+     * @param   packedDates array of packed dates in binary format
+     * @param   days        count of days to be added (maybe negative)
+     * @throws  IllegalArgumentException if any packed date is invalid or if any result is out of year range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #addDays(long, long)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Addiert die angegebene Anzahl von Tagen zu allen bin&auml;r gepackten Datumsangaben
+     * des angegebenen Arrays. </p>
+     *
+     * <p>Das Array wird direkt ver&auml;ndert, so da&szlig; keine neuen Objekte erzeugt werden.
+     * Diese Methode eignet sich f&uuml;r Massenoperationen auf gro&szlig;en Datumsmengen. </p>
+     *
+     * @param   packedDates array of packed dates in binary format
+     * @param   days        count of days to be added (maybe negative)
+     * @throws  IllegalArgumentException if any packed date is invalid or if any result is out of year range
+     * @throws  ArithmeticException in case of numerical overflow
+     * @see     #addDays(long, long)
+     * @since   5.9
+     */
+    public static void addDays(
+        long[] packedDates,
+        long days
+    ) {
+
+        for (int i = 0; i < packedDates.length; i++) {
+            packedDates[i] = addDays(packedDates[i], days);
+        }
+
+    }
+
     /**
      * <p>Calculates the modified julian date. </p>
      *
@@ -26,8 +26,13 @@ import net.time4j.engine.CalendarEra;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.expert.Iso8601Format;
 
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URI;
 import java.text.ParseException;
 import java.util.Collections;
@@ -43,6 +48,10 @@ import java.util.Properties;
  * variant name. Such a file has the extension &quot;.data&quot; and is located in the data-directory relative
  * to the class path. </p>
  *
+ * <p>The standard variants are also accompanied by a binary index with the extension &quot;.idx&quot;.
+ * Users who override the data file of a standard variant must change its version attribute or supply
+ * a matching index, otherwise the bundled index will be used. </p>
+ *
  * @since   3.5/4.3
  */
 final class AstronomicalHijriData
@@ -50,6 +59,9 @@ final class AstronomicalHijriData
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    // mean length of synodic month in units of 1/10000 day
+    private static final long MEAN_MONTH = 295306L;
+
     static final AstronomicalHijriData UMALQURA;
 
     static {
@@ -116,90 +128,73 @@ final class AstronomicalHijriData
         this.maxUTC = this.minUTC + days - 1;
 
     }
+
     /**
      * <p>Creates a new instance for given variant loading its resource data. </p>
      *
+     * <p>The base table of the variant is preferably read from a compact binary index (see
+     * {@link #readIndex(String, InputStream)}). The index is only used if its type, version, year range
+     * and start date agree with the header of the properties-based data file. Otherwise, or if there is
+     * no such index, the data file will be parsed. Hence an overridden data file with individual changes
+     * needs either a changed version attribute or a matching index. </p>
+     *
      * @param   variant     name of calendar variant
      * @throws  net.time4j.engine.ChronoException if the variant contains an invalid day adjustment
      * @throws  IOException in case of any data inconsistencies
      */
     AstronomicalHijriData(String variant) throws IOException {
-        super();
-
-        HijriAdjustment ha = HijriAdjustment.from(variant);
-        this.variant = variant;
-        String baseVariant = ha.getBaseVariant();
-        this.adjustment = ha.getValue();
-        String name = "data/" + baseVariant.replace('-', '_') + ".data";
-        URI uri = ResourceLoader.getInstance().locate("calendar", AstronomicalHijriData.class, name);
-        InputStream is = ResourceLoader.getInstance().load(uri, true);
-
-        if (is == null) {
-            is = ResourceLoader.getInstance().load(AstronomicalHijriData.class, name, true);
-        }
+        this(variant, HijriAdjustment.from(variant).getValue(), load(HijriAdjustment.from(variant).getBaseVariant()));
 
-        try {
-            Properties properties = new Properties();
-            properties.load(is);
-            String calendarType = properties.getProperty("type");
-            if (!baseVariant.equals(calendarType)) {
-                throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
-            }
-            this.version = properties.getProperty("version", "1.0");
+    }
 
-            String isoStart = properties.getProperty("iso-start", "");
-            PlainDate startDate = Iso8601Format.EXTENDED_CALENDAR_DATE.parse(isoStart);
-            this.minUTC = startDate.get(EpochDays.UTC);
-            int min = Integer.parseInt(properties.getProperty("min", "1"));
-            this.minYear = min;
-            int max = Integer.parseInt(properties.getProperty("max", "0"));
-            this.maxYear = max;
-            int count = (max - min + 1) * 12;
+    // view on given base table with day adjustment, shares the underlying arrays
+    private AstronomicalHijriData(
+        String variant,
+        int adjustment,
+        AstronomicalHijriData base
+    ) {
+        super();
 
-            int[] mlen = new int[count];
-            long[] mutc = new long[count];
-            int i = 0;
-            long v = this.minUTC;
+        this.variant = variant;
+        this.adjustment = adjustment;
+        this.version = base.version;
+        this.minYear = base.minYear;
+        this.maxYear = base.maxYear;
+        this.minUTC = base.minUTC;
+        this.maxUTC = base.maxUTC;
+        this.lengthOfMonth = base.lengthOfMonth;
+        this.firstOfMonth = base.firstOfMonth;
 
-            for (int year = min; year <= max; year++) {
-                String row = properties.getProperty(String.valueOf(year));
-                if (row == null) {
-                    throw new IOException("Wrong file format: " + name + " (missing year=" + year + ")");
-                }
-                String[] monthLengths = row.split(" ");
-                for (int m = 0; m < Math.min(monthLengths.length, 12); m++) {
-                    mlen[i] = Integer.parseInt(monthLengths[m]);
-                    mutc[i] = v;
-                    v += mlen[i];
-                    i++;
-                }
-                if (monthLengths.length < 12) {
-                    int[] buf1 = new int[i];
-                    long[] buf2 = new long[i];
-                    System.arraycopy(mlen, 0, buf1, 0, i);
-                    System.arraycopy(mutc, 0, buf2, 0, i);
-                    mlen = buf1;
-                    mutc = buf2;
-                    break;
-                }
-            }
+    }
 
-            this.maxUTC = v - 1;
-            this.lengthOfMonth = mlen;
-            this.firstOfMonth = mutc;
+    // base table without adjustment, builds the cumulative index of month starts
+    private AstronomicalHijriData(
+        String variant,
+        String version,
+        int minYear,
+        int maxYear,
+        long minUTC,
+        int[] lengthOfMonth
+    ) {
+        super();
 
-        } catch (ParseException pe) {
-            throw new IOException("Wrong file format: " + name, pe);
-        } catch (NumberFormatException nfe) {
-            throw new IOException("Wrong file format: " + name, nfe);
-        } finally {
-            try {
-                is.close();
-            } catch (IOException ioe) {
-                ioe.printStackTrace(System.err);
-            }
+        this.variant = variant;
+        this.adjustment = 0;
+        this.version = version;
+        this.minYear = minYear;
+        this.maxYear = maxYear;
+        this.minUTC = minUTC;
+        this.lengthOfMonth = lengthOfMonth;
+        this.firstOfMonth = new long[lengthOfMonth.length];
+        long v = minUTC;
+
+        for (int i = 0; i < lengthOfMonth.length; i++) {
+            this.firstOfMonth[i] = v;
+            v += lengthOfMonth[i];
         }
 
+        this.maxUTC = v - 1;
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -350,26 +345,255 @@ final class AstronomicalHijriData
 
     }
 
-    // returns index of month-start associated with utcDays
+    /**
+     * <p>Yields a view on the same data with given day adjustment. </p>
+     *
+     * <p>The tables of month lengths and month starts are shared and not recomputed. </p>
+     *
+     * @param   variant     name of adjusted calendar variant
+     * @param   adjustment  day adjustment
+     * @return  adjusted calendar system
+     */
+    AstronomicalHijriData withAdjustment(
+        String variant,
+        int adjustment
+    ) {
+
+        return new AstronomicalHijriData(variant, this.adjustment + adjustment, this);
+
+    }
+
+    private static AstronomicalHijriData load(String baseVariant) throws IOException {
+
+        String prefix = "data/" + baseVariant.replace('-', '_');
+        String dataName = prefix + ".data";
+        InputStream is = open(prefix + ".idx", true);
+        AstronomicalHijriData indexed = null;
+
+        if (is != null) {
+            try {
+                indexed = readIndex(baseVariant, is);
+            } finally {
+                close(is);
+            }
+            is = open(dataName, true);
+            if (is == null) {
+                return indexed;
+            }
+            try {
+                if (indexed.matches(readHeader(is))) {
+                    return indexed;
+                }
+            } finally {
+                close(is);
+            }
+        }
+
+        is = open(dataName, false);
+
+        try {
+            return readProperties(baseVariant, dataName, is);
+        } finally {
+            close(is);
+        }
+
+    }
+
+    private static InputStream open(
+        String name,
+        boolean optional
+    ) throws IOException {
+
+        URI uri = ResourceLoader.getInstance().locate("calendar", AstronomicalHijriData.class, name);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        if (is == null) {
+            try {
+                is = ResourceLoader.getInstance().load(AstronomicalHijriData.class, name, true);
+            } catch (FileNotFoundException fnfe) {
+                if (!optional) {
+                    throw fnfe;
+                }
+            }
+        }
+
+        return is;
+
+    }
+
+    /**
+     * <p>Reads the header attributes of a properties-based data file and stops at the first year row. </p>
+     */
+    static Properties readHeader(InputStream is) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, "ISO-8859-1"));
+        StringBuilder header = new StringBuilder();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && Character.isDigit(trimmed.charAt(0))) {
+                break;
+            }
+            header.append(line).append('\n');
+        }
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(header.toString()));
+        return properties;
+
+    }
+
+    // does the binary index belong to the data file with given header (for example not overridden)?
+    boolean matches(Properties header) {
+
+        try {
+            PlainDate startDate = Iso8601Format.EXTENDED_CALENDAR_DATE.parse(header.getProperty("iso-start", ""));
+            return (
+                this.variant.equals(header.getProperty("type"))
+                && this.version.equals(header.getProperty("version", "1.0"))
+                && (this.minYear == Integer.parseInt(header.getProperty("min", "1")))
+                && (this.maxYear == Integer.parseInt(header.getProperty("max", "0")))
+                && (this.minUTC == startDate.get(EpochDays.UTC).longValue())
+            );
+        } catch (ParseException pe) {
+            return false;
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+
+    }
+
+    /**
+     * <p>Reads the binary month index. </p>
+     *
+     * <p>Format: calendar type (UTF), version (UTF), first day as int (UTC epoch days),
+     * minimum and maximum year as shorts, count of months as int and finally the lengths
+     * of months as bit set (bit 1 = 30 days, bit 0 = 29 days) with eight months per byte,
+     * least significant bit first. The cumulative index of month starts is built when loading. </p>
+     */
+    static AstronomicalHijriData readIndex(
+        String baseVariant,
+        InputStream is
+    ) throws IOException {
+
+        DataInputStream in = new DataInputStream(is);
+        String calendarType = in.readUTF();
+
+        if (!baseVariant.equals(calendarType)) {
+            throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
+        }
+
+        String version = in.readUTF();
+        long minUTC = in.readInt();
+        int min = in.readShort();
+        int max = in.readShort();
+        int count = in.readInt();
+
+        if ((max < min) || (count < 0) || (count > (max - min + 1) * 12)) {
+            throw new IOException("Wrong index format: " + baseVariant);
+        }
+
+        byte[] bits = new byte[(count + 7) / 8];
+        in.readFully(bits);
+        int[] mlen = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            mlen[i] = 29 + ((bits[i >> 3] >> (i & 7)) & 1);
+        }
+
+        return new AstronomicalHijriData(baseVariant, version, min, max, minUTC, mlen);
+
+    }
+
+    static AstronomicalHijriData readProperties(
+        String baseVariant,
+        String name,
+        InputStream is
+    ) throws IOException {
+
+        try {
+            Properties properties = new Properties();
+            properties.load(is);
+            String calendarType = properties.getProperty("type");
+            if (!baseVariant.equals(calendarType)) {
+                throw new IOException("Wrong hijri variant: expected=" + baseVariant + ", found=" + calendarType);
+            }
+            String version = properties.getProperty("version", "1.0");
+
+            String isoStart = properties.getProperty("iso-start", "");
+            PlainDate startDate = Iso8601Format.EXTENDED_CALENDAR_DATE.parse(isoStart);
+            long minUTC = startDate.get(EpochDays.UTC);
+            int min = Integer.parseInt(properties.getProperty("min", "1"));
+            int max = Integer.parseInt(properties.getProperty("max", "0"));
+            int count = (max - min + 1) * 12;
+
+            int[] mlen = new int[count];
+            int i = 0;
+
+            for (int year = min; year <= max; year++) {
+                String row = properties.getProperty(String.valueOf(year));
+                if (row == null) {
+                    throw new IOException("Wrong file format: " + name + " (missing year=" + year + ")");
+                }
+                String[] monthLengths = row.split(" ");
+                for (int m = 0; m < Math.min(monthLengths.length, 12); m++) {
+                    mlen[i] = Integer.parseInt(monthLengths[m]);
+                    i++;
+                }
+                if (monthLengths.length < 12) {
+                    int[] buf = new int[i];
+                    System.arraycopy(mlen, 0, buf, 0, i);
+                    mlen = buf;
+                    break;
+                }
+            }
+
+            return new AstronomicalHijriData(baseVariant, version, min, max, minUTC, mlen);
+        } catch (ParseException pe) {
+            throw new IOException("Wrong file format: " + name, pe);
+        } catch (NumberFormatException nfe) {
+            throw new IOException("Wrong file format: " + name, nfe);
+        }
+
+    }
+
+    private static void close(InputStream is) {
+
+        try {
+            is.close();
+        } catch (IOException ioe) {
+            ioe.printStackTrace(System.err);
+        }
+
+    }
+
+    // returns index of month-start associated with utcDays (estimation by mean month plus correction)
     private static int search(
         long utcDays,
         long[] firstOfMonth
     ) {
 
-        int low = 0;
-        int high = firstOfMonth.length - 1;
+        int n = firstOfMonth.length;
 
-        while (low <= high) {
-            int middle = (low + high) / 2;
+        if ((n == 0) || (utcDays < firstOfMonth[0])) {
+            return -1;
+        } else if (utcDays >= firstOfMonth[n - 1]) {
+            return n - 1;
+        }
 
-            if (firstOfMonth[middle] <= utcDays) {
-                low = middle + 1;
-            } else {
-                high = middle - 1;
-            }
+        long estimate = ((utcDays - firstOfMonth[0]) * 10000) / MEAN_MONTH;
+        int index = (int) Math.min(estimate, n - 1);
+
+        while (firstOfMonth[index] > utcDays) {
+            index--;
+        }
+
+        while ((index < n - 1) && (firstOfMonth[index + 1] <= utcDays)) {
+            index++;
         }
 
-        return low - 1;
+        return index;
 
     }
 
@@ -993,6 +993,11 @@ public final class ChineseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        String getDataName() {
+            return "chinese";
+        }
+
     }
 
     private static class EraElement
@@ -48,6 +48,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1063,7 +1064,7 @@ public final class CopticCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<CopticCalendar, Integer> {
+        implements IntElementRule<CopticCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1083,6 +1084,13 @@ public final class CopticCalendar
         @Override
         public Integer getValue(CopticCalendar context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(CopticCalendar context) {
+
             switch (this.index) {
                 case YEAR_INDEX:
                     return context.cyear;
@@ -1100,6 +1108,27 @@ public final class CopticCalendar
 
         }
 
+        @Override
+        public boolean isValid(
+            CopticCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public CopticCalendar withValue(
+            CopticCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
         @Override
         public Integer getMinimum(CopticCalendar context) {
 
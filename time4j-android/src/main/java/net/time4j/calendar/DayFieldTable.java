@@ -0,0 +1,621 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarEra;
+import net.time4j.engine.CalendarFamily;
+import net.time4j.engine.CalendarSystem;
+import net.time4j.engine.Chronology;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * <p>Compact table of the calendar fields of every day in a contiguous range of epoch days. </p>
+ *
+ * <p>The table is filled incrementally: only the first day of every calendar month is converted
+ * by the underlying calendar system, all other days are derived by counting. This makes the
+ * conversion of larger ranges (for example month grids or report columns) linear in time and
+ * avoids the creation of one calendar date object per day. Example: </p>
+ *
+ * <pre>
+ *  long start = PlainDate.of(2024, 1, 1).get(EpochDays.UTC);
+ *  DayFieldTable table = DayFieldTable.of(PersianCalendar.axis(), start, start + 366);
+ *  for (int i = 0; i &lt; table.size(); i++) {
+ *      render(table.getYear(i), table.getMonth(i), table.getDayOfMonth(i));
+ *  }
+ * </pre>
+ *
+ * <p>Supported are the ISO-calendar ({@code PlainDate}) and the Julian, Coptic, Ethiopian,
+ * Persian, Hebrew, Hijri and Indian calendars. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Kompakte Tabelle der Kalenderfelder jedes Tages in einem zusammenh&auml;ngenden Bereich
+ * von Epochentagen. </p>
+ *
+ * <p>Die Tabelle wird inkrementell gef&uuml;llt: nur der erste Tag jedes Kalendermonats wird
+ * vom zugrundeliegenden Kalendersystem konvertiert, alle anderen Tage werden durch Z&auml;hlen
+ * abgeleitet. Damit wird die Konvertierung gr&ouml;&szlig;erer Bereiche (zum Beispiel von
+ * Monatsansichten oder Berichtsspalten) linear in der Zeit, und die Erzeugung eines
+ * Kalenderdatumsobjekts pro Tag entf&auml;llt. Beispiel: </p>
+ *
+ * <pre>
+ *  long start = PlainDate.of(2024, 1, 1).get(EpochDays.UTC);
+ *  DayFieldTable table = DayFieldTable.of(PersianCalendar.axis(), start, start + 366);
+ *  for (int i = 0; i &lt; table.size(); i++) {
+ *      render(table.getYear(i), table.getMonth(i), table.getDayOfMonth(i));
+ *  }
+ * </pre>
+ *
+ * <p>Unterst&uuml;tzt werden der ISO-Kalender ({@code PlainDate}) sowie der julianische,
+ * koptische, &auml;thiopische, persische, hebr&auml;ische, islamische und indische Kalender. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class DayFieldTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final Map<Class<?>, FieldReader<?>> READERS;
+
+    static {
+        Map<Class<?>, FieldReader<?>> map = new HashMap<Class<?>, FieldReader<?>>();
+        map.put(
+            PlainDate.class,
+            new FieldReader<PlainDate>() {
+                @Override
+                CalendarEra era(PlainDate date) {
+                    return null;
+                }
+                @Override
+                int year(PlainDate date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(PlainDate date) {
+                    return date.getMonth();
+                }
+                @Override
+                int dayOfMonth(PlainDate date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(PlainDate date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            JulianCalendar.class,
+            new FieldReader<JulianCalendar>() {
+                @Override
+                CalendarEra era(JulianCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(JulianCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(JulianCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(JulianCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(JulianCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            CopticCalendar.class,
+            new FieldReader<CopticCalendar>() {
+                @Override
+                CalendarEra era(CopticCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(CopticCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(CopticCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(CopticCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(CopticCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            EthiopianCalendar.class,
+            new FieldReader<EthiopianCalendar>() {
+                @Override
+                CalendarEra era(EthiopianCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(EthiopianCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(EthiopianCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(EthiopianCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(EthiopianCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            PersianCalendar.class,
+            new FieldReader<PersianCalendar>() {
+                @Override
+                CalendarEra era(PersianCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(PersianCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(PersianCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(PersianCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(PersianCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            HebrewCalendar.class,
+            new FieldReader<HebrewCalendar>() {
+                @Override
+                CalendarEra era(HebrewCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(HebrewCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(HebrewCalendar date) {
+                    return date.getMonth().getCivilValue(date.isLeapYear());
+                }
+                @Override
+                int dayOfMonth(HebrewCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(HebrewCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            HijriCalendar.class,
+            new FieldReader<HijriCalendar>() {
+                @Override
+                CalendarEra era(HijriCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(HijriCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(HijriCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(HijriCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(HijriCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        map.put(
+            IndianCalendar.class,
+            new FieldReader<IndianCalendar>() {
+                @Override
+                CalendarEra era(IndianCalendar date) {
+                    return date.getEra();
+                }
+                @Override
+                int year(IndianCalendar date) {
+                    return date.getYear();
+                }
+                @Override
+                int month(IndianCalendar date) {
+                    return date.getMonth().getValue();
+                }
+                @Override
+                int dayOfMonth(IndianCalendar date) {
+                    return date.getDayOfMonth();
+                }
+                @Override
+                int lengthOfMonth(IndianCalendar date) {
+                    return date.lengthOfMonth();
+                }
+            });
+        READERS = map;
+    }
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long start;
+    private final int[] years;
+    private final byte[] months;
+    private final byte[] days;
+    private final byte[] eraIndices;
+    private final CalendarEra[] eras;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private DayFieldTable(
+        long start,
+        int[] years,
+        byte[] months,
+        byte[] days,
+        byte[] eraIndices,
+        CalendarEra[] eras
+    ) {
+        super();
+
+        this.start = start;
+        this.years = years;
+        this.months = months;
+        this.days = days;
+        this.eraIndices = eraIndices;
+        this.eras = eras;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a table for given chronology without variants. </p>
+     *
+     * @param   chronology      chronology of a supported calendar (for example {@code PlainDate.axis()})
+     * @param   startUtcDays    first epoch day since [1972-01-01] (inclusive)
+     * @param   endUtcDays      last epoch day since [1972-01-01] (exclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the calendar is not supported or if the range is invalid
+     * @throws  ArithmeticException if the range exceeds the limits of the calendar system
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Tabelle f&uuml;r die angegebene Chronologie ohne Varianten. </p>
+     *
+     * @param   chronology      chronology of a supported calendar (for example {@code PlainDate.axis()})
+     * @param   startUtcDays    first epoch day since [1972-01-01] (inclusive)
+     * @param   endUtcDays      last epoch day since [1972-01-01] (exclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the calendar is not supported or if the range is invalid
+     * @throws  ArithmeticException if the range exceeds the limits of the calendar system
+     */
+    public static DayFieldTable of(
+        Chronology<?> chronology,
+        long startUtcDays,
+        long endUtcDays
+    ) {
+
+        return build(chronology, "", startUtcDays, endUtcDays);
+
+    }
+
+    /**
+     * <p>Creates a table for given calendar family and variant. </p>
+     *
+     * @param   family          calendar family (for example {@code HijriCalendar.family()})
+     * @param   variant         calendar variant
+     * @param   startUtcDays    first epoch day since [1972-01-01] (inclusive)
+     * @param   endUtcDays      last epoch day since [1972-01-01] (exclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the calendar is not supported or if the range is invalid
+     * @throws  ArithmeticException if the range exceeds the limits of the calendar system
+     * @throws  net.time4j.engine.ChronoException if the variant is not available
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine Tabelle f&uuml;r die angegebene Kalenderfamilie und Variante. </p>
+     *
+     * @param   family          calendar family (for example {@code HijriCalendar.family()})
+     * @param   variant         calendar variant
+     * @param   startUtcDays    first epoch day since [1972-01-01] (inclusive)
+     * @param   endUtcDays      last epoch day since [1972-01-01] (exclusive)
+     * @return  new table
+     * @throws  IllegalArgumentException if the calendar is not supported or if the range is invalid
+     * @throws  ArithmeticException if the range exceeds the limits of the calendar system
+     * @throws  net.time4j.engine.ChronoException if the variant is not available
+     */
+    public static DayFieldTable of(
+        CalendarFamily<?> family,
+        String variant,
+        long startUtcDays,
+        long endUtcDays
+    ) {
+
+        if (variant.isEmpty()) {
+            throw new IllegalArgumentException("Missing calendar variant.");
+        }
+
+        return build(family, variant, startUtcDays, endUtcDays);
+
+    }
+
+    /**
+     * <p>Yields the count of days in this table. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Tage in dieser Tabelle. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.years.length;
+
+    }
+
+    /**
+     * <p>Yields the epoch day of given table index. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  count of days since UTC epoch [1972-01-01]
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Epochentag zum angegebenen Tabellenindex. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  count of days since UTC epoch [1972-01-01]
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public long getUtcDays(int index) {
+
+        this.check(index);
+        return this.start + index;
+
+    }
+
+    /**
+     * <p>Yields the era of given table index. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  era or {@code null} for the ISO-calendar
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die &Auml;ra zum angegebenen Tabellenindex. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  era or {@code null} for the ISO-calendar
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public CalendarEra getEra(int index) {
+
+        this.check(index);
+        return this.eras[this.eraIndices[index]];
+
+    }
+
+    /**
+     * <p>Yields the year of given table index. </p>
+     *
+     * <p>The year is defined in the same way as by the method {@code getYear()} of the calendar
+     * (the year of era for all calendars with eras). </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert das Jahr zum angegebenen Tabellenindex. </p>
+     *
+     * <p>Das Jahr ist genauso wie von der Methode {@code getYear()} des Kalenders definiert
+     * (das Jahr der &Auml;ra f&uuml;r alle Kalender mit &Auml;ren). </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  year
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getYear(int index) {
+
+        this.check(index);
+        return this.years[index];
+
+    }
+
+    /**
+     * <p>Yields the month of given table index. </p>
+     *
+     * <p>The month is the numerical value of the month of the calendar. Hebrew months are
+     * counted in civil order. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  month number starting with {@code 1}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Monat zum angegebenen Tabellenindex. </p>
+     *
+     * <p>Der Monat ist der numerische Wert des Monats des Kalenders. Hebr&auml;ische Monate
+     * werden in der zivilen Reihenfolge gez&auml;hlt. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  month number starting with {@code 1}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getMonth(int index) {
+
+        this.check(index);
+        return this.months[index];
+
+    }
+
+    /**
+     * <p>Yields the day of month of given table index. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  day of month starting with {@code 1}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert den Tag des Monats zum angegebenen Tabellenindex. </p>
+     *
+     * @param   index   table index in range {@code 0 <= index < size()}
+     * @return  day of month starting with {@code 1}
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public int getDayOfMonth(int index) {
+
+        this.check(index);
+        return this.days[index];
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("DayFieldTable[start=");
+        sb.append(this.start);
+        sb.append(",size=");
+        sb.append(this.size());
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private static <D> DayFieldTable build(
+        Chronology<D> chronology,
+        String variant,
+        long start,
+        long end
+    ) {
+
+        @SuppressWarnings("unchecked")
+        FieldReader<D> reader = (FieldReader<D>) READERS.get(chronology.getChronoType());
+
+        if (reader == null) {
+            throw new IllegalArgumentException("Unsupported calendar: " + chronology.getChronoType().getName());
+        } else if ((start > end) || (end - start > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Invalid range: [" + start + "/" + end + ")");
+        }
+
+        CalendarSystem<D> calsys = (
+            variant.isEmpty()
+            ? chronology.getCalendarSystem()
+            : chronology.getCalendarSystem(variant));
+
+        if ((start < end) && ((start < calsys.getMinimumSinceUTC()) || (end - 1 > calsys.getMaximumSinceUTC()))) {
+            throw new ArithmeticException("Range out of bounds: [" + start + "/" + end + ")");
+        }
+
+        int size = (int) (end - start);
+        int[] years = new int[size];
+        byte[] months = new byte[size];
+        byte[] days = new byte[size];
+        byte[] eraIndices = new byte[size];
+        CalendarEra[] eras = new CalendarEra[4];
+        int eraCount = 0;
+        int i = 0;
+
+        while (i < size) {
+            // nur der erste Tag eines Monats (oder des Bereichs) wird vom Kalendersystem konvertiert
+            D date = calsys.transform(start + i);
+            CalendarEra era = reader.era(date);
+            int e = 0;
+            while ((e < eraCount) && (eras[e] != era)) {
+                e++;
+            }
+            if (e == eraCount) {
+                if (eraCount == eras.length) {
+                    CalendarEra[] tmp = new CalendarEra[eraCount * 2];
+                    System.arraycopy(eras, 0, tmp, 0, eraCount);
+                    eras = tmp;
+                }
+                eras[eraCount++] = era;
+            }
+            int year = reader.year(date);
+            byte month = (byte) reader.month(date);
+            int dom = reader.dayOfMonth(date);
+            int n = Math.min(reader.lengthOfMonth(date) - dom + 1, size - i);
+            for (int k = 0; k < n; k++) {
+                years[i] = year;
+                months[i] = month;
+                days[i] = (byte) (dom + k);
+                eraIndices[i] = (byte) e;
+                i++;
+            }
+        }
+
+        return new DayFieldTable(start, years, months, days, eraIndices, eras);
+
+    }
+
+    private void check(int index) {
+
+        if ((index < 0) || (index >= this.years.length)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private abstract static class FieldReader<D> {
+
+        //~ Methoden ------------------------------------------------------
+
+        abstract CalendarEra era(D date);
+
+        abstract int year(D date);
+
+        abstract int month(D date);
+
+        abstract int dayOfMonth(D date);
+
+        abstract int lengthOfMonth(D date);
+
+    }
+
+}
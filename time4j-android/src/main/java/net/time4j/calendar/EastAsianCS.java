@@ -49,11 +49,73 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    private static final int YEAR_CACHE_SIZE = 64; // power of 2
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private volatile EastAsianData data = null; // lazy
+
+    // fallback memo for years outside of the precomputed table or if the table is missing,
+    // benign race: slots only contain immutable year structures
+    private final YearStructure[] years = new YearStructure[YEAR_CACHE_SIZE];
+
+    // cheap monitoring counters without synchronization, might miss some updates under concurrency
+    private long yearCacheHits = 0;
+    private long yearCacheMisses = 0;
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
     public final D transform(long utcDays) {
 
+        EastAsianData table = this.getData();
+        int monthIndex = table.findMonth(utcDays);
+
+        if (monthIndex >= 0) {
+            int yearIndex = table.findYear(monthIndex);
+            return this.createDate(
+                table.getElapsedYears(yearIndex),
+                table.getLeapMonth(yearIndex),
+                table.getPosition(monthIndex, yearIndex),
+                table.getFirstOfMonth(monthIndex),
+                utcDays);
+        }
+
+        // estimation of lunisolar year, can deviate by one year
+        int elapsedYears = (int) Math.floor((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR) + 1;
+        YearStructure ys = this.getYearStructure(elapsedYears);
+
+        while (utcDays < ys.firstOfMonth[0]) {
+            elapsedYears--;
+            ys = this.getYearStructure(elapsedYears);
+        }
+
+        while (utcDays >= ys.firstOfMonth[ys.firstOfMonth.length - 1]) {
+            elapsedYears++;
+            ys = this.getYearStructure(elapsedYears);
+        }
+
+        int pos = ys.firstOfMonth.length - 2;
+
+        while (ys.firstOfMonth[pos] > utcDays) {
+            pos--;
+        }
+
+        return this.createDate(elapsedYears, ys.leapMonth, pos, ys.firstOfMonth[pos], utcDays);
+
+    }
+
+    /**
+     * <p>Calculates the calendar date by help of astronomical calculations only. </p>
+     *
+     * <p>This method does not use the precomputed table and serves as fallback outside of
+     * the table range and as reference for the validation of the table. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  calendar date
+     */
+    final D transformAstronomically(long utcDays) {
+
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
         long m12 = this.newMoonOnOrAfter(s1 + 1);
@@ -127,11 +189,20 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     abstract int[] getLeapMonths();
 
+    // name of precomputed table in data directory
+    abstract String getDataName();
+
     // number of leap month or zero if no leap year
     final int getLeapMonth(
         int cycle,
         int yearOfCycle
     ) {
+        EastAsianData table = this.getData();
+        int yearIndex = table.getYearIndex(cycle, yearOfCycle);
+        if (yearIndex >= 0) {
+            return table.getLeapMonth(yearIndex);
+        }
+
         int[] leapMonths = this.getLeapMonths();
         int elapsedYears = (cycle - 1) * 60 + yearOfCycle - 1;
         int index = 2 * ((elapsedYears - leapMonths[0]) / 3); // first lower bound estimation
@@ -185,9 +256,15 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         ) {
             return false;
         } else if (dayOfMonth == 30) { // the only case when astronomical validation is required
-            long monthStart = this.firstDayOfMonth(cycle, yearOfCycle, month);
-            long nextNewMoon = this.newMoonOnOrAfter(monthStart + 1);
-            return (nextNewMoon - monthStart == 30);
+            EastAsianData table = this.getData();
+            int yearIndex = table.getYearIndex(cycle, yearOfCycle);
+            if (yearIndex >= 0) {
+                int monthIndex = table.getMonthIndex(yearIndex, month);
+                return (table.getFirstOfMonth(monthIndex + 1) - table.getFirstOfMonth(monthIndex) == 30);
+            }
+            YearStructure ys = this.getYearStructure((cycle - 1) * 60 + yearOfCycle);
+            int pos = ys.getPosition(month);
+            return (ys.firstOfMonth[pos + 1] - ys.firstOfMonth[pos] == 30);
         }
 
         return true;
@@ -198,9 +275,28 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int cycle,
         int yearOfCycle
     ) {
-        long midYear =
-            (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
-        return this.newYearOnOrBefore(midYear); // starts with new moon on or after winter solstice
+        EastAsianData table = this.getData();
+        int yearIndex = table.getYearIndex(cycle, yearOfCycle);
+        if (yearIndex >= 0) {
+            return table.getFirstOfYear(yearIndex);
+        }
+        int elapsedYears = (cycle - 1) * 60 + yearOfCycle;
+        YearStructure ys = this.years[elapsedYears & (YEAR_CACHE_SIZE - 1)];
+        if ((ys != null) && (ys.elapsedYears == elapsedYears)) {
+            this.yearCacheHits++;
+            return ys.firstOfMonth[0];
+        }
+        return this.newYearAstronomically(elapsedYears); // might be the year after maximum
+    }
+
+    // count of year structures found in fallback memo (for monitoring, approximate)
+    final long getYearCacheHits() {
+        return this.yearCacheHits;
+    }
+
+    // count of year structures which had to be calculated (for monitoring, approximate)
+    final long getYearCacheMisses() {
+        return this.yearCacheMisses;
     }
 
     // index of major solar term (used in test cases only)
@@ -221,6 +317,12 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     // result in utc-days
     final long newMoonOnOrAfter(long utcDays) {
+        EastAsianData table = this.getData();
+        int monthIndex = table.findMonth(utcDays);
+        if (monthIndex >= 0) {
+            long first = table.getFirstOfMonth(monthIndex);
+            return ((first == utcDays) ? first : table.getFirstOfMonth(monthIndex + 1));
+        }
         Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
@@ -280,14 +382,114 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
-        long newYear = this.newYear(cycle, yearOfCycle);
-        long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
+        EastAsianData table = this.getData();
+        int yearIndex = table.getYearIndex(cycle, yearOfCycle);
+        if (yearIndex >= 0) {
+            return table.getFirstOfMonth(table.getMonthIndex(yearIndex, month));
+        }
+        YearStructure ys = this.getYearStructure((cycle - 1) * 60 + yearOfCycle);
+        return ys.firstOfMonth[ys.getPosition(month)];
+    }
+
+    // creates the date for given position of month in lunisolar year (zero-based)
+    private D createDate(
+        int elapsedYears,
+        int leapMonth,
+        int pos,
+        long firstOfMonth,
+        long utcDays
+    ) {
+        int cycle = MathUtils.floorDivide(elapsedYears - 1, 60) + 1;
+        int yearOfCycle = MathUtils.floorModulo(elapsedYears, 60);
+
+        if (yearOfCycle == 0) {
+            yearOfCycle = 60;
+        }
+
+        EastAsianMonth eam;
 
-        if (month.equals(this.transform(approxStartOfMonth).getMonth())) {
-            return approxStartOfMonth;
+        if ((leapMonth == 0) || (pos < leapMonth)) {
+            eam = EastAsianMonth.valueOf(pos + 1);
+        } else if (pos == leapMonth) {
+            eam = EastAsianMonth.valueOf(leapMonth).withLeap();
         } else {
-            return this.newMoonOnOrAfter(approxStartOfMonth + 1);
+            eam = EastAsianMonth.valueOf(pos);
         }
+
+        int dayOfMonth = (int) (utcDays - firstOfMonth + 1);
+        return this.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+    }
+
+    // memoized structure of lunisolar year, only used as fallback if the precomputed table
+    // does not cover the year (far past or future) or could not be loaded at all
+    private YearStructure getYearStructure(int elapsedYears) {
+        int slot = elapsedYears & (YEAR_CACHE_SIZE - 1);
+        YearStructure ys = this.years[slot];
+
+        if ((ys != null) && (ys.elapsedYears == elapsedYears)) {
+            this.yearCacheHits++;
+            return ys;
+        }
+
+        this.yearCacheMisses++;
+        ys = this.calculateYearStructure(elapsedYears);
+        this.years[slot] = ys;
+        return ys;
+    }
+
+    // astronomical calculation of all month starts in given lunisolar year
+    private YearStructure calculateYearStructure(int elapsedYears) {
+        long start = this.newYearAstronomically(elapsedYears);
+        long end = this.newYearAstronomically(elapsedYears + 1);
+        long[] firstOfMonth = new long[14];
+        int n = 0;
+
+        for (long m = start; (m < end) && (n < 13); m = this.newMoonOnOrAfter(m + 1)) {
+            firstOfMonth[n++] = m;
+        }
+
+        firstOfMonth[n] = end;
+        int lm = 0;
+
+        if (n == 13) {
+            int cycle = MathUtils.floorDivide(elapsedYears - 1, 60) + 1;
+            int yearOfCycle = MathUtils.floorModulo(elapsedYears, 60);
+            lm = this.getLeapMonth(cycle, (yearOfCycle == 0) ? 60 : yearOfCycle);
+
+            for (int i = 1; (lm == 0) && (i < n); i++) { // outside of the range of known leap months
+                EastAsianMonth eam = this.transformAstronomically(firstOfMonth[i]).getMonth();
+                if (eam.isLeap()) {
+                    lm = eam.getNumber();
+                }
+            }
+        } else {
+            long[] tmp = new long[n + 1];
+            System.arraycopy(firstOfMonth, 0, tmp, 0, n + 1);
+            firstOfMonth = tmp;
+        }
+
+        return new YearStructure(elapsedYears, lm, firstOfMonth);
+    }
+
+    // start of lunisolar year by astronomical calculation
+    private long newYearAstronomically(int elapsedYears) {
+        long midYear = (long) Math.floor(EPOCH_CHINESE + (elapsedYears - 0.5) * MEAN_TROPICAL_YEAR);
+        return this.newYearOnOrBefore(midYear); // starts with new moon on or after winter solstice
+    }
+
+    // lazy loading of precomputed table, falls back to astronomical calculations if not available
+    private EastAsianData getData() {
+        EastAsianData table = this.data;
+        if (table == null) {
+            synchronized (this) {
+                table = this.data;
+                if (table == null) {
+                    table = EastAsianData.load(this.getDataName());
+                    this.data = table;
+                }
+            }
+        }
+        return table;
     }
 
     // search for winter solstice
@@ -304,4 +506,42 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         return d.getDaysSinceEpochUTC();
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class YearStructure {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int elapsedYears;
+        private final int leapMonth;
+        private final long[] firstOfMonth; // last entry is start of next year
+
+        //~ Konstruktoren -------------------------------------------------
+
+        YearStructure(
+            int elapsedYears,
+            int leapMonth,
+            long[] firstOfMonth
+        ) {
+            super();
+
+            this.elapsedYears = elapsedYears;
+            this.leapMonth = leapMonth;
+            this.firstOfMonth = firstOfMonth;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // zero-based position of given month in this year
+        int getPosition(EastAsianMonth month) {
+            int pos = month.getNumber() - 1;
+            if ((this.leapMonth > 0) && (month.isLeap() || (month.getNumber() > this.leapMonth))) {
+                pos++;
+            }
+            return pos;
+        }
+
+    }
+
 }
@@ -0,0 +1,296 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.DataInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+
+/**
+ * Precomputed table of lunisolar years for East Asian calendars.
+ *
+ * <p>Every year is stored as leap month indicator (byte, zero if there is no leap month) and as bit mask
+ * of month lengths (short, bit set means 30 days in ascending order of months). The table was generated
+ * by help of the astronomical calculations in {@code EastAsianCS} which remain the fallback outside of
+ * the table range. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+final class EastAsianData {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    static final EastAsianData EMPTY = new EastAsianData(0, new int[0], new int[0], new byte[0]);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int firstYear; // elapsed years since Chinese epoch (1-based)
+    private final int[] firstOfMonth; // utc-days, last entry is first day after table
+    private final int[] firstMonthOfYear; // indices into firstOfMonth
+    private final byte[] leapMonths;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EastAsianData(
+        int firstYear,
+        int[] firstOfMonth,
+        int[] firstMonthOfYear,
+        byte[] leapMonths
+    ) {
+        super();
+
+        this.firstYear = firstYear;
+        this.firstOfMonth = firstOfMonth;
+        this.firstMonthOfYear = firstMonthOfYear;
+        this.leapMonths = leapMonths;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Loads the table with given name. </p>
+     *
+     * @param   name    name of calendar type (for example &quot;chinese&quot;)
+     * @return  loaded table or {@code EMPTY} if the resource does not exist
+     * @throws  IllegalStateException if the resource cannot be read
+     */
+    static EastAsianData load(String name) {
+
+        String path = "data/" + name + ".data";
+        URI uri = ResourceLoader.getInstance().locate("calendar", EastAsianData.class, path);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+        try {
+            if (is == null) {
+                is = ResourceLoader.getInstance().load(EastAsianData.class, path, true);
+            }
+
+            DataInputStream in = new DataInputStream(is);
+            int epochDays = in.readInt();
+            int firstYear = in.readInt();
+            int count = in.readShort();
+            int[] firstOfMonth = new int[count * 13 + 1];
+            int[] firstMonthOfYear = new int[count + 1];
+            byte[] leapMonths = new byte[count];
+            int index = 0;
+
+            for (int y = 0; y < count; y++) {
+                byte lm = in.readByte();
+                int s = in.readShort();
+                leapMonths[y] = lm;
+                firstMonthOfYear[y] = index;
+
+                for (int m = 1; m <= ((lm == 0) ? 12 : 13); m++) {
+                    firstOfMonth[index++] = epochDays;
+                    epochDays += (((s & 0x1) == 1) ? 30 : 29);
+                    s >>>= 1;
+                }
+            }
+
+            firstOfMonth[index] = epochDays;
+            firstMonthOfYear[count] = index;
+            int[] months = new int[index + 1];
+            System.arraycopy(firstOfMonth, 0, months, 0, index + 1);
+            return new EastAsianData(firstYear, months, firstMonthOfYear, leapMonths);
+        } catch (FileNotFoundException fnfe) {
+            return EMPTY; // astronomical calculations only
+        } catch (IOException ioe) {
+            throw new IllegalStateException(ioe);
+        } finally {
+            try {
+                if (is != null) {
+                    is.close();
+                }
+            } catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Finds the month which contains given day. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  month index or {@code -1} if out of table range
+     */
+    int findMonth(long utcDays) {
+
+        int n = this.firstOfMonth.length - 1;
+
+        if ((n < 0) || (utcDays < this.firstOfMonth[0]) || (utcDays >= this.firstOfMonth[n])) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = n - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this.firstOfMonth[middle] <= utcDays) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    /**
+     * <p>Finds the year which contains given month. </p>
+     *
+     * @param   monthIndex  valid month index
+     * @return  year index
+     */
+    int findYear(int monthIndex) {
+
+        int low = 0;
+        int high = this.leapMonths.length - 1;
+
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (this.firstMonthOfYear[middle] <= monthIndex) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    /**
+     * <p>Determines the year index of given cyclic year. </p>
+     *
+     * @param   cycle           sexagesimal cycle
+     * @param   yearOfCycle     year of cycle in range 1-60
+     * @return  year index or {@code -1} if out of table range
+     */
+    int getYearIndex(
+        int cycle,
+        int yearOfCycle
+    ) {
+
+        int index = (cycle - 1) * 60 + yearOfCycle - this.firstYear;
+        return (((index < 0) || (index >= this.leapMonths.length)) ? -1 : index);
+
+    }
+
+    /**
+     * <p>Yields the elapsed years since the Chinese epoch (1-based). </p>
+     *
+     * @param   yearIndex   valid year index
+     * @return  elapsed years
+     */
+    int getElapsedYears(int yearIndex) {
+
+        return this.firstYear + yearIndex;
+
+    }
+
+    /**
+     * <p>Yields the number of the leap month or zero. </p>
+     *
+     * @param   yearIndex   valid year index
+     * @return  leap month number or zero if there is no leap month
+     */
+    int getLeapMonth(int yearIndex) {
+
+        return this.leapMonths[yearIndex];
+
+    }
+
+    /**
+     * <p>Determines the month index of given month in given year. </p>
+     *
+     * @param   yearIndex   valid year index
+     * @param   month       month which must be valid in given year
+     * @return  month index
+     */
+    int getMonthIndex(
+        int yearIndex,
+        EastAsianMonth month
+    ) {
+
+        int lm = this.leapMonths[yearIndex];
+        int pos = month.getNumber() - 1;
+
+        if ((lm > 0) && (month.isLeap() || (month.getNumber() > lm))) {
+            pos++;
+        }
+
+        return this.firstMonthOfYear[yearIndex] + pos;
+
+    }
+
+    /**
+     * <p>Yields the position of given month in its year. </p>
+     *
+     * @param   monthIndex  valid month index
+     * @param   yearIndex   year index of the month
+     * @return  position starting with zero
+     */
+    int getPosition(
+        int monthIndex,
+        int yearIndex
+    ) {
+
+        return monthIndex - this.firstMonthOfYear[yearIndex];
+
+    }
+
+    /**
+     * <p>Yields the first day of given month. </p>
+     *
+     * <p>The month index might also be the count of months in this table which yields the
+     * first day after the table range. </p>
+     *
+     * @param   monthIndex  month index
+     * @return  count of days since UTC epoch
+     */
+    long getFirstOfMonth(int monthIndex) {
+
+        return this.firstOfMonth[monthIndex];
+
+    }
+
+    /**
+     * <p>Yields the first day of given year. </p>
+     *
+     * @param   yearIndex   valid year index
+     * @return  count of days since UTC epoch
+     */
+    long getFirstOfYear(int yearIndex) {
+
+        return this.firstOfMonth[this.firstMonthOfYear[yearIndex]];
+
+    }
+
+}
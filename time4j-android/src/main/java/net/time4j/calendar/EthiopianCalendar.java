@@ -48,6 +48,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1151,7 +1152,7 @@ public final class EthiopianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<EthiopianCalendar, Integer> {
+        implements IntElementRule<EthiopianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1171,6 +1172,13 @@ public final class EthiopianCalendar
         @Override
         public Integer getValue(EthiopianCalendar context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(EthiopianCalendar context) {
+
             switch (this.index) {
                 case YEAR_INDEX:
                     return context.getYear();
@@ -1188,6 +1196,27 @@ public final class EthiopianCalendar
 
         }
 
+        @Override
+        public boolean isValid(
+            EthiopianCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public EthiopianCalendar withValue(
+            EthiopianCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
         @Override
         public Integer getMinimum(EthiopianCalendar context) {
 
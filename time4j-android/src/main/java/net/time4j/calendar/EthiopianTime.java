@@ -36,6 +36,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -1446,7 +1447,7 @@ public final class EthiopianTime
 
 
     private static class IntegerElementRule
-        implements ElementRule<EthiopianTime, Integer> {
+        implements IntElementRule<EthiopianTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1465,6 +1466,11 @@ public final class EthiopianTime
 
         @Override
         public Integer getValue(EthiopianTime context) {
+            return Integer.valueOf(this.getInt(context));
+        }
+
+        @Override
+        public int getInt(EthiopianTime context) {
             switch (this.index) {
                 case ETHIOPIAN_HOUR_INDEX:
                     return context.getHour();
@@ -1479,6 +1485,23 @@ public final class EthiopianTime
             }
         }
 
+        @Override
+        public boolean isValid(
+            EthiopianTime context,
+            int value
+        ) {
+            return this.isValid(context, Integer.valueOf(value));
+        }
+
+        @Override
+        public EthiopianTime withValue(
+            EthiopianTime context,
+            int value,
+            boolean lenient
+        ) {
+            return this.withValue(context, Integer.valueOf(value), lenient);
+        }
+
         @Override
         public Integer getMinimum(EthiopianTime context) {
             switch (this.index) {
@@ -186,6 +186,17 @@ public final class HebrewCalendar
 
     private static final long FIXED_EPOCH = PlainDate.of(-3760, 9, 7).get(EpochDays.RATA_DIE);
 
+    // start of years 0-10001 relative to FIXED_EPOCH (covers all supported years and their neighbours)
+    private static final int[] NEW_YEARS;
+
+    static {
+        int[] newYears = new int[10002];
+        for (int year = 0; year < newYears.length; year++) {
+            newYears[year] = (int) (hcCalculateNewYear(year) - FIXED_EPOCH);
+        }
+        NEW_YEARS = newYears;
+    }
+
     private static final int YEAR_INDEX = 0;
     private static final int DAY_OF_MONTH_INDEX = 2;
     private static final int DAY_OF_YEAR_INDEX = 3;
@@ -1173,6 +1184,16 @@ public final class HebrewCalendar
 
     private static long hcNewYear(int year) {
 
+        if ((year >= 0) && (year < NEW_YEARS.length)) {
+            return FIXED_EPOCH + NEW_YEARS[year];
+        }
+
+        return hcCalculateNewYear(year);
+
+    }
+
+    private static long hcCalculateNewYear(int year) {
+
         return FIXED_EPOCH + hcDelay1(year) + hcDelay2(year);
 
     }
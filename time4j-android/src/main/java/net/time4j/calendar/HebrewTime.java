@@ -43,6 +43,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.Temporal;
 import net.time4j.engine.TimeAxis;
@@ -1149,7 +1150,7 @@ public final class HebrewTime
     }
 
     private static class IntegerElementRule
-        implements ElementRule<HebrewTime, Integer> {
+        implements IntElementRule<HebrewTime> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1168,6 +1169,11 @@ public final class HebrewTime
 
         @Override
         public Integer getValue(HebrewTime context) {
+            return Integer.valueOf(this.getInt(context));
+        }
+
+        @Override
+        public int getInt(HebrewTime context) {
             switch (this.index) {
                 case HOUR12_INDEX:
                     return context.getClockHour();
@@ -1180,6 +1186,23 @@ public final class HebrewTime
             }
         }
 
+        @Override
+        public boolean isValid(
+            HebrewTime context,
+            int value
+        ) {
+            return this.isValid(context, Integer.valueOf(value));
+        }
+
+        @Override
+        public HebrewTime withValue(
+            HebrewTime context,
+            int value,
+            boolean lenient
+        ) {
+            return this.withValue(context, Integer.valueOf(value), lenient);
+        }
+
         @Override
         public Integer getMinimum(HebrewTime context) {
             switch (this.index) {
@@ -47,6 +47,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.ValidationElement;
 import net.time4j.engine.VariantSource;
@@ -1655,6 +1656,13 @@ public final class HijriCalendar
                         }
                     }
 
+                    if ((calsys == null) && (ha.getValue() != 0)) {
+                        EraYearMonthDaySystem<HijriCalendar> base = this.get(baseVariant);
+                        if (base instanceof AstronomicalHijriData) {
+                            calsys = AstronomicalHijriData.class.cast(base).withAdjustment(variant, ha.getValue());
+                        }
+                    }
+
                     if (calsys == null) {
                         try {
                             calsys = new AstronomicalHijriData(variant);
@@ -1680,7 +1688,7 @@ public final class HijriCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<HijriCalendar, Integer> {
+        implements IntElementRule<HijriCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1700,6 +1708,13 @@ public final class HijriCalendar
         @Override
         public Integer getValue(HijriCalendar context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(HijriCalendar context) {
+
             switch (this.index) {
                 case YEAR_INDEX:
                     return context.hyear;
@@ -1718,6 +1733,27 @@ public final class HijriCalendar
 
         }
 
+        @Override
+        public boolean isValid(
+            HijriCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public HijriCalendar withValue(
+            HijriCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
         @Override
         public Integer getMinimum(HijriCalendar context) {
 
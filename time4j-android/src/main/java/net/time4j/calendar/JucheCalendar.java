@@ -50,6 +50,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -250,7 +251,7 @@ public final class JucheCalendar
                 FieldRule.of(ERA))
             .appendElement(
                 YEAR_OF_ERA,
-                FieldRule.of(YEAR_OF_ERA),
+                new IntFieldRule(YEAR_OF_ERA),
                 CalendarUnit.YEARS)
             .appendElement(
                 MONTH_OF_YEAR,
@@ -261,11 +262,11 @@ public final class JucheCalendar
                 new RelatedGregorianYearRule<JucheCalendar>(CALSYS, DAY_OF_YEAR))
             .appendElement(
                 DAY_OF_MONTH,
-                FieldRule.of(DAY_OF_MONTH),
+                new IntFieldRule(DAY_OF_MONTH),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_YEAR,
-                FieldRule.of(DAY_OF_YEAR),
+                new IntFieldRule(DAY_OF_YEAR),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_WEEK,
@@ -1011,6 +1012,12 @@ public final class JucheCalendar
 
         }
 
+        ChronoElement<V> getElement() {
+
+            return this.element;
+
+        }
+
         private static int toNumber(Object value) {
 
             return Integer.class.cast(value).intValue();
@@ -1019,6 +1026,59 @@ public final class JucheCalendar
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<JucheCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(JucheCalendar context) {
+
+            ChronoElement<Integer> element = this.getElement();
+
+            if (element.equals(YEAR_OF_ERA)) {
+                return context.getYear();
+            } else if (element.equals(DAY_OF_MONTH)) {
+                return context.getDayOfMonth();
+            } else if (element.equals(DAY_OF_YEAR)) {
+                return context.getDayOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + element.name());
+
+        }
+
+        @Override
+        public boolean isValid(
+            JucheCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public JucheCalendar withValue(
+            JucheCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
+    }
+
     private static class JucheUnitRule
         implements UnitRule<JucheCalendar> {
 
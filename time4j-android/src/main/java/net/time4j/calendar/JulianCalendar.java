@@ -47,6 +47,7 @@ import net.time4j.engine.Chronology;
 import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1159,7 +1160,7 @@ public final class JulianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<JulianCalendar, Integer> {
+        implements IntElementRule<JulianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1179,6 +1180,13 @@ public final class JulianCalendar
         @Override
         public Integer getValue(JulianCalendar context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(JulianCalendar context) {
+
             switch (this.index) {
                 case YEAR_INDEX:
                     return context.getYear();
@@ -1196,6 +1204,27 @@ public final class JulianCalendar
 
         }
 
+        @Override
+        public boolean isValid(
+            JulianCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public JulianCalendar withValue(
+            JulianCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
         @Override
         public Integer getMinimum(JulianCalendar context) {
 
@@ -1301,14 +1330,42 @@ public final class JulianCalendar
     }
 
     private static class MonthRule
-        implements ElementRule<JulianCalendar, Integer> {
+        implements IntElementRule<JulianCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
         @Override
         public Integer getValue(JulianCalendar context) {
 
-            return Integer.valueOf(context.month);
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(JulianCalendar context) {
+
+            return context.month;
+
+        }
+
+        @Override
+        public boolean isValid(
+            JulianCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public JulianCalendar withValue(
+            JulianCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
 
         }
 
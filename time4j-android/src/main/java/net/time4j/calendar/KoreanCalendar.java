@@ -35,6 +35,7 @@ import net.time4j.engine.ChronoUnit;
 import net.time4j.engine.Chronology;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.ValidationElement;
 import net.time4j.format.CalendarType;
@@ -859,6 +860,11 @@ public final class KoreanCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        String getDataName() {
+            return "korean";
+        }
+
     }
 
     private static class EraRule
@@ -915,7 +921,7 @@ public final class KoreanCalendar
     }
 
     private static class YearOfEraRule
-        implements ElementRule<KoreanCalendar, Integer> {
+        implements IntElementRule<KoreanCalendar> {
 
         //~ Methoden ------------------------------------------------------
 
@@ -924,6 +930,11 @@ public final class KoreanCalendar
             return Integer.valueOf(this.getInt(context));
         }
 
+        @Override
+        public int getInt(KoreanCalendar context) {
+            return 60 * context.getCycle() + context.getYear().getNumber() - 364;
+        }
+
         @Override
         public Integer getMinimum(KoreanCalendar context) {
             return Integer.valueOf(1645 + 2333);
@@ -963,6 +974,23 @@ public final class KoreanCalendar
             }
         }
 
+        @Override
+        public boolean isValid(
+            KoreanCalendar context,
+            int value
+        ) {
+            return this.isValid(context, Integer.valueOf(value));
+        }
+
+        @Override
+        public KoreanCalendar withValue(
+            KoreanCalendar context,
+            int value,
+            boolean lenient
+        ) {
+            return this.withValue(context, Integer.valueOf(value), lenient);
+        }
+
         @Override
         public ChronoElement<?> getChildAtFloor(KoreanCalendar context) {
             throw new AbstractMethodError("Never called.");
@@ -973,10 +1001,6 @@ public final class KoreanCalendar
             throw new AbstractMethodError("Never called.");
         }
 
-        private int getInt(KoreanCalendar context) {
-            return 60 * context.getCycle() + context.getYear().getNumber() - 364;
-        }
-
     }
 
     private static class Merger
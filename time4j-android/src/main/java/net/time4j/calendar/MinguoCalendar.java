@@ -50,6 +50,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -253,7 +254,7 @@ public final class MinguoCalendar
                 FieldRule.of(ERA))
             .appendElement(
                 YEAR_OF_ERA,
-                FieldRule.of(YEAR_OF_ERA),
+                new IntFieldRule(YEAR_OF_ERA),
                 CalendarUnit.YEARS)
             .appendElement(
                 MONTH_OF_YEAR,
@@ -264,11 +265,11 @@ public final class MinguoCalendar
                 new RelatedGregorianYearRule<MinguoCalendar>(CALSYS, DAY_OF_YEAR))
             .appendElement(
                 DAY_OF_MONTH,
-                FieldRule.of(DAY_OF_MONTH),
+                new IntFieldRule(DAY_OF_MONTH),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_YEAR,
-                FieldRule.of(DAY_OF_YEAR),
+                new IntFieldRule(DAY_OF_YEAR),
                 CalendarUnit.DAYS)
             .appendElement(
                 DAY_OF_WEEK,
@@ -1065,6 +1066,12 @@ public final class MinguoCalendar
 
         }
 
+        ChronoElement<V> getElement() {
+
+            return this.element;
+
+        }
+
         private static int toNumber(Object value) {
 
             return Integer.class.cast(value).intValue();
@@ -1073,6 +1080,59 @@ public final class MinguoCalendar
 
     }
 
+    private static class IntFieldRule
+        extends FieldRule<Integer>
+        implements IntElementRule<MinguoCalendar> {
+
+        //~ Konstruktoren -------------------------------------------------
+
+        IntFieldRule(ChronoElement<Integer> element) {
+            super(element);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public int getInt(MinguoCalendar context) {
+
+            ChronoElement<Integer> element = this.getElement();
+
+            if (element.equals(YEAR_OF_ERA)) {
+                return context.getYear();
+            } else if (element.equals(DAY_OF_MONTH)) {
+                return context.getDayOfMonth();
+            } else if (element.equals(DAY_OF_YEAR)) {
+                return context.getDayOfYear();
+            }
+
+            throw new ChronoException("Missing rule for: " + element.name());
+
+        }
+
+        @Override
+        public boolean isValid(
+            MinguoCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public MinguoCalendar withValue(
+            MinguoCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
+    }
+
     private static class MinguoUnitRule
         implements UnitRule<MinguoCalendar> {
 
@@ -23,8 +23,10 @@ import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
+import net.time4j.base.ResourceLoader;
 import net.time4j.calendar.astro.AstronomicalSeason;
 import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.service.SeasonCache;
 import net.time4j.engine.AttributeKey;
 import net.time4j.engine.CalendarSystem;
 import net.time4j.engine.EpochDays;
@@ -32,6 +34,12 @@ import net.time4j.format.Attributes;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 
+import java.io.DataInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
 
 /**
  * <p>Enumeration of different calculation methods for the Persian calendar. </p>
@@ -346,6 +354,8 @@ public enum PersianAlgorithm {
      *     <li>The time zone offset is chosen as {@code UTC+03:30} if not specified otherwise. </li>
      *     <li>If the apparent vernal equinox is after noon then the next day is the start of Persian year. </li>
      *     <li>The maximum supported Persian year is 2378. </li>
+     *     <li>The start days of years for the standard offset {@code UTC+03:30} are precomputed
+     *     and loaded from a resource table. Other offsets are calculated on the fly. </li>
      * </ul>
      */
     /*[deutsch]
@@ -361,6 +371,8 @@ public enum PersianAlgorithm {
      *     <li>Wenn der Fr&uuml;hlingsbeginn (wahre Ortszeit) nach dem Mittag liegt, wird der n&auml;chste
      *     Tag der Start des persischen Jahres sein. </li>
      *     <li>Das maximal unterst&uuml;tzte persische Jahr ist 2378. </li>
+     *     <li>Die Jahresanf&auml;nge f&uuml;r die Standardverschiebung {@code UTC+03:30} sind vorberechnet
+     *     und werden aus einer Ressourcentabelle geladen. Andere Verschiebungen werden direkt berechnet. </li>
      * </ul>
      */
     ASTRONOMICAL() {
@@ -393,12 +405,10 @@ public enum PersianAlgorithm {
             if (date.getMonth() < 3) {
                 pyear--; // optimization
             }
-            PlainDate equinox = vernalEquinox(pyear, offset);
-            long delta = CalendarUnit.DAYS.between(equinox, date);
+            long delta = utcDays - nowruz(pyear, offset);
             while (delta < 0) {
                 pyear--;
-                equinox = vernalEquinox(pyear, offset);
-                delta = CalendarUnit.DAYS.between(equinox, date);
+                delta = utcDays - nowruz(pyear, offset);
             }
             int pmonth = 1;
             while (pmonth < 12) {
@@ -420,16 +430,31 @@ public enum PersianAlgorithm {
         ) {
             int pyear = date.getYear();
             int pmonth = date.getMonth().getValue();
-            long utcDays = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long utcDays = nowruz(pyear, offset);
             utcDays += ((pmonth) - 1) * 31 - ((pmonth / 7) * (pmonth - 7)) + date.getDayOfMonth() - 1;
             return utcDays;
         }
+        private long nowruz(
+            int pyear,
+            ZonalOffset offset
+        ) {
+            if (offset.equals(STD_OFFSET)) {
+                long utcDays = NowruzTable.get(pyear);
+                if (utcDays != Long.MIN_VALUE) {
+                    return utcDays;
+                }
+            }
+            return vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+        }
         private PlainDate vernalEquinox(
             int pyear,
             ZonalOffset offset
         ) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
+            SeasonCache cache = SeasonCache.find(AstronomicalSeason.VERNAL_EQUINOX, offset); // only fixed offsets
+            PlainTimestamp tsp = (
+                (cache == null)
+                ? AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset))
+                : cache.apparentTimeInYear(pyear + 621));
             if (tsp.getHour() >= 12) {
                 return tsp.getCalendarDate().plus(1, CalendarUnit.DAYS);
             } else {
@@ -584,4 +609,69 @@ public enum PersianAlgorithm {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    // precomputed start days of astronomical Persian years in standard offset of Iran, loaded on first use
+    private static class NowruzTable {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final int[] START_OF_YEAR = load(); // index = persian year - 1
+
+        //~ Methoden ------------------------------------------------------
+
+        // yields Long.MIN_VALUE if given year is not covered by the table
+        static long get(int pyear) {
+
+            if ((pyear >= 1) && (pyear <= START_OF_YEAR.length)) {
+                return START_OF_YEAR[pyear - 1];
+            }
+
+            return Long.MIN_VALUE;
+
+        }
+
+        // format: first day as int (UTC epoch days), last year as short and year lengths as bit set (1 = 366 days)
+        private static int[] load() {
+
+            String path = "data/persian.data";
+            URI uri = ResourceLoader.getInstance().locate("calendar", PersianAlgorithm.class, path);
+            InputStream is = ResourceLoader.getInstance().load(uri, true);
+
+            try {
+                if (is == null) {
+                    is = ResourceLoader.getInstance().load(PersianAlgorithm.class, path, true);
+                }
+
+                DataInputStream in = new DataInputStream(is);
+                int utcDays = in.readInt();
+                int count = in.readShort();
+                int[] table = new int[count];
+                byte[] bits = new byte[(count + 7) / 8]; // one bit per year
+                in.readFully(bits);
+
+                for (int i = 0; i < count; i++) {
+                    table[i] = utcDays;
+                    utcDays += ((((bits[i >> 3] >> (i & 7)) & 1) == 1) ? 366 : 365);
+                }
+
+                return table;
+            } catch (FileNotFoundException fnfe) {
+                return new int[0]; // astronomical calculations only
+            } catch (IOException ioe) {
+                throw new IllegalStateException(ioe);
+            } finally {
+                try {
+                    if (is != null) {
+                        is.close();
+                    }
+                } catch (IOException ex) {
+                    ex.printStackTrace(System.err);
+                }
+            }
+
+        }
+
+    }
+
 }
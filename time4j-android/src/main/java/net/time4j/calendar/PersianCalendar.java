@@ -49,6 +49,7 @@ import net.time4j.engine.DisplayStyle;
 import net.time4j.engine.ElementRule;
 import net.time4j.engine.EpochDays;
 import net.time4j.engine.FormattableElement;
+import net.time4j.engine.IntElementRule;
 import net.time4j.engine.StartOfDay;
 import net.time4j.engine.TimeAxis;
 import net.time4j.engine.UnitRule;
@@ -1453,7 +1454,7 @@ public final class PersianCalendar
     }
 
     private static class IntegerRule
-        implements ElementRule<PersianCalendar, Integer> {
+        implements IntElementRule<PersianCalendar> {
 
         //~ Instanzvariablen ----------------------------------------------
 
@@ -1473,6 +1474,13 @@ public final class PersianCalendar
         @Override
         public Integer getValue(PersianCalendar context) {
 
+            return Integer.valueOf(this.getInt(context));
+
+        }
+
+        @Override
+        public int getInt(PersianCalendar context) {
+
             switch (this.index) {
                 case YEAR_INDEX:
                     return context.pyear;
@@ -1490,6 +1498,27 @@ public final class PersianCalendar
 
         }
 
+        @Override
+        public boolean isValid(
+            PersianCalendar context,
+            int value
+        ) {
+
+            return this.isValid(context, Integer.valueOf(value));
+
+        }
+
+        @Override
+        public PersianCalendar withValue(
+            PersianCalendar context,
+            int value,
+            boolean lenient
+        ) {
+
+            return this.withValue(context, Integer.valueOf(value), lenient);
+
+        }
+
         @Override
         public Integer getMinimum(PersianCalendar context) {
 
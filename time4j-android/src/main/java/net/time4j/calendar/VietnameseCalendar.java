@@ -786,6 +786,11 @@ public final class VietnameseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        String getDataName() {
+            return "vietnamese";
+        }
+
         @Override
         boolean isValid(
             int cycle,
@@ -0,0 +1,152 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.Moment;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Central cache for astronomical events which are identified by an event type and an integral index
+ * like the count of lunations or the year. </p>
+ *
+ * <p>The moon phases obtained by {@link MoonPhase#atLunation(int)} (and hence also the methods
+ * {@code after()}, {@code atOrAfter()} and {@code before()}) and the seasons obtained by
+ * {@link AstronomicalSeason#inYear(int)} are served by this cache. All calendars relying on these events
+ * (for example Chinese, Hindu, Persian or French revolutionary calendar) share the results automatically.
+ * The cache is bounded: every event is stored in a fixed slot derived from its index, and a new entry just
+ * replaces an old one in the same slot. It is thread-safe and needs no configuration. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Zentraler Cache f&uuml;r astronomische Ereignisse, die durch einen Ereignistyp und einen
+ * ganzzahligen Index wie die Anzahl der Lunationen oder das Jahr bestimmt sind. </p>
+ *
+ * <p>Die Mondphasen, die mit {@link MoonPhase#atLunation(int)} (und damit auch mit den Methoden
+ * {@code after()}, {@code atOrAfter()} und {@code before()}) ermittelt werden, und die Jahreszeiten
+ * von {@link AstronomicalSeason#inYear(int)} werden von diesem Cache bedient. Alle Kalender, die
+ * diese Ereignisse nutzen (zum Beispiel der chinesische, der Hindu-, der persische oder der
+ * franz&ouml;sische Revolutionskalender), teilen sich automatisch die Ergebnisse. Der Cache ist
+ * beschr&auml;nkt: Jedes Ereignis wird in einer festen, von seinem Index abgeleiteten Position
+ * gespeichert, und ein neuer Eintrag ersetzt einfach einen alten an derselben Position. Er ist
+ * thread-sicher und braucht keine Konfiguration. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class AstronomicalEventCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int LUNATION_SLOTS = 8192; // power of two
+    private static final int SEASON_SLOTS = 4096; // power of two
+
+    private static final Entry[] LUNATIONS = new Entry[LUNATION_SLOTS];
+    private static final Entry[] SEASONS = new Entry[SEASON_SLOTS];
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private AstronomicalEventCache() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Removes all cached events. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle zwischengespeicherten Ereignisse. </p>
+     */
+    public static void clear() {
+
+        Arrays.fill(LUNATIONS, null);
+        Arrays.fill(SEASONS, null);
+
+    }
+
+    // used by MoonPhase.atLunation(int)
+    static Moment lunation(
+        MoonPhase phase,
+        int n
+    ) {
+
+        long key = n * 4L + phase.ordinal();
+        int slot = (int) (key & (LUNATION_SLOTS - 1));
+        Entry entry = LUNATIONS[slot]; // benign race, entries are immutable
+
+        if ((entry != null) && (entry.key == key)) {
+            return entry.moment;
+        }
+
+        Moment moment = phase.calculate(n);
+        LUNATIONS[slot] = new Entry(key, moment);
+        return moment;
+
+    }
+
+    // used by AstronomicalSeason.inYear(int)
+    static Moment season(
+        AstronomicalSeason season,
+        int year
+    ) {
+
+        long key = year * 4L + season.ordinal();
+        int slot = (int) (key & (SEASON_SLOTS - 1));
+        Entry entry = SEASONS[slot]; // benign race, entries are immutable
+
+        if ((entry != null) && (entry.key == key)) {
+            return entry.moment;
+        }
+
+        Moment moment = season.calculate(year);
+        SEASONS[slot] = new Entry(key, moment);
+        return moment;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long key;
+        private final Moment moment;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            long key,
+            Moment moment
+        ) {
+            super();
+
+            this.key = key;
+            this.moment = moment;
+
+        }
+
+    }
+
+}
@@ -153,6 +153,13 @@ public enum AstronomicalSeason {
 	public Moment inYear(int year) {
 
         checkYear(year);
+		return AstronomicalEventCache.season(this, year);
+
+	}
+
+	// called by AstronomicalEventCache
+	Moment calculate(int year) {
+
 		double tt = (this.jdEphemerisDays(year) - 2441317.5) * 86400.0;
 		boolean ls = LeapSeconds.getInstance().isEnabled();
 
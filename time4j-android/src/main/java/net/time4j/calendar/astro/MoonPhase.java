@@ -326,6 +326,13 @@ public enum MoonPhase {
 	 */
 	public Moment atLunation(int n) {
 
+		return AstronomicalEventCache.lunation(this, n);
+
+	}
+
+	// called by AstronomicalEventCache
+	Moment calculate(int n) {
+
 		// Meeus (Chapter 49)
 		double k = n + this.phase / 360.0;
 		double jct = k / 1236.85;
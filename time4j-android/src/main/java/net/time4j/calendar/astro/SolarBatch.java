@@ -0,0 +1,367 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.PlainDate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * <p>Calculates sunrise, sunset and noon transit for many locations and a range of days in one step. </p>
+ *
+ * <p>The solar declination and the equation of time only depend on the time but not on the location.
+ * The calculators {@link StdSolarCalculator#NOAA NOAA} and {@link StdSolarCalculator#CC CC} therefore
+ * evaluate these terms once for the whole date range (in steps of six hours, interpolated in between)
+ * and share them between all locations. The interpolation error is far below one second, but results
+ * might sometimes differ by one second from the results of {@link SolarTime#dailyEvents(PlainDate, PlainDate)}
+ * due to rounding. Other calculators will calculate every event directly. </p>
+ *
+ * <p>The work can be distributed among the threads of any {@code ExecutorService}. Example: </p>
+ *
+ * <pre>
+ *     SolarBatch batch = SolarBatch.of(latitudes, longitudes, altitudes, StdSolarCalculator.NOAA);
+ *     ExecutorService executor = Executors.newFixedThreadPool(4);
+ *     List&lt;SolarTime.DailyEvents&gt; events =
+ *          batch.calculate(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31), executor);
+ *     long sunriseOfFirstLocationOnFirstDay = events.get(0).getSunrise(0);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     SolarTime#dailyEvents(PlainDate, PlainDate)
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Berechnet Sonnenaufgang, Sonnenuntergang und Mittagsdurchgang f&uuml;r viele Orte und einen
+ * Bereich von Tagen in einem Schritt. </p>
+ *
+ * <p>Die Deklination der Sonne und die Zeitgleichung h&auml;ngen nur von der Zeit, aber nicht vom Ort
+ * ab. Die Rechner {@link StdSolarCalculator#NOAA NOAA} und {@link StdSolarCalculator#CC CC} werten
+ * diese Terme deshalb nur einmal f&uuml;r den ganzen Datumsbereich aus (in Schritten von sechs Stunden,
+ * dazwischen interpoliert) und teilen sie zwischen allen Orten. Der Interpolationsfehler liegt weit unter
+ * einer Sekunde, aber die Ergebnisse k&ouml;nnen wegen Rundung manchmal um eine Sekunde von den Ergebnissen
+ * von {@link SolarTime#dailyEvents(PlainDate, PlainDate)} abweichen. Andere Rechner berechnen jedes
+ * Ereignis direkt. </p>
+ *
+ * <p>Die Arbeit kann auf die Threads eines beliebigen {@code ExecutorService} verteilt werden. Beispiel: </p>
+ *
+ * <pre>
+ *     SolarBatch batch = SolarBatch.of(latitudes, longitudes, altitudes, StdSolarCalculator.NOAA);
+ *     ExecutorService executor = Executors.newFixedThreadPool(4);
+ *     List&lt;SolarTime.DailyEvents&gt; events =
+ *          batch.calculate(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31), executor);
+ *     long sunriseOfFirstLocationOnFirstDay = events.get(0).getSunrise(0);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @see     SolarTime#dailyEvents(PlainDate, PlainDate)
+ * @since   5.9
+ */
+public final class SolarBatch {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int CHUNK_SIZE = 64; // locations per task
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final StdSolarCalculator calculator;
+    private final SolarTime[] locations;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SolarBatch(
+        StdSolarCalculator calculator,
+        SolarTime[] locations
+    ) {
+        super();
+
+        this.calculator = calculator;
+        this.locations = locations;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a batch for given geographical locations. </p>
+     *
+     * <p>The arrays must have the same length. The element at index {@code i} of each array
+     * describes the location with index {@code i}. </p>
+     *
+     * @param   latitudes   geographical latitudes in decimal degrees ({@code -90.0 <= x <= +90.0})
+     * @param   longitudes  geographical longitudes in decimal degrees ({@code -180.0 <= y < 180.0})
+     * @param   altitudes   geographical altitudes relative to sea level in meters ({@code 0 <= a < 11,0000})
+     * @param   calculator  solar time calculator
+     * @return  new batch
+     * @throws  IllegalArgumentException if the arrays have different lengths or any coordinate is out of range
+     * @see     SolarTime#ofLocation(double, double, int, SolarTime.Calculator)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen Stapel f&uuml;r die angegebenen geographischen Orte. </p>
+     *
+     * <p>Die Arrays m&uuml;ssen die gleiche L&auml;nge haben. Das Element am Index {@code i} jedes
+     * Arrays beschreibt den Ort mit dem Index {@code i}. </p>
+     *
+     * @param   latitudes   geographical latitudes in decimal degrees ({@code -90.0 <= x <= +90.0})
+     * @param   longitudes  geographical longitudes in decimal degrees ({@code -180.0 <= y < 180.0})
+     * @param   altitudes   geographical altitudes relative to sea level in meters ({@code 0 <= a < 11,0000})
+     * @param   calculator  solar time calculator
+     * @return  new batch
+     * @throws  IllegalArgumentException if the arrays have different lengths or any coordinate is out of range
+     * @see     SolarTime#ofLocation(double, double, int, SolarTime.Calculator)
+     */
+    public static SolarBatch of(
+        double[] latitudes,
+        double[] longitudes,
+        int[] altitudes,
+        StdSolarCalculator calculator
+    ) {
+
+        if (calculator == null) {
+            throw new NullPointerException("Missing calculator.");
+        }
+
+        int n = latitudes.length;
+
+        if ((longitudes.length != n) || (altitudes.length != n)) {
+            throw new IllegalArgumentException(
+                "Arrays of coordinates have different lengths: "
+                    + n + "/" + longitudes.length + "/" + altitudes.length);
+        }
+
+        SolarTime[] locations = new SolarTime[n];
+
+        for (int i = 0; i < n; i++) {
+            locations[i] = SolarTime.ofLocation(latitudes[i], longitudes[i], altitudes[i], calculator);
+        }
+
+        return new SolarBatch(calculator, locations);
+
+    }
+
+    /**
+     * <p>Yields the count of locations. </p>
+     *
+     * @return  int
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Orte. </p>
+     *
+     * @return  int
+     */
+    public int size() {
+
+        return this.locations.length;
+
+    }
+
+    /**
+     * <p>Obtains the solar time of the location at given index. </p>
+     *
+     * @param   index   location index starting with zero
+     * @return  SolarTime
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    /*[deutsch]
+     * <p>Liefert die Sonnenzeit des Orts zum angegebenen Index. </p>
+     *
+     * @param   index   location index starting with zero
+     * @return  SolarTime
+     * @throws  IndexOutOfBoundsException if the index is out of range
+     */
+    public SolarTime getLocation(int index) {
+
+        return this.locations[index];
+
+    }
+
+    /**
+     * <p>Calculates the daily solar events of all locations in the current thread. </p>
+     *
+     * @param   from    first calendar date (inclusive)
+     * @param   to      last calendar date (inclusive)
+     * @return  unmodifiable list of daily solar events, one element per location in original order
+     * @throws  IllegalArgumentException if the end is before the start
+     */
+    /*[deutsch]
+     * <p>Berechnet die t&auml;glichen Sonnenereignisse aller Orte im aktuellen Thread. </p>
+     *
+     * @param   from    first calendar date (inclusive)
+     * @param   to      last calendar date (inclusive)
+     * @return  unmodifiable list of daily solar events, one element per location in original order
+     * @throws  IllegalArgumentException if the end is before the start
+     */
+    public List<SolarTime.DailyEvents> calculate(
+        PlainDate from,
+        PlainDate to
+    ) {
+
+        SolarTerms terms = this.createTerms(from, to);
+        SolarTime.DailyEvents[] results = new SolarTime.DailyEvents[this.locations.length];
+        this.calculate(from, to, terms, results, 0, results.length);
+        return Collections.unmodifiableList(Arrays.asList(results));
+
+    }
+
+    /**
+     * <p>Calculates the daily solar events of all locations in parallel using given executor. </p>
+     *
+     * <p>The locations are split into chunks which are submitted as separate tasks. This method
+     * waits for the completion of all tasks but does not shut down the executor. If any task fails
+     * then all outstanding tasks will be cancelled and the failure will be rethrown. </p>
+     *
+     * @param   from        first calendar date (inclusive)
+     * @param   to          last calendar date (inclusive)
+     * @param   executor    executor service which runs the calculation tasks
+     * @return  unmodifiable list of daily solar events, one element per location in original order
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  IllegalStateException if the current thread is interrupted while waiting
+     */
+    /*[deutsch]
+     * <p>Berechnet die t&auml;glichen Sonnenereignisse aller Orte parallel mit Hilfe des angegebenen
+     * {@code ExecutorService}. </p>
+     *
+     * <p>Die Orte werden in Teilmengen aufgeteilt, die als separate Aufgaben &uuml;bergeben werden.
+     * Diese Methode wartet auf die Fertigstellung aller Aufgaben, f&auml;hrt aber den {@code ExecutorService}
+     * nicht herunter. Schl&auml;gt eine Aufgabe fehl, werden alle noch ausstehenden Aufgaben abgebrochen,
+     * und der Fehler wird weitergeworfen. </p>
+     *
+     * @param   from        first calendar date (inclusive)
+     * @param   to          last calendar date (inclusive)
+     * @param   executor    executor service which runs the calculation tasks
+     * @return  unmodifiable list of daily solar events, one element per location in original order
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  IllegalStateException if the current thread is interrupted while waiting
+     */
+    public List<SolarTime.DailyEvents> calculate(
+        final PlainDate from,
+        final PlainDate to,
+        ExecutorService executor
+    ) {
+
+        if (executor == null) {
+            throw new NullPointerException("Missing executor.");
+        }
+
+        final SolarTerms terms = this.createTerms(from, to);
+        final SolarTime.DailyEvents[] results = new SolarTime.DailyEvents[this.locations.length];
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+
+        for (int i = 0; i < results.length; i += CHUNK_SIZE) {
+            final int start = i;
+            final int end = Math.min(i + CHUNK_SIZE, results.length);
+            futures.add(
+                executor.submit(
+                    new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            calculate(from, to, terms, results, start, end);
+                            return null;
+                        }
+                    }
+                )
+            );
+        }
+
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ie) {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for solar calculations.", ie);
+        } catch (ExecutionException ee) {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(results));
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(64);
+        sb.append("SolarBatch[calculator=");
+        sb.append(this.calculator.name());
+        sb.append(",size=");
+        sb.append(this.locations.length);
+        sb.append(']');
+        return sb.toString();
+
+    }
+
+    private SolarTerms createTerms(
+        PlainDate from,
+        PlainDate to
+    ) {
+
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End before start: " + from + "/" + to);
+        }
+
+        switch (this.calculator) {
+            case NOAA:
+            case CC:
+                return new SolarTerms(this.calculator, from, to);
+            default:
+                return null;
+        }
+
+    }
+
+    private void calculate(
+        PlainDate from,
+        PlainDate to,
+        SolarTerms terms,
+        SolarTime.DailyEvents[] results,
+        int start,
+        int end
+    ) {
+
+        for (int i = start; i < end; i++) {
+            SolarTime location = this.locations[i];
+            results[i] = location.dailyEvents(from, to, location.zenithAngle(), terms);
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar.astro;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+
+/**
+ * <p>Location-independent table of solar declination and equation of time for a range of days. </p>
+ *
+ * <p>The values are calculated once at equidistant nodes (every six hours in ephemeris time) and
+ * then interpolated quadratically. The interpolation error is far below one millisecond of time.
+ * Outside of the tabulated range the calculator will be used directly. Instances are immutable. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+final class SolarTerms {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final double STEP = 0.25; // in days
+    private static final int MARGIN = 2; // in days
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final StdSolarCalculator calculator;
+    private final double jde0;
+    private final double[] declinations; // in radians
+    private final double[] eots; // in seconds
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new table covering all solar events of given range of calendar dates. </p>
+     *
+     * @param   calculator  solar calculator whose terms are tabulated
+     * @param   from        first calendar date
+     * @param   to          last calendar date
+     */
+    SolarTerms(
+        StdSolarCalculator calculator,
+        PlainDate from,
+        PlainDate to
+    ) {
+        super();
+
+        double start = toJDE(from) - MARGIN;
+        double end = toJDE(to) + 1 + MARGIN;
+        int n = (int) Math.ceil((end - start) / STEP) + 1;
+
+        this.calculator = calculator;
+        this.jde0 = start;
+        this.declinations = new double[n];
+        this.eots = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            double jde = start + i * STEP;
+            this.declinations[i] = Math.toRadians(calculator.declination(jde));
+            this.eots[i] = calculator.equationOfTime(jde);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the declination of the sun in radians. </p>
+     *
+     * @param   jde     julian day in ephemeris time
+     * @return  declination in radians
+     */
+    double declinationRad(double jde) {
+
+        double value = interpolate(this.declinations, jde);
+        return (Double.isNaN(value) ? Math.toRadians(this.calculator.declination(jde)) : value);
+
+    }
+
+    /**
+     * <p>Yields the equation of time in seconds. </p>
+     *
+     * @param   jde     julian day in ephemeris time
+     * @return  equation of time in seconds
+     */
+    double equationOfTime(double jde) {
+
+        double value = interpolate(this.eots, jde);
+        return (Double.isNaN(value) ? this.calculator.equationOfTime(jde) : value);
+
+    }
+
+    // quadratic interpolation around the nearest node, NaN if out of range
+    private double interpolate(
+        double[] values,
+        double jde
+    ) {
+
+        double x = (jde - this.jde0) / STEP;
+        int n = values.length;
+
+        if (!(x >= 0.0) || (x > n - 1)) {
+            return Double.NaN;
+        }
+
+        int i = (int) Math.floor(x + 0.5);
+
+        if (i < 1) {
+            i = 1;
+        } else if (i > n - 2) {
+            i = n - 2;
+        }
+
+        double p = x - i;
+        double y0 = values[i - 1];
+        double y1 = values[i];
+        double y2 = values[i + 1];
+        return y1 + p * (y2 - y0) / 2 + p * p * (y2 - 2 * y1 + y0) / 2;
+
+    }
+
+    // start of day in ephemeris time
+    private static double toJDE(PlainDate date) {
+
+        double jd = EpochDays.JULIAN_DAY_NUMBER.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC) - 0.5;
+        return jd + TimeScale.deltaT(date) / 86400;
+
+    }
+
+}
@@ -1036,6 +1036,111 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Calculates sunrise, sunset and noon transit for all days of given date range at the location
+     * of this instance. </p>
+     *
+     * <p>Equivalent to the evaluation of the functions {@link #sunrise()}, {@link #sunset()} and
+     * {@link #transitAtNoon()} day by day, but the results are stored in primitive arrays, and the
+     * standard calculators share the common astronomical terms of a day among the events. Example: </p>
+     *
+     * <pre>
+     *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+     *     SolarTime.DailyEvents events =
+     *          hamburg.dailyEvents(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31));
+     *     long[] sunrises = events.getSunrises(); // in epoch seconds
+     * </pre>
+     *
+     * @param   from    first calendar date (inclusive)
+     * @param   to      last calendar date (inclusive)
+     * @return  table of daily solar events
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  UnsupportedOperationException if the calculator does not support the solar declination
+     *          and the sun neither rises nor sets on a day
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Berechnet Sonnenaufgang, Sonnenuntergang und Mittagsdurchgang f&uuml;r alle Tage des angegebenen
+     * Datumsbereichs an der Position dieser Instanz. </p>
+     *
+     * <p>&Auml;quivalent zur Auswertung der Funktionen {@link #sunrise()}, {@link #sunset()} und
+     * {@link #transitAtNoon()} Tag f&uuml;r Tag, aber die Ergebnisse werden in primitiven Arrays
+     * gespeichert, und die Standardrechner teilen die gemeinsamen astronomischen Terme eines Tages
+     * zwischen den Ereignissen. Beispiel: </p>
+     *
+     * <pre>
+     *     SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+     *     SolarTime.DailyEvents events =
+     *          hamburg.dailyEvents(PlainDate.of(2024, 1, 1), PlainDate.of(2024, 12, 31));
+     *     long[] sunrises = events.getSunrises(); // in epoch seconds
+     * </pre>
+     *
+     * @param   from    first calendar date (inclusive)
+     * @param   to      last calendar date (inclusive)
+     * @return  table of daily solar events
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  UnsupportedOperationException if the calculator does not support the solar declination
+     *          and the sun neither rises nor sets on a day
+     * @since   5.9
+     */
+    public DailyEvents dailyEvents(
+        PlainDate from,
+        PlainDate to
+    ) {
+
+        return this.dailyEvents(from, to, this.zenithAngle(), null);
+
+    }
+
+    /**
+     * <p>Calculates the times of given twilight at sunrise and sunset and the noon transit for all days
+     * of given date range at the location of this instance. </p>
+     *
+     * <p>Equivalent to the evaluation of the functions {@link #sunrise(Twilight)}, {@link #sunset(Twilight)}
+     * and {@link #transitAtNoon()} day by day. The flags for polar night and midnight sun refer to the
+     * twilight angle in this case, that is: the sun does not reach or never falls below given twilight
+     * depression. </p>
+     *
+     * @param   from        first calendar date (inclusive)
+     * @param   to          last calendar date (inclusive)
+     * @param   twilight    relevant definition of twilight
+     * @return  table of daily solar events
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  UnsupportedOperationException if the calculator does not support the solar declination
+     *          and the twilight events do not happen on a day
+     * @see     #dailyEvents(PlainDate, PlainDate)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Berechnet die Zeiten der angegebenen D&auml;mmerung zum Sonnenaufgang und Sonnenuntergang und
+     * den Mittagsdurchgang f&uuml;r alle Tage des angegebenen Datumsbereichs an der Position dieser
+     * Instanz. </p>
+     *
+     * <p>&Auml;quivalent zur Auswertung der Funktionen {@link #sunrise(Twilight)}, {@link #sunset(Twilight)}
+     * und {@link #transitAtNoon()} Tag f&uuml;r Tag. Die Kennzeichen f&uuml;r Polarnacht und Mitternachtssonne
+     * beziehen sich in diesem Fall auf den D&auml;mmerungswinkel, das hei&szlig;t: Die Sonne erreicht die
+     * angegebene D&auml;mmerungstiefe nicht oder f&auml;llt nie darunter. </p>
+     *
+     * @param   from        first calendar date (inclusive)
+     * @param   to          last calendar date (inclusive)
+     * @param   twilight    relevant definition of twilight
+     * @return  table of daily solar events
+     * @throws  IllegalArgumentException if the end is before the start
+     * @throws  UnsupportedOperationException if the calculator does not support the solar declination
+     *          and the twilight events do not happen on a day
+     * @see     #dailyEvents(PlainDate, PlainDate)
+     * @since   5.9
+     */
+    public DailyEvents dailyEvents(
+        PlainDate from,
+        PlainDate to,
+        Twilight twilight
+    ) {
+
+        return this.dailyEvents(from, to, 90.0 + this.geodeticAngle() + twilight.getAngle(), null);
+
+    }
+
     @Override
     public boolean equals(Object obj) {
 
@@ -1310,6 +1415,18 @@ public final class SolarTime
         String calculator
     ) {
 
+        return fromLocalEvent(date, hourOfEvent, longitude, calculator, null);
+
+    }
+
+    static Moment fromLocalEvent(
+        CalendarDate date,
+        int hourOfEvent,
+        double longitude,
+        String calculator,
+        SolarTerms terms
+    ) {
+
         // numerical approximation of equation-of-time in two steps
         Calculator c = CALCULATORS.get(calculator);
         double elapsed = date.getDaysSinceEpochUTC() * 86400 + hourOfEvent * 3600 - longitude * 240;
@@ -1321,12 +1438,14 @@ public final class SolarTime
             scale = TimeScale.POSIX;
         }
         Moment m1 = Moment.of(secs, nanos, scale);
-        double eot = c.equationOfTime(JulianDay.getValue(m1, TimeScale.TT)); // first step
+        double jde = JulianDay.getValue(m1, TimeScale.TT);
+        double eot = ((terms == null) ? c.equationOfTime(jde) : terms.equationOfTime(jde)); // first step
 
         secs = (long) Math.floor(eot);
         nanos = (int) ((eot - secs) * 1000000000);
         Moment m2 = m1.minus(secs, TimeUnit.SECONDS).minus(nanos, TimeUnit.NANOSECONDS);
-        eot = c.equationOfTime(JulianDay.getValue(m2, TimeScale.TT)); // second step
+        jde = JulianDay.getValue(m2, TimeScale.TT);
+        eot = ((terms == null) ? c.equationOfTime(jde) : terms.equationOfTime(jde)); // second step
 
         secs = (long) Math.floor(eot);
         nanos = (int) ((eot - secs) * 1000000000);
@@ -1361,6 +1480,72 @@ public final class SolarTime
         return utc.with(Moment.PRECISION, precision(calculator));
     }
 
+    /**
+     * <p>Calculates the daily events using given shared terms of the calculator (maybe {@code null}). </p>
+     *
+     * @param   from        first calendar date (inclusive)
+     * @param   to          last calendar date (inclusive)
+     * @param   zenith      the value for the sun distance from zenith in degrees
+     * @param   terms       shared location-independent terms or {@code null} for direct calculation
+     * @return  table of daily solar events
+     */
+    DailyEvents dailyEvents(
+        PlainDate from,
+        PlainDate to,
+        double zenith,
+        SolarTerms terms
+    ) {
+
+        long start = from.getDaysSinceEpochUTC();
+        long end = to.getDaysSinceEpochUTC();
+
+        if (end < start) {
+            throw new IllegalArgumentException("End before start: " + from + "/" + to);
+        }
+
+        int n = MathUtils.safeCast(end - start + 1);
+        long[] sunrises = new long[n];
+        long[] sunsets = new long[n];
+        long[] noons = new long[n];
+        byte[] flags = new byte[n];
+        Calculator c = this.getCalculator();
+        StdSolarCalculator std = ((c instanceof StdSolarCalculator) ? (StdSolarCalculator) c : null);
+        Moment[] events = new Moment[3];
+
+        for (int i = 0; i < n; i++) {
+            CalendarDate date = this.toLMT(PlainDate.of(start + i, EpochDays.UTC));
+
+            if (std == null) {
+                events[0] = c.sunrise(date, this.latitude, this.longitude, zenith);
+                events[1] = c.sunset(date, this.latitude, this.longitude, zenith);
+                events[2] = null;
+            } else {
+                std.calculateDay(date, this.latitude, this.longitude, zenith, terms, events);
+            }
+
+            if (events[2] == null) {
+                Moment utc = fromLocalEvent(date, 12, this.longitude, this.calculator, terms);
+                events[2] = utc.with(Moment.PRECISION, precision(this.calculator));
+            }
+
+            sunrises[i] = ((events[0] == null) ? DailyEvents.NO_EVENT : events[0].getPosixTime());
+            sunsets[i] = ((events[1] == null) ? DailyEvents.NO_EVENT : events[1].getPosixTime());
+            noons[i] = events[2].getPosixTime();
+
+            if ((events[0] == null) && (events[1] == null)) {
+                int cmp = Double.compare(this.getHighestElevationOfSun(toGregorian(date)), 90 - zenith);
+                if (cmp < 0) {
+                    flags[i] = DailyEvents.POLAR_NIGHT;
+                } else if (cmp > 0) {
+                    flags[i] = DailyEvents.MIDNIGHT_SUN;
+                }
+            }
+        }
+
+        return new DailyEvents(from, sunrises, sunsets, noons, flags);
+
+    }
+
     private void checkShadow(
         double objectHeight,
         double shadowLength
@@ -1427,7 +1612,7 @@ public final class SolarTime
         return this.getCalculator().getGeodeticAngle(this.latitude, this.altitude);
     }
 
-    private double zenithAngle() {
+    double zenithAngle() {
         return this.getCalculator().getZenithAngle(this.latitude, this.altitude);
     }
 
@@ -2372,4 +2557,283 @@ public final class SolarTime
 
     }
 
+
+    /**
+     * <p>Table of solar events for consecutive days in epoch seconds. </p>
+     *
+     * <p>All times are counted in seconds since the UNIX epoch 1970-01-01T00:00Z (POSIX time, fractional
+     * seconds truncated). A missing sunrise or sunset is indicated by {@link #NO_EVENT}. Instances are
+     * immutable. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     SolarTime#dailyEvents(PlainDate, PlainDate)
+     * @see     SolarTime#dailyEvents(PlainDate, PlainDate, Twilight)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Tabelle von Sonnenereignissen f&uuml;r aufeinanderfolgende Tage in Epochensekunden. </p>
+     *
+     * <p>Alle Zeiten werden in Sekunden seit der UNIX-Epoche 1970-01-01T00:00Z gez&auml;hlt (POSIX-Zeit,
+     * Sekundenbruchteile abgeschnitten). Ein fehlender Sonnenaufgang oder -untergang wird durch
+     * {@link #NO_EVENT} angezeigt. Instanzen sind unver&auml;nderlich. </p>
+     *
+     * @author  Meno Hochschild
+     * @see     SolarTime#dailyEvents(PlainDate, PlainDate)
+     * @see     SolarTime#dailyEvents(PlainDate, PlainDate, Twilight)
+     * @since   5.9
+     */
+    public static final class DailyEvents {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        /**
+         * <p>Marker value for a sunrise or sunset which does not happen on a day. </p>
+         */
+        /*[deutsch]
+         * <p>Markierungswert f&uuml;r einen Sonnenaufgang oder -untergang, der an einem Tag nicht
+         * stattfindet. </p>
+         */
+        public static final long NO_EVENT = Long.MIN_VALUE;
+
+        private static final byte POLAR_NIGHT = 1;
+        private static final byte MIDNIGHT_SUN = 2;
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final PlainDate start;
+        private final long[] sunrises;
+        private final long[] sunsets;
+        private final long[] noons;
+        private final byte[] flags;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private DailyEvents(
+            PlainDate start,
+            long[] sunrises,
+            long[] sunsets,
+            long[] noons,
+            byte[] flags
+        ) {
+            super();
+
+            this.start = start;
+            this.sunrises = sunrises;
+            this.sunsets = sunsets;
+            this.noons = noons;
+            this.flags = flags;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the count of days in this table. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der Tage in dieser Tabelle. </p>
+         *
+         * @return  int
+         */
+        public int size() {
+
+            return this.flags.length;
+
+        }
+
+        /**
+         * <p>Yields the calendar date at given index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  PlainDate
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert das Kalenderdatum zum angegebenen Index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  PlainDate
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public PlainDate getDate(int index) {
+
+            if ((index < 0) || (index >= this.flags.length)) {
+                throw new IndexOutOfBoundsException("Index out of range: " + index);
+            }
+
+            return this.start.plus(index, CalendarUnit.DAYS);
+
+        }
+
+        /**
+         * <p>Yields the sunrise at given index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds or {@link #NO_EVENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Sonnenaufgang zum angegebenen Index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds or {@link #NO_EVENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public long getSunrise(int index) {
+
+            return this.sunrises[index];
+
+        }
+
+        /**
+         * <p>Yields the sunset at given index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds or {@link #NO_EVENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Sonnenuntergang zum angegebenen Index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds or {@link #NO_EVENT}
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public long getSunset(int index) {
+
+            return this.sunsets[index];
+
+        }
+
+        /**
+         * <p>Yields the noon transit at given index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Liefert den Mittagsdurchgang zum angegebenen Index. </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  epoch seconds
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public long getNoon(int index) {
+
+            return this.noons[index];
+
+        }
+
+        /**
+         * <p>Does the sun stay below the horizon (or twilight depression) all day at given index? </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  boolean
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Bleibt die Sonne am angegebenen Index den ganzen Tag unter dem Horizont (oder
+         * der D&auml;mmerungstiefe)? </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  boolean
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public boolean isPolarNight(int index) {
+
+            return (this.flags[index] == POLAR_NIGHT);
+
+        }
+
+        /**
+         * <p>Does the sun stay above the horizon (or twilight depression) all day at given index? </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  boolean
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        /*[deutsch]
+         * <p>Bleibt die Sonne am angegebenen Index den ganzen Tag &uuml;ber dem Horizont (oder
+         * der D&auml;mmerungstiefe)? </p>
+         *
+         * @param   index   day index starting with zero
+         * @return  boolean
+         * @throws  IndexOutOfBoundsException if the index is out of range
+         */
+        public boolean isMidnightSun(int index) {
+
+            return (this.flags[index] == MIDNIGHT_SUN);
+
+        }
+
+        /**
+         * <p>Yields a copy of all sunrises in epoch seconds. </p>
+         *
+         * @return  new array with one element per day
+         * @see     #NO_EVENT
+         */
+        /*[deutsch]
+         * <p>Liefert eine Kopie aller Sonnenaufg&auml;nge in Epochensekunden. </p>
+         *
+         * @return  new array with one element per day
+         * @see     #NO_EVENT
+         */
+        public long[] getSunrises() {
+
+            return this.sunrises.clone();
+
+        }
+
+        /**
+         * <p>Yields a copy of all sunsets in epoch seconds. </p>
+         *
+         * @return  new array with one element per day
+         * @see     #NO_EVENT
+         */
+        /*[deutsch]
+         * <p>Liefert eine Kopie aller Sonnenunterg&auml;nge in Epochensekunden. </p>
+         *
+         * @return  new array with one element per day
+         * @see     #NO_EVENT
+         */
+        public long[] getSunsets() {
+
+            return this.sunsets.clone();
+
+        }
+
+        /**
+         * <p>Yields a copy of all noon transits in epoch seconds. </p>
+         *
+         * @return  new array with one element per day
+         */
+        /*[deutsch]
+         * <p>Liefert eine Kopie aller Mittagsdurchg&auml;nge in Epochensekunden. </p>
+         *
+         * @return  new array with one element per day
+         */
+        public long[] getNoons() {
+
+            return this.noons.clone();
+
+        }
+
+        @Override
+        public String toString() {
+
+            StringBuilder sb = new StringBuilder(64);
+            sb.append("DailyEvents[start=");
+            sb.append(this.start);
+            sb.append(",size=");
+            sb.append(this.flags.length);
+            sb.append(']');
+            return sb.toString();
+
+        }
+
+    }
+
 }
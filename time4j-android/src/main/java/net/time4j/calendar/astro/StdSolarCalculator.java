@@ -403,6 +403,20 @@ public enum StdSolarCalculator
             double ra = Math.toDegrees(Math.atan2(y, Math.cos(lRad)));
             return AstroUtils.toRange_0_360(ra);
         }
+        @Override
+        void calculateDay(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            SolarTerms terms,
+            Moment[] events
+        ) {
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name(), terms); // noon
+            events[0] = this.event(true, m, latitude, zenith, terms);
+            events[1] = this.event(false, m, latitude, zenith, terms);
+            events[2] = m.with(Moment.PRECISION, TimeUnit.SECONDS);
+        }
         private Moment event(
             boolean rise,
             CalendarDate date,
@@ -411,12 +425,21 @@ public enum StdSolarCalculator
             double zenith
         ) {
             Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
+            return this.event(rise, m, latitude, zenith, null);
+        }
+        private Moment event(
+            boolean rise,
+            Moment m,
+            double latitude,
+            double zenith,
+            SolarTerms terms
+        ) {
             double jde = JulianDay.getValue(m, TimeScale.TT);
-            double H = localHourAngle(rise, jde, latitude, zenith);
+            double H = localHourAngle(rise, jde, latitude, zenith, terms);
             if (Double.isNaN(H)) {
                 return null;
             } else {
-                H = localHourAngle(rise, jde + H / 86400, latitude, zenith); // corrected for local time of day
+                H = localHourAngle(rise, jde + H / 86400, latitude, zenith, terms); // corrected for local time of day
                 if (Double.isNaN(H)) {
                     return null;
                 } else {
@@ -427,9 +450,10 @@ public enum StdSolarCalculator
                 }
             }
         }
-        private double localHourAngle(boolean rise, double jde, double latitude, double zenith) {
-            double jct = toJulianCenturies(jde);
-            double H = localHourAngle(jct, latitude, zenith);
+        private double localHourAngle(boolean rise, double jde, double latitude, double zenith, SolarTerms terms) {
+            double decInRad =
+                (terms == null) ? declinationRad(toJulianCenturies(jde)) : terms.declinationRad(jde);
+            double H = localHourAngle(decInRad, latitude, zenith);
             if (Double.isNaN(H)) {
                 return Double.NaN;
             } else {
@@ -460,12 +484,11 @@ public enum StdSolarCalculator
         }
         // W2-term in NOAA-Excel-sheet
         private double localHourAngle(
-            double jct,
+            double decInRad,
             double latitude,
             double zenith
         ) {
             double latInRad = Math.toRadians(latitude);
-            double decInRad = declinationRad(jct);
             double cosH =
                 (Math.cos(Math.toRadians(zenith)) - (Math.sin(decInRad) * Math.sin(latInRad)))
                     / (Math.cos(decInRad) * Math.cos(latInRad));
@@ -542,6 +565,21 @@ public enum StdSolarCalculator
         public Moment sunset(CalendarDate date, double latitude, double longitude, double zenith) {
             return this.event(false, date, latitude, longitude, zenith);
         }
+        @Override
+        void calculateDay(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            SolarTerms terms,
+            Moment[] events
+        ) {
+            double jdn = EpochDays.JULIAN_DAY_NUMBER.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC);
+            double offset = this.offset(date, longitude);
+            events[0] = this.event(true, jdn + 0.25, latitude, offset, zenith, terms);
+            events[1] = this.event(false, jdn + 0.75, latitude, offset, zenith, terms);
+            events[2] = null;
+        }
         private Moment event(
             boolean rise,
             CalendarDate date,
@@ -553,12 +591,26 @@ public enum StdSolarCalculator
                 rise ? 0.25 : 0.75;
             double lmt =
                 (EpochDays.JULIAN_DAY_NUMBER.transform(date.getDaysSinceEpochUTC(), EpochDays.UTC) + daypart);
+            return this.event(rise, lmt, latitude, this.offset(date, longitude), zenith, null);
+        }
+        private double offset(
+            CalendarDate date,
+            double longitude
+        ) {
             double ephemeris =
                 TimeScale.deltaT(SolarTime.toGregorian(date)) - 43200; // last term because JD starts at noon
-            double offset =
-                (ZonalOffset.atLongitude(new BigDecimal(longitude)).getIntegralAmount() - ephemeris) / 86400.0;
+            return (ZonalOffset.atLongitude(new BigDecimal(longitude)).getIntegralAmount() - ephemeris) / 86400.0;
+        }
+        private Moment event(
+            boolean rise,
+            double lmt,
+            double latitude,
+            double offset,
+            double zenith,
+            SolarTerms terms
+        ) {
             double result =
-                momentOfDepression(lmt, latitude, offset, zenith - 90.0, rise);
+                momentOfDepression(lmt, latitude, offset, zenith - 90.0, rise, terms);
             if (Double.isNaN(result)) {
                 return null;
             } else {
@@ -636,42 +688,45 @@ public enum StdSolarCalculator
             double latitude,
             double offset,
             double alpha,
-            boolean early
+            boolean early,
+            SolarTerms terms
         ) {
-            double lmt2 = approxMomentOfDepression(lmt, latitude, offset, alpha, early);
+            double lmt2 = approxMomentOfDepression(lmt, latitude, offset, alpha, early, terms);
             if (Double.isNaN(lmt2)) {
                 return Double.NaN;
             }
             if (Math.abs(lmt - lmt2) * 86400 < 30) {
                 return lmt2;
             }
-            return momentOfDepression(lmt2, latitude, offset, alpha, early);
+            return momentOfDepression(lmt2, latitude, offset, alpha, early, terms);
         }
         private double approxMomentOfDepression(
             double lmt,
             double latitude,
             double offset,
             double alpha,
-            boolean early
+            boolean early,
+            SolarTerms terms
         ) {
             long date = (long) Math.floor(lmt);
-            double ttry = sineOffset(lmt - offset, latitude, alpha);
+            double ttry = sineOffset(lmt - offset, latitude, alpha, terms);
             double alt = (alpha >= 0) ? (early ? date : date + 1) : date + 0.5;
-            double value = (Math.abs(ttry) > 1) ? sineOffset(alt - offset, latitude, alpha) : ttry;
+            double value = (Math.abs(ttry) > 1) ? sineOffset(alt - offset, latitude, alpha, terms) : ttry;
             if (Math.abs(value) <= 1) {
                 double tmp = (early ? -1 : 1);
                 tmp *= (((0.5 + Math.toDegrees(Math.asin(value)) / 360.0) % 1) - 0.25);
                 tmp += date;
                 tmp += 0.5;
-                return tmp - equationOfTime(tmp - offset) / 86400; // not very precise, see p.184
+                double eot = (terms == null) ? equationOfTime(tmp - offset) : terms.equationOfTime(tmp - offset);
+                return tmp - eot / 86400; // not very precise, see p.184
             } else {
                 return Double.NaN;
             }
         }
-        private double sineOffset(double jde, double latitude, double alpha) {
-            double jct = toJulianCenturies(jde);
+        private double sineOffset(double jde, double latitude, double alpha, SolarTerms terms) {
             double latInRad = Math.toRadians(latitude);
-            double decInRad = declinationRad(jct);
+            double decInRad =
+                (terms == null) ? declinationRad(toJulianCenturies(jde)) : terms.declinationRad(jde);
             return Math.tan(latInRad) * Math.tan(decInRad)
                 + Math.sin(Math.toRadians(alpha)) / (Math.cos(decInRad) * Math.cos(latInRad));
         }
@@ -838,6 +893,20 @@ public enum StdSolarCalculator
             double refraction = AstroUtils.refractionFactorOfStdAtmosphere(altitude) * SolarTime.STD_REFRACTION;
             return 90 + this.getGeodeticAngle(latitude, altitude) + ((SolarTime.SUN_RADIUS + refraction) / 60.0);
         }
+        @Override
+        void calculateDay(
+            CalendarDate date,
+            double latitude,
+            double longitude,
+            double zenith,
+            SolarTerms terms,
+            Moment[] events
+        ) {
+            Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
+            events[0] = this.event(true, m, latitude, zenith);
+            events[1] = this.event(false, m, latitude, zenith);
+            events[2] = m.with(Moment.PRECISION, TimeUnit.SECONDS);
+        }
         private Moment event(
             boolean rise,
             CalendarDate date,
@@ -846,6 +915,14 @@ public enum StdSolarCalculator
             double zenith
         ) {
             Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
+            return this.event(rise, m, latitude, zenith);
+        }
+        private Moment event(
+            boolean rise,
+            Moment m,
+            double latitude,
+            double zenith
+        ) {
             double jde = JulianDay.getValue(m, TimeScale.TT);
             double oldH;
             double newH = 0.0;
@@ -931,6 +1008,32 @@ public enum StdSolarCalculator
 
     //~ Methoden ----------------------------------------------------------
 
+    /**
+     * <p>Calculates sunrise (index 0), sunset (index 1) and noon transit (index 2) of given day. </p>
+     *
+     * <p>Used by range calculations in {@code SolarTime}. Implementations can share the common
+     * terms of a day. If the noon transit is not determined here then it will be {@code null}. </p>
+     *
+     * @param   date        calendar date
+     * @param   latitude    geographical latitude in degrees
+     * @param   longitude   geographical longitude in degrees
+     * @param   zenith      the value for the sun distance from zenith in degrees
+     * @param   terms       shared location-independent terms or {@code null} (only used by NOAA and CC)
+     * @param   events      array of length three to be filled with results (maybe {@code null})
+     */
+    void calculateDay(
+        CalendarDate date,
+        double latitude,
+        double longitude,
+        double zenith,
+        SolarTerms terms,
+        Moment[] events
+    ) {
+        events[0] = this.sunrise(date, latitude, longitude, zenith);
+        events[1] = this.sunset(date, latitude, longitude, zenith);
+        events[2] = null;
+    }
+
     /**
      * <p>Determines the declination of sun. </p>
      *
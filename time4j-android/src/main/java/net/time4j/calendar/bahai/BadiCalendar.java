@@ -1678,18 +1678,25 @@ public final class BadiCalendar
                 BadiCalendar newroz = new BadiCalendar(1, vahid, yov, 1, 1);
                 return newroz.withDayOfYear(MathUtils.safeCast(utcDays - this.transform(newroz) + 1));
             } else {
-                for (int index = 0, max = NEWROZ.length - 2; index <= max; index++) {
-                    if (utcDays < NEWROZ[index + 1]) {
-                        int doy = MathUtils.safeCast(utcDays - NEWROZ[index] + 1);
-                        int yoe = index + 2015 - 1843;
-                        int m = MathUtils.floorDivide(yoe - 1, 361) + 1;
-                        int vahid = MathUtils.floorDivide(yoe - (m - 1) * 361 - 1, 19) + 1;
-                        int yov = MathUtils.floorModulo(yoe - 1, 19) + 1;
-                        BadiCalendar newroz = new BadiCalendar(m, vahid, yov, 1, 1);
-                        return newroz.withDayOfYear(doy);
-                    }
+                int max = NEWROZ.length - 2;
+                if (utcDays >= NEWROZ[max + 1]) {
+                    throw new IllegalArgumentException("Out of range: " + utcDays);
+                }
+                // estimation by mean tropical year, then correction by at most one year
+                int index = (int) Math.min(((utcDays - NEWROZ[0]) * 10000) / 3652422, max);
+                while (utcDays < NEWROZ[index]) {
+                    index--;
                 }
-                throw new IllegalArgumentException("Out of range: " + utcDays);
+                while (utcDays >= NEWROZ[index + 1]) {
+                    index++;
+                }
+                int doy = MathUtils.safeCast(utcDays - NEWROZ[index] + 1);
+                int yoe = index + 2015 - 1843;
+                int m = MathUtils.floorDivide(yoe - 1, 361) + 1;
+                int vahid = MathUtils.floorDivide(yoe - (m - 1) * 361 - 1, 19) + 1;
+                int yov = MathUtils.floorModulo(yoe - 1, 19) + 1;
+                BadiCalendar newroz = new BadiCalendar(m, vahid, yov, 1, 1);
+                return newroz.withDayOfYear(doy);
             }
 
         }
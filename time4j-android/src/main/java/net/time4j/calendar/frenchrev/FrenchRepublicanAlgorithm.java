@@ -21,15 +21,11 @@ package net.time4j.calendar.frenchrev;
 
 import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
-import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
-import net.time4j.calendar.astro.AstronomicalSeason;
-import net.time4j.calendar.astro.SolarTime;
+import net.time4j.calendar.service.SeasonCache;
 import net.time4j.engine.AttributeKey;
 import net.time4j.engine.EpochDays;
 import net.time4j.format.Attributes;
-import net.time4j.tz.OffsetSign;
-import net.time4j.tz.ZonalOffset;
 
 
 /**
@@ -89,11 +85,7 @@ public enum FrenchRepublicanAlgorithm {
             return newYear + cal.getDayOfYear() - 1;
         }
         private PlainDate autumnalEquinox(int fyear) {
-            PlainTimestamp tsp =
-                AstronomicalSeason.AUTUMNAL_EQUINOX
-                    .inYear(fyear + 1791)
-                    .get(SolarTime.apparentAt(PARIS_OBSERVATORY));
-            return tsp.getCalendarDate();
+            return SeasonCache.PARIS_AUTUMNAL_EQUINOX.apparentTimeInYear(fyear + 1791).getCalendarDate();
         }
     },
 
@@ -167,9 +159,6 @@ public enum FrenchRepublicanAlgorithm {
         }
     };
 
-    private static final ZonalOffset PARIS_OBSERVATORY =
-        ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025); // Paris meridian (Wikipedia)
-
     private static final long ABOLITION = PlainDate.of(1806, 1, 1).get(EpochDays.UTC); // XIV-04-11
     private static final long EPOCH = PlainDate.of(1792, 9, 22).get(EpochDays.UTC); // I-01-01
 
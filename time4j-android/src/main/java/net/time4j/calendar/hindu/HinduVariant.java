@@ -21,6 +21,7 @@ package net.time4j.calendar.hindu;
 
 import net.time4j.Moment;
 import net.time4j.PlainDate;
+import net.time4j.base.MathUtils;
 import net.time4j.calendar.IndianMonth;
 import net.time4j.calendar.astro.GeoLocation;
 import net.time4j.calendar.astro.JulianDay;
@@ -80,6 +81,9 @@ public final class HinduVariant
     private transient final double depressionAngle;
     private transient final GeoLocation location;
 
+    private transient volatile HinduCS calsys = null; // lazy
+    private transient volatile HinduCS amanta = null; // lazy
+
     //~ Konstruktoren -----------------------------------------------------
 
     HinduVariant(
@@ -659,7 +663,12 @@ public final class HinduVariant
             case TYPE_OLD_LUNAR:
                 return AryaSiddhanta.LUNAR.getCalendarSystem();
             default:
-                return new ModernHinduCS(this);
+                HinduCS cs = this.calsys;
+                if (cs == null) {
+                    cs = new ModernHinduCS(this); // benign race, instances are equivalent
+                    this.calsys = cs;
+                }
+                return cs;
         }
     }
 
@@ -687,13 +696,22 @@ public final class HinduVariant
 
     // also used by purnimanta new year
     HinduCS toAmanta() {
-        return new HinduVariant(
-            HinduRule.AMANTA.ordinal(),
-            this.defaultEra,
-            this.elapsedMode,
-            this.depressionAngle,
-            this.location
-        ).getCalendarSystem();
+        HinduCS cs = this.amanta;
+        if (cs == null) {
+            if (this.type == HinduRule.AMANTA.ordinal()) {
+                cs = this.getCalendarSystem();
+            } else {
+                cs = new HinduVariant(
+                    HinduRule.AMANTA.ordinal(),
+                    this.defaultEra,
+                    this.elapsedMode,
+                    this.depressionAngle,
+                    this.location
+                ).getCalendarSystem();
+            }
+            this.amanta = cs;
+        }
+        return cs;
     }
 
     private boolean useModernAstronomy() {
@@ -785,6 +803,11 @@ public final class HinduVariant
 
         private static final double[] RISING_SIGN_FACTORS;
 
+        private static final int SUNRISE_CACHE_SIZE = 16; // power of 2
+        private static final int SOLAR_MONTH_CACHE_SIZE = 32; // power of 2
+        private static final int LUNAR_MONTH_CACHE_SIZE = 8; // power of 2
+        private static final double LUNAR_MONTH_MARGIN = 2.0; // in days, covers approximated new moons
+
         static {
             double[] f = new double[6];
             f[0] = 1670d / 1800d;
@@ -801,6 +824,11 @@ public final class HinduVariant
         private volatile long min = Long.MIN_VALUE;
         private volatile long max = Long.MAX_VALUE;
 
+        // memoized astronomical events of this variant (benign races with immutable entries)
+        private final SunriseEvent[] sunrises = new SunriseEvent[SUNRISE_CACHE_SIZE];
+        private final SolarMonthEvent[] solarMonths = new SolarMonthEvent[SOLAR_MONTH_CACHE_SIZE];
+        private final LunarMonthEvent[] lunarMonths = new LunarMonthEvent[LUNAR_MONTH_CACHE_SIZE];
+
         //~ Konstruktoren -------------------------------------------------
 
         ModernHinduCS(HinduVariant variant) {
@@ -818,9 +846,9 @@ public final class HinduVariant
                 case TAMIL:
                 case MALAYALI:
                 case MADRAS:
-                    return hSolarFromFixed(utcDays, hv);
+                    return this.hSolarFromFixed(utcDays);
                 case AMANTA:
-                    return hLunarFromFixed(utcDays, hv);
+                    return this.hLunarFromFixed(utcDays);
                 case AMANTA_ASHADHA:
                 case AMANTA_KARTIKA:
                     HinduCalendar cal = hv.toAmanta().create(utcDays);
@@ -863,10 +891,10 @@ public final class HinduVariant
                 case TAMIL:
                 case MALAYALI:
                 case MADRAS:
-                    utcDays = hFixedFromSolar(kyYear, month, dom, hv);
+                    utcDays = this.hFixedFromSolar(kyYear, month, dom);
                     break;
                 case AMANTA:
-                    utcDays = hFixedFromLunar(kyYear, month, dom, hv);
+                    utcDays = this.hFixedFromLunar(kyYear, month, dom);
                     break;
                 case AMANTA_ASHADHA:
                 case AMANTA_KARTIKA:
@@ -885,7 +913,7 @@ public final class HinduVariant
                     } else {
                         m = prevMonth(month, 1);
                     }
-                    utcDays = hFixedFromLunar(kyYear, m, dom, hv);
+                    utcDays = this.hFixedFromLunar(kyYear, m, dom);
                     break;
                 default:
                     throw new UnsupportedOperationException(this.getRule().name());
@@ -968,6 +996,67 @@ public final class HinduVariant
             return HinduMonth.ofLunisolar(m);
         }
 
+        // memoized sunrise and lunar day at sunrise (lunisolar variants only)
+        private SunriseEvent getSunrise(long rataDie) {
+            int slot = (int) (rataDie & (SUNRISE_CACHE_SIZE - 1));
+            SunriseEvent event = this.sunrises[slot];
+
+            if ((event == null) || (event.rataDie != rataDie)) {
+                double moment = hSunrise(rataDie, super.variant);
+                event = new SunriseEvent(rataDie, moment, hLunarDayFromMoment(moment, super.variant));
+                this.sunrises[slot] = event;
+            }
+
+            return event;
+        }
+
+        // memoized start of solar month (sankranti day) as rata die or Long.MIN_VALUE if unknown
+        private long getSolarMonthStart(
+            int kyYear,
+            int rasi
+        ) {
+            int key = kyYear * 12 + rasi - 1;
+            SolarMonthEvent event = this.solarMonths[key & (SOLAR_MONTH_CACHE_SIZE - 1)];
+            return (((event == null) || (event.key != key)) ? Long.MIN_VALUE : event.start);
+        }
+
+        private void putSolarMonthStart(
+            int kyYear,
+            int rasi,
+            long start
+        ) {
+            int key = kyYear * 12 + rasi - 1;
+            this.solarMonths[key & (SOLAR_MONTH_CACHE_SIZE - 1)] = new SolarMonthEvent(key, start);
+        }
+
+        // memoized lunisolar month between two new moons or null if unknown
+        private HinduMonth getLunarMonth(double critical) {
+            int k = (int) Math.floor(critical / MEAN_SYNODIC_MONTH);
+
+            for (int i = k - 1; i <= k + 1; i++) {
+                LunarMonthEvent event = this.lunarMonths[MathUtils.floorModulo(i, LUNAR_MONTH_CACHE_SIZE)];
+                if (
+                    (event != null)
+                    && (critical >= event.lastNewMoon + LUNAR_MONTH_MARGIN)
+                    && (critical <= event.nextNewMoon - LUNAR_MONTH_MARGIN)
+                ) {
+                    return event.month;
+                }
+            }
+
+            return null;
+        }
+
+        private void putLunarMonth(
+            double lastNewMoon,
+            double nextNewMoon,
+            HinduMonth month
+        ) {
+            int k = (int) Math.floor((lastNewMoon + nextNewMoon) / (2 * MEAN_SYNODIC_MONTH));
+            this.lunarMonths[MathUtils.floorModulo(k, LUNAR_MONTH_CACHE_SIZE)] =
+                new LunarMonthEvent(lastNewMoon, nextNewMoon, month);
+        }
+
         //~ Hindu astronomy taken from Dershowitz/Reingold ----------------
 
         private static double hSineTable(double entry) {
@@ -1136,10 +1225,8 @@ public final class HinduVariant
             }
         }
 
-        private static HinduCalendar hSolarFromFixed(
-            long utcDays,
-            HinduVariant variant
-        ) {
+        private HinduCalendar hSolarFromFixed(long utcDays) {
+            HinduVariant variant = super.variant;
             assert variant.isSolar();
 
             HinduVariant.LongFunction function = hCritical(variant);
@@ -1152,17 +1239,29 @@ public final class HinduVariant
 
             if (variant.useModernAstronomy()) {
                 m = hSiderealZodiac(critical);
-                start = rataDie - 3 - (int) modulo(Math.floor(hSiderealSolarLongitude(critical)), 30);
+                start = this.getSolarMonthStart(kyYear, m);
+
+                if (start == Long.MIN_VALUE) {
+                    start = rataDie - 3 - (int) modulo(Math.floor(hSiderealSolarLongitude(critical)), 30);
 
-                while (hSiderealZodiac(function.apply(start)) != m) {
-                    start++;
+                    while (hSiderealZodiac(function.apply(start)) != m) {
+                        start++;
+                    }
+
+                    this.putSolarMonthStart(kyYear, m, start);
                 }
             } else {
                 m = hZodiac(critical);
-                start = rataDie - 3 - (int) modulo(Math.floor(hSolarLongitude(critical)), 30);
+                start = this.getSolarMonthStart(kyYear, m);
 
-                while (hZodiac(function.apply(start)) != m) {
-                    start++;
+                if (start == Long.MIN_VALUE) {
+                    start = rataDie - 3 - (int) modulo(Math.floor(hSolarLongitude(critical)), 30);
+
+                    while (hZodiac(function.apply(start)) != m) {
+                        start++;
+                    }
+
+                    this.putSolarMonthStart(kyYear, m, start);
                 }
             }
 
@@ -1175,27 +1274,33 @@ public final class HinduVariant
             );
         }
 
-        private static long hFixedFromSolar(
+        private long hFixedFromSolar(
             int kyYear,
             HinduMonth month,
-            HinduDay dom,
-            HinduVariant variant
+            HinduDay dom
         ) {
+            HinduVariant variant = super.variant;
             assert variant.isSolar();
 
             int m = month.getRasi();
-            HinduVariant.LongFunction function = hCritical(variant);
-            double siderealYear = (variant.useModernAstronomy() ? MEAN_SIDEREAL_YEAR : SIDEREAL_YEAR);
-            long start = KALI_YUGA_EPOCH - 3 + (long) Math.floor(siderealYear * (kyYear + ((m - 1) / 12d)));
+            long start = this.getSolarMonthStart(kyYear, m);
 
-            if (variant.useModernAstronomy()) {
-                while (hSiderealZodiac(function.apply(start)) != m) {
-                    start++;
-                }
-            } else {
-                while (hZodiac(function.apply(start)) != m) {
-                    start++;
+            if (start == Long.MIN_VALUE) {
+                HinduVariant.LongFunction function = hCritical(variant);
+                double siderealYear = (variant.useModernAstronomy() ? MEAN_SIDEREAL_YEAR : SIDEREAL_YEAR);
+                start = KALI_YUGA_EPOCH - 3 + (long) Math.floor(siderealYear * (kyYear + ((m - 1) / 12d)));
+
+                if (variant.useModernAstronomy()) {
+                    while (hSiderealZodiac(function.apply(start)) != m) {
+                        start++;
+                    }
+                } else {
+                    while (hZodiac(function.apply(start)) != m) {
+                        start++;
+                    }
                 }
+
+                this.putSolarMonthStart(kyYear, m, start);
             }
 
             return EpochDays.UTC.transform(dom.getValue() - 1 + start, EpochDays.RATA_DIE);
@@ -1236,46 +1341,51 @@ public final class HinduVariant
             }
         }
 
-        private static HinduCalendar hLunarFromFixed(
-            long utcDays,
-            HinduVariant variant
-        ) {
+        private HinduCalendar hLunarFromFixed(long utcDays) {
+            HinduVariant variant = super.variant;
             assert variant.isLunisolar();
 
             long rataDie = EpochDays.RATA_DIE.transform(utcDays, EpochDays.UTC);
-            double critical = hSunrise(rataDie, variant);
-            int dom = hLunarDayFromMoment(critical, variant);
+            SunriseEvent sunrise = this.getSunrise(rataDie);
+            double critical = sunrise.moment;
+            int dom = sunrise.lunarDay;
             HinduDay dayOfMonth = HinduDay.valueOf(dom);
 
-            if (hLunarDayFromMoment(hSunrise(rataDie - 1, variant), variant) == dom) {
+            if (this.getSunrise(rataDie - 1).lunarDay == dom) {
                 dayOfMonth = dayOfMonth.withLeap();
             }
 
-            double lastNewMoon;
-            double nextNewMoon;
-            int solarMonth;
-            int nextSolarMonth;
+            HinduMonth month = this.getLunarMonth(critical);
 
-            if (variant.useModernAstronomy()) {
-                Moment m = toJDE(critical).toMoment();
-                lastNewMoon = toRataDie(MoonPhase.NEW_MOON.before(m));
-                nextNewMoon = toRataDie(MoonPhase.NEW_MOON.atOrAfter(m));
-                solarMonth = hSiderealZodiac(lastNewMoon);
-                nextSolarMonth = hSiderealZodiac(nextNewMoon);
-            } else {
-                lastNewMoon = hNewMoonBefore(critical);
-                nextNewMoon = hNewMoonBefore(Math.floor(lastNewMoon) + 35d);
-                solarMonth = hZodiac(lastNewMoon);
-                nextSolarMonth = hZodiac(nextNewMoon);
-            }
+            if (month == null) {
+                double lastNewMoon;
+                double nextNewMoon;
+                int solarMonth;
+                int nextSolarMonth;
+
+                if (variant.useModernAstronomy()) {
+                    Moment m = toJDE(critical).toMoment();
+                    lastNewMoon = toRataDie(MoonPhase.NEW_MOON.before(m));
+                    nextNewMoon = toRataDie(MoonPhase.NEW_MOON.atOrAfter(m));
+                    solarMonth = hSiderealZodiac(lastNewMoon);
+                    nextSolarMonth = hSiderealZodiac(nextNewMoon);
+                } else {
+                    lastNewMoon = hNewMoonBefore(critical);
+                    nextNewMoon = hNewMoonBefore(Math.floor(lastNewMoon) + 35d);
+                    solarMonth = hZodiac(lastNewMoon);
+                    nextSolarMonth = hZodiac(nextNewMoon);
+                }
 
-            int lunarMonth = ((solarMonth == 12) ? 1 : solarMonth + 1);
-            HinduMonth month = HinduMonth.ofLunisolar(lunarMonth);
+                month = HinduMonth.ofLunisolar((solarMonth == 12) ? 1 : solarMonth + 1);
 
-            if (nextSolarMonth == solarMonth) {
-                month = month.withLeap();
+                if (nextSolarMonth == solarMonth) {
+                    month = month.withLeap();
+                }
+
+                this.putLunarMonth(lastNewMoon, nextNewMoon, month);
             }
 
+            int lunarMonth = month.getValue().getValue();
             int kyYear = hCalendarYear((lunarMonth <= 2) ? rataDie + 180d : rataDie, variant);
 
             return new HinduCalendar(
@@ -1287,12 +1397,12 @@ public final class HinduVariant
             );
         }
 
-        private static long hFixedFromLunar(
+        private long hFixedFromLunar(
             int kyYear,
             HinduMonth month,
-            HinduDay dom,
-            HinduVariant variant
+            HinduDay dom
         ) {
+            HinduVariant variant = super.variant;
             assert variant.isLunisolar();
 
             int m = month.getValue().getValue();
@@ -1315,7 +1425,7 @@ public final class HinduVariant
             if ((k > 3) && (k < 27)) {
                 temp = k;
             } else  {
-                HinduCalendar mid = hLunarFromFixed(EpochDays.UTC.transform(s - 15, EpochDays.RATA_DIE), variant);
+                HinduCalendar mid = this.hLunarFromFixed(EpochDays.UTC.transform(s - 15, EpochDays.RATA_DIE));
                 if (
                     (mid.getMonth().getValue() != month.getValue())
                     || (mid.getMonth().isLeap() && !month.isLeap())
@@ -1330,7 +1440,7 @@ public final class HinduVariant
             long d = est + 14 - (int) modulo(hLunarDayFromMoment(est + 0.25, variant) - day + 15, 30);
 
             while (true) {
-                int ld = hLunarDayFromMoment(hSunrise(d, variant), variant);
+                int ld = this.getSunrise(d).lunarDay;
                 int mm = (int) modulo(day + 1, 30);
                 int day2 = (mm == 0) ? 30 : mm;
 
@@ -1471,6 +1581,51 @@ public final class HinduVariant
         double apply(long value);
     }
 
+    private static class SunriseEvent {
+        private final long rataDie;
+        private final double moment;
+        private final int lunarDay;
+
+        SunriseEvent(
+            long rataDie,
+            double moment,
+            int lunarDay
+        ) {
+            this.rataDie = rataDie;
+            this.moment = moment;
+            this.lunarDay = lunarDay;
+        }
+    }
+
+    private static class SolarMonthEvent {
+        private final int key;
+        private final long start;
+
+        SolarMonthEvent(
+            int key,
+            long start
+        ) {
+            this.key = key;
+            this.start = start;
+        }
+    }
+
+    private static class LunarMonthEvent {
+        private final double lastNewMoon;
+        private final double nextNewMoon;
+        private final HinduMonth month;
+
+        LunarMonthEvent(
+            double lastNewMoon,
+            double nextNewMoon,
+            HinduMonth month
+        ) {
+            this.lastNewMoon = lastNewMoon;
+            this.nextNewMoon = nextNewMoon;
+            this.month = month;
+        }
+    }
+
     private static class HinduLocation
         implements GeoLocation {
 
@@ -0,0 +1,241 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.calendar.service;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.calendar.astro.AstronomicalSeason;
+import net.time4j.calendar.astro.SolarTime;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+
+/**
+ * <p>Per-year cache of the apparent local solar time of an astronomical season event at a fixed
+ * meridian used by equinox-based calendars. </p>
+ *
+ * <p>Only the fixed instances defined as constants exist, so the memory consumption is bounded.
+ * Every instance is populated lazily in chunks of 64 years. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Jahres-Cache der wahren Ortszeit eines astronomischen Jahreszeitereignisses an einem festen
+ * Meridian, der von &Auml;quinoktium-basierten Kalendern benutzt wird. </p>
+ *
+ * <p>Es gibt nur die als Konstanten definierten festen Instanzen, so da&szlig; der
+ * Speicherverbrauch begrenzt ist. Jede Instanz wird bei Bedarf in Bl&ouml;cken von 64 Jahren
+ * gef&uuml;llt. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class SeasonCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_YEAR = -2000;
+    private static final int MAX_YEAR = 3000;
+    private static final int CHUNK_SHIFT = 6; // 64 Jahre pro Block
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    /**
+     * <p>Autumnal equinox at the meridian of the Paris observatory (French revolutionary calendar). </p>
+     */
+    /*[deutsch]
+     * <p>Herbst-&Auml;quinoktium am Meridian des Pariser Observatoriums (franz&ouml;sischer
+     * Revolutionskalender). </p>
+     */
+    public static final SeasonCache PARIS_AUTUMNAL_EQUINOX =
+        new SeasonCache(
+            AstronomicalSeason.AUTUMNAL_EQUINOX,
+            ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 2, 20, 14.025)); // Paris meridian (Wikipedia)
+
+    /**
+     * <p>Vernal equinox at the standard offset of Iran (UTC+03:30, astronomical Persian calendar). </p>
+     */
+    /*[deutsch]
+     * <p>Fr&uuml;hlings-&Auml;quinoktium bei der Standardverschiebung des Iran (UTC+03:30,
+     * astronomischer persischer Kalender). </p>
+     */
+    public static final SeasonCache IRAN_VERNAL_EQUINOX =
+        new SeasonCache(
+            AstronomicalSeason.VERNAL_EQUINOX,
+            ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30));
+
+    /**
+     * <p>Vernal equinox at the offset UTC+04:00 (astronomical Persian calendar). </p>
+     */
+    /*[deutsch]
+     * <p>Fr&uuml;hlings-&Auml;quinoktium bei der Verschiebung UTC+04:00 (astronomischer persischer
+     * Kalender). </p>
+     */
+    public static final SeasonCache IRAN_SUMMER_VERNAL_EQUINOX =
+        new SeasonCache(
+            AstronomicalSeason.VERNAL_EQUINOX,
+            ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 4));
+
+    private static final SeasonCache[] FIXED = {
+        PARIS_AUTUMNAL_EQUINOX, IRAN_VERNAL_EQUINOX, IRAN_SUMMER_VERNAL_EQUINOX
+    };
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final AstronomicalSeason season;
+    private final ZonalOffset offset;
+    private final ChronoFunction<Moment, PlainTimestamp> apparentTime;
+
+    // benign race: chunks and their slots only contain immutable timestamps
+    private final PlainTimestamp[][] chunks;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SeasonCache(
+        AstronomicalSeason season,
+        ZonalOffset offset
+    ) {
+        super();
+
+        this.season = season;
+        this.offset = offset;
+        this.apparentTime = SolarTime.apparentAt(offset);
+        this.chunks = new PlainTimestamp[((MAX_YEAR - MIN_YEAR) >> CHUNK_SHIFT) + 1][];
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Finds the fixed cache for given season and offset if available. </p>
+     *
+     * @param   season  astronomical season event
+     * @param   offset  the time zone offset of the observer meridian
+     * @return  fixed cache instance or {@code null} if given combination is not cached
+     */
+    /*[deutsch]
+     * <p>Findet den festen Cache f&uuml;r die angegebene Jahreszeit und Verschiebung, falls
+     * vorhanden. </p>
+     *
+     * @param   season  astronomical season event
+     * @param   offset  the time zone offset of the observer meridian
+     * @return  fixed cache instance or {@code null} if given combination is not cached
+     */
+    public static SeasonCache find(
+        AstronomicalSeason season,
+        ZonalOffset offset
+    ) {
+
+        for (SeasonCache cache : FIXED) {
+            if ((cache.season == season) && cache.offset.equals(offset)) {
+                return cache;
+            }
+        }
+
+        return null;
+
+    }
+
+    /**
+     * <p>Determines the apparent local solar time of the season event in given year. </p>
+     *
+     * <p>Equivalent to {@code season.inYear(year).get(SolarTime.apparentAt(offset))}, but
+     * calculated only once per year. </p>
+     *
+     * @param   year    gregorian/julian year
+     * @return  apparent local solar time of the season event
+     * @throws  IllegalArgumentException if the year is out of range {@code -2000 <= year <= +3000}
+     */
+    /*[deutsch]
+     * <p>Bestimmt die wahre Ortszeit des Jahreszeitereignisses im angegebenen Jahr. </p>
+     *
+     * <p>&Auml;quivalent zu {@code season.inYear(year).get(SolarTime.apparentAt(offset))}, aber
+     * nur einmal pro Jahr berechnet. </p>
+     *
+     * @param   year    gregorian/julian year
+     * @return  apparent local solar time of the season event
+     * @throws  IllegalArgumentException if the year is out of range {@code -2000 <= year <= +3000}
+     */
+    public PlainTimestamp apparentTimeInYear(int year) {
+
+        if ((year < MIN_YEAR) || (year > MAX_YEAR)) {
+            throw new IllegalArgumentException("Year out of supported range: -2000 <= " + year + " <= +3000");
+        }
+
+        int index = year - MIN_YEAR;
+        PlainTimestamp[] chunk = this.chunks[index >> CHUNK_SHIFT];
+
+        if (chunk == null) {
+            chunk = new PlainTimestamp[CHUNK_MASK + 1];
+            this.chunks[index >> CHUNK_SHIFT] = chunk;
+        }
+
+        PlainTimestamp tsp = chunk[index & CHUNK_MASK];
+
+        if (tsp == null) {
+            tsp = this.season.inYear(year).get(this.apparentTime);
+            chunk[index & CHUNK_MASK] = tsp;
+        }
+
+        return tsp;
+
+    }
+
+    /**
+     * <p>Obtains the astronomical season event. </p>
+     *
+     * @return  AstronomicalSeason
+     */
+    /*[deutsch]
+     * <p>Liefert das astronomische Jahreszeitereignis. </p>
+     *
+     * @return  AstronomicalSeason
+     */
+    public AstronomicalSeason getSeason() {
+
+        return this.season;
+
+    }
+
+    /**
+     * <p>Obtains the time zone offset of the observer meridian. </p>
+     *
+     * @return  ZonalOffset
+     */
+    /*[deutsch]
+     * <p>Liefert die Zeitzonenverschiebung des Beobachtermeridians. </p>
+     *
+     * @return  ZonalOffset
+     */
+    public ZonalOffset getOffset() {
+
+        return this.offset;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "SeasonCache[season=" + this.season + ",offset=" + this.offset + "]";
+
+    }
+
+}
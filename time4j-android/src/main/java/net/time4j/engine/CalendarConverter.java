@@ -0,0 +1,285 @@
+/*
+ * Licensed by the author of Time4J-project.
+ *
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership. The copyright owner
+ * licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.time4j.engine;
+
+
+/**
+ * <p>Converts calendar dates between two fixed calendar systems. </p>
+ *
+ * <p>A converter resolves both calendar systems (including any variants) only once, so that
+ * repeated conversions avoid the variant lookup of the calendar families. The calendar arithmetic
+ * itself is always done by the resolved calendar systems. Example: </p>
+ *
+ * <pre>
+ *  CalendarConverter&lt;PlainDate, HijriCalendar&gt; converter =
+ *      CalendarConverter.of(
+ *          PlainDate.axis(), &quot;&quot;, HijriCalendar.family(), HijriCalendar.VARIANT_UMALQURA);
+ *
+ *  for (Row row : rows) {
+ *      HijriCalendar hijri = converter.convert(row.getDate());
+ *      ...
+ *  }
+ * </pre>
+ *
+ * <p>Instances are thread-safe. </p>
+ *
+ * @param   <S> type of source calendar dates
+ * @param   <T> type of target calendar dates
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+/*[deutsch]
+ * <p>Konvertiert Kalenderdaten zwischen zwei festgelegten Kalendersystemen. </p>
+ *
+ * <p>Ein Konvertierer l&ouml;st beide Kalendersysteme (einschlie&szlig;lich eventueller Varianten)
+ * nur einmal auf, so da&szlig; wiederholte Konvertierungen die Variantensuche der Kalenderfamilien
+ * vermeiden. Die Kalenderarithmetik selbst erfolgt immer durch die aufgel&ouml;sten
+ * Kalendersysteme. Beispiel: </p>
+ *
+ * <pre>
+ *  CalendarConverter&lt;PlainDate, HijriCalendar&gt; converter =
+ *      CalendarConverter.of(
+ *          PlainDate.axis(), &quot;&quot;, HijriCalendar.family(), HijriCalendar.VARIANT_UMALQURA);
+ *
+ *  for (Row row : rows) {
+ *      HijriCalendar hijri = converter.convert(row.getDate());
+ *      ...
+ *  }
+ * </pre>
+ *
+ * <p>Instanzen sind thread-sicher. </p>
+ *
+ * @param   <S> type of source calendar dates
+ * @param   <T> type of target calendar dates
+ * @author  Meno Hochschild
+ * @since   5.9
+ */
+public final class CalendarConverter<S, T> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final CalendarSystem<S> source;
+    private final String sourceVariant;
+    private final CalendarSystem<T> target;
+    private final long min;
+    private final long max;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CalendarConverter(
+        CalendarSystem<S> source,
+        String sourceVariant,
+        CalendarSystem<T> target
+    ) {
+        super();
+
+        if (source == null) {
+            throw new NullPointerException("Missing source calendar system.");
+        } else if (target == null) {
+            throw new NullPointerException("Missing target calendar system.");
+        }
+
+        this.source = source;
+        this.sourceVariant = sourceVariant;
+        this.target = target;
+        this.min = target.getMinimumSinceUTC();
+        this.max = target.getMaximumSinceUTC();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Obtains a converter between given calendar systems. </p>
+     *
+     * <p>The variant of source dates cannot be checked by such a converter. </p>
+     *
+     * @param   <S> type of source calendar dates
+     * @param   <T> type of target calendar dates
+     * @param   source      source calendar system
+     * @param   target      target calendar system
+     * @return  new converter
+     */
+    /*[deutsch]
+     * <p>Liefert einen Konvertierer zwischen den angegebenen Kalendersystemen. </p>
+     *
+     * <p>Die Variante von Quelldaten kann von einem solchen Konvertierer nicht gepr&uuml;ft
+     * werden. </p>
+     *
+     * @param   <S> type of source calendar dates
+     * @param   <T> type of target calendar dates
+     * @param   source      source calendar system
+     * @param   target      target calendar system
+     * @return  new converter
+     */
+    public static <S, T> CalendarConverter<S, T> of(
+        CalendarSystem<S> source,
+        CalendarSystem<T> target
+    ) {
+
+        return new CalendarConverter<S, T>(source, null, target);
+
+    }
+
+    /**
+     * <p>Obtains a converter between given chronologies and variants. </p>
+     *
+     * @param   <S> type of source calendar dates
+     * @param   <T> type of target calendar dates
+     * @param   source          source chronology
+     * @param   sourceVariant   calendar variant of source (empty if the source has no variants)
+     * @param   target          target chronology
+     * @param   targetVariant   calendar variant of target (empty if the target has no variants)
+     * @return  new converter
+     * @throws  ChronoException if a calendar system is not available
+     */
+    /*[deutsch]
+     * <p>Liefert einen Konvertierer zwischen den angegebenen Chronologien und Varianten. </p>
+     *
+     * @param   <S> type of source calendar dates
+     * @param   <T> type of target calendar dates
+     * @param   source          source chronology
+     * @param   sourceVariant   calendar variant of source (empty if the source has no variants)
+     * @param   target          target chronology
+     * @param   targetVariant   calendar variant of target (empty if the target has no variants)
+     * @return  new converter
+     * @throws  ChronoException if a calendar system is not available
+     */
+    public static <S, T> CalendarConverter<S, T> of(
+        Chronology<S> source,
+        String sourceVariant,
+        Chronology<T> target,
+        String targetVariant
+    ) {
+
+        return new CalendarConverter<S, T>(
+            resolve(source, sourceVariant),
+            (sourceVariant.isEmpty() ? null : sourceVariant),
+            resolve(target, targetVariant));
+
+    }
+
+    /**
+     * <p>Converts given source date to the target calendar system. </p>
+     *
+     * <p>The source date must belong to the source calendar system (including its variant). </p>
+     *
+     * @param   date    source date
+     * @return  converted date
+     * @throws  IllegalArgumentException if the source date has not the variant specified in
+     *          {@link #of(Chronology, String, Chronology, String)}
+     * @throws  ArithmeticException if the date is out of range of the target calendar system
+     */
+    /*[deutsch]
+     * <p>Konvertiert das angegebene Quelldatum in das Zielkalendersystem. </p>
+     *
+     * <p>Das Quelldatum mu&szlig; zum Quellkalendersystem (einschlie&szlig;lich seiner Variante)
+     * geh&ouml;ren. </p>
+     *
+     * @param   date    source date
+     * @return  converted date
+     * @throws  IllegalArgumentException if the source date has not the variant specified in
+     *          {@link #of(Chronology, String, Chronology, String)}
+     * @throws  ArithmeticException if the date is out of range of the target calendar system
+     */
+    public T convert(S date) {
+
+        if ((this.sourceVariant != null) && (date instanceof VariantSource)) {
+            String variant = VariantSource.class.cast(date).getVariant();
+            if (!this.sourceVariant.equals(variant)) {
+                throw new IllegalArgumentException(
+                    "Source date has wrong variant: " + variant + " (expected: " + this.sourceVariant + ")");
+            }
+        }
+
+        return this.convert(this.source.transform(date));
+
+    }
+
+    /**
+     * <p>Converts given epoch day to the target calendar system. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  converted date
+     * @throws  ArithmeticException if the date is out of range of the target calendar system
+     */
+    /*[deutsch]
+     * <p>Konvertiert den angegebenen Epochentag in das Zielkalendersystem. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch [1972-01-01]
+     * @return  converted date
+     * @throws  ArithmeticException if the date is out of range of the target calendar system
+     */
+    public T convert(long utcDays) {
+
+        if ((utcDays < this.min) || (utcDays > this.max)) {
+            throw new ArithmeticException("Cannot transform <" + utcDays + "> to target calendar system.");
+        }
+
+        return this.target.transform(utcDays);
+
+    }
+
+    /**
+     * <p>Yields the resolved source calendar system. </p>
+     *
+     * @return  CalendarSystem
+     */
+    /*[deutsch]
+     * <p>Liefert das aufgel&ouml;ste Quellkalendersystem. </p>
+     *
+     * @return  CalendarSystem
+     */
+    public CalendarSystem<S> getSource() {
+
+        return this.source;
+
+    }
+
+    /**
+     * <p>Yields the resolved target calendar system. </p>
+     *
+     * @return  CalendarSystem
+     */
+    /*[deutsch]
+     * <p>Liefert das aufgel&ouml;ste Zielkalendersystem. </p>
+     *
+     * @return  CalendarSystem
+     */
+    public CalendarSystem<T> getTarget() {
+
+        return this.target;
+
+    }
+
+    private static <D> CalendarSystem<D> resolve(
+        Chronology<D> chronology,
+        String variant
+    ) {
+
+        if (variant.isEmpty()) {
+            return chronology.getCalendarSystem();
+        }
+
+        return chronology.getCalendarSystem(variant);
+
+    }
+
+}
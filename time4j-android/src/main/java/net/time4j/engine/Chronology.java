@@ -56,6 +56,7 @@ public class Chronology<T>
         new CopyOnWriteArrayList<ChronoReference>();
     private static final ReferenceQueue<Chronology<?>> QUEUE =
         new ReferenceQueue<Chronology<?>>();
+    private static final Object[] EMPTY_DISPATCH = new Object[1];
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -65,6 +66,10 @@ public class Chronology<T>
     private final List<ChronoExtension> extensions;
     private final Map<ChronoElement<?>, IntElementRule<T>> intRules;
 
+    // Identitätstabelle (offene Adressierung) für registrierte Elemente: Element, Regel, int-Regel
+    private final Object[] dispatch;
+    private final int dispatchMask;
+
     //~ Konstruktoren -----------------------------------------------------
 
     /**
@@ -85,6 +90,8 @@ public class Chronology<T>
         this.ruleMap = Collections.emptyMap();
         this.extensions = Collections.emptyList();
         this.intRules = Collections.emptyMap();
+        this.dispatch = EMPTY_DISPATCH;
+        this.dispatchMask = 0;
 
     }
 
@@ -135,6 +142,29 @@ public class Chronology<T>
 
         this.intRules = Collections.unmodifiableMap(tmpRules);
 
+        int slots = 1;
+
+        while (slots < this.ruleMap.size() * 2) {
+            slots <<= 1;
+        }
+
+        Object[] table = new Object[slots * 3];
+        int mask = slots - 1;
+
+        for (Map.Entry<ChronoElement<?>, ElementRule<T, ?>> entry : this.ruleMap.entrySet()) {
+            ChronoElement<?> element = entry.getKey();
+            int index = System.identityHashCode(element) & mask;
+            while (table[index * 3] != null) {
+                index = (index + 1) & mask;
+            }
+            table[index * 3] = element;
+            table[index * 3 + 1] = entry.getValue();
+            table[index * 3 + 2] = tmpRules.get(element);
+        }
+
+        this.dispatch = table;
+        this.dispatchMask = mask;
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -188,7 +218,10 @@ public class Chronology<T>
      */
     public boolean isRegistered(ChronoElement<?> element) {
 
-        return ((element != null) && this.ruleMap.containsKey(element));
+        return (
+            (element != null)
+            && ((this.indexOf(element) != -1) || this.ruleMap.containsKey(element))
+        );
 
     }
 
@@ -477,7 +510,8 @@ public class Chronology<T>
             throw new NullPointerException("Missing chronological element.");
         }
 
-        ElementRule<?, ?> rule = this.ruleMap.get(element);
+        int index = this.indexOf(element);
+        Object rule = ((index == -1) ? this.ruleMap.get(element) : this.dispatch[index + 1]);
 
         if (rule == null) {
             rule = this.getDerivedRule(element, true);
@@ -498,9 +532,34 @@ public class Chronology<T>
      * @return  Regelobjekt oder {@code null} wenn nicht vorhanden
      * @since   3.15/4.12
      */
+    @SuppressWarnings("unchecked")
     IntElementRule<T> getIntegerRule(ChronoElement<Integer> element) {
 
-        return this.intRules.get(element);
+        int index = this.indexOf(element);
+
+        if (index == -1) {
+            return this.intRules.get(element);
+        }
+
+        return (IntElementRule<T>) this.dispatch[index + 2];
+
+    }
+
+    // Position des Elements in der Identitätstabelle oder -1 (dann gilt die Map für gleiche, aber nicht identische Elemente)
+    private int indexOf(ChronoElement<?> element) {
+
+        int mask = this.dispatchMask;
+        int index = System.identityHashCode(element) & mask;
+        Object key;
+
+        while ((key = this.dispatch[index * 3]) != null) {
+            if (key == element) {
+                return index * 3;
+            }
+            index = (index + 1) & mask;
+        }
+
+        return -1;
 
     }
 
@@ -338,6 +338,24 @@ final class AttributeSet
 
     }
 
+    /**
+     * <p>&Uuml;bertr&auml;gt diese sektionalen Attribute auf eine andere Sprach- und
+     * L&auml;ndereinstellung, ohne irgendwelche Attribute anzupassen. </p>
+     *
+     * @param   locale      new language and country setting
+     * @return  this instance or a copy with changed locale
+     */
+    AttributeSet transferTo(Locale locale) {
+
+        if (this.locale.equals(locale)) {
+            return this;
+        }
+
+        return new AttributeSet(
+            this.attributes, locale, this.level, this.section, this.printCondition, this.internals);
+
+    }
+
     /**
      * <p>Setzt die Sprach- und L&auml;ndereinstellung. </p>
      *
@@ -92,6 +92,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.time4j.format.CalendarText.ISO_CALENDAR_TYPE;
 
@@ -210,6 +212,7 @@ public final class ChronoFormatter<T>
     // serves for optimization
     private final boolean hasOptionals;
     private final boolean hasOrMarkers;
+    private final int[] orBlockJumps;
     private final boolean needsExtensions;
     private final int countOfElements;
     private final Leniency leniency;
@@ -288,6 +291,7 @@ public final class ChronoFormatter<T>
         this.noPreparser = this.hasNoPreparser();
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
+        this.orBlockJumps = (hm ? getOrBlockJumps(this.steps) : null);
         this.singleStepMode = this.getSingleStepMode();
 
     }
@@ -405,6 +409,7 @@ public final class ChronoFormatter<T>
         this.noPreparser = this.hasNoPreparser();
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
+        this.orBlockJumps = old.orBlockJumps;
         this.singleStepMode = this.getSingleStepMode();
 
     }
@@ -455,6 +460,7 @@ public final class ChronoFormatter<T>
         this.noPreparser = this.hasNoPreparser();
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
+        this.orBlockJumps = formatter.orBlockJumps;
         this.singleStepMode = this.getSingleStepMode();
 
     }
@@ -2985,9 +2991,7 @@ public final class ChronoFormatter<T>
             return null;
         } else if (intermediate == null) {
             ChronoEntity<?> parsed = status.getRawValues();
-            status.setError(
-                text.length(),
-                getReason(parsed) + getDescription(parsed));
+            logError(status, text.length(), getReason(parsed), parsed);
             return null;
         }
 
@@ -3005,17 +3009,13 @@ public final class ChronoFormatter<T>
                 throw new IllegalStateException("Unsupported chronology or preparser: " + outer);
             }
         } catch (RuntimeException re) {
-            status.setError(
-                text.length(),
-                re.getMessage() + getDescription(parsed));
+            logError(status, text.length(), re.getMessage(), parsed);
             return null;
         }
 
         if (result == null) {
             if (!status.isError()) {
-                status.setError(
-                    text.length(),
-                    getReason(parsed) + getDescription(parsed));
+                logError(status, text.length(), getReason(parsed), parsed);
             }
             return null;
         } else if (leniency.isStrict()) {
@@ -3121,9 +3121,7 @@ public final class ChronoFormatter<T>
                     parsed = ext.resolve(parsed, cf.getLocale(), attributes);
                 }
             } catch (RuntimeException re) {
-                status.setError(
-                    len,
-                    re.getMessage() + getDescription(parsed));
+                logError(status, len, re.getMessage(), parsed);
                 return null;
             }
         }
@@ -3134,9 +3132,7 @@ public final class ChronoFormatter<T>
         try {
             result = merger.createFrom(parsed, attributes, leniency.isLax(), preparsing);
         } catch (RuntimeException re) {
-            status.setError(
-                len,
-                re.getMessage() + getDescription(parsed));
+            logError(status, len, re.getMessage(), parsed);
             return null;
         }
 
@@ -3151,9 +3147,7 @@ public final class ChronoFormatter<T>
         // Phase 5: Konsistenzprüfung
         if (result == null) {
             if (!preparsing) {
-                status.setError(
-                    len,
-                    getReason(parsed) + getDescription(parsed));
+                logError(status, len, getReason(parsed), parsed);
             }
             return null;
         } else if (leniency.isStrict()) {
@@ -3293,10 +3287,18 @@ public final class ChronoFormatter<T>
                 parsed.contains(TimezoneElement.TIMEZONE_ID)
                 && parsed.contains(TimezoneElement.TIMEZONE_OFFSET)
             ) {
-                TZID tzid = parsed.get(TimezoneElement.TIMEZONE_ID);
-                TZID offset = parsed.get(TimezoneElement.TIMEZONE_OFFSET);
+                final TZID tzid = parsed.get(TimezoneElement.TIMEZONE_ID);
+                final TZID offset = parsed.get(TimezoneElement.TIMEZONE_OFFSET);
                 if (!Timezone.of(tzid).getOffset(ut).equals(offset)) {
-                    status.setError(text.length(), "Ambivalent offset information: " + tzid + " versus " + offset);
+                    status.setError(
+                        text.length(),
+                        new ParseLog.Message() {
+                            @Override
+                            public String build() {
+                                return "Ambivalent offset information: " + tzid + " versus " + offset;
+                            }
+                        }
+                    );
                     return null;
                 }
             }
@@ -3373,19 +3375,31 @@ public final class ChronoFormatter<T>
                     }
 
                     if (!ok) {
-                        StringBuilder reason = new StringBuilder(256);
-                        reason.append("Conflict found: ");
-                        reason.append("Text {");
-                        reason.append(text.toString());
-                        reason.append("} with element ");
-                        reason.append(e.name());
-                        reason.append(" {");
-                        reason.append(value);
-                        reason.append("}, but parsed entity ");
-                        reason.append("has element value {");
-                        reason.append(test.get(e));
-                        reason.append("}.");
-                        status.setError(text.length(), reason.toString());
+                        final CharSequence t = text;
+                        final ChronoElement<?> element = e;
+                        final Object parsedValue = value;
+                        final ChronoDisplay entity = test;
+                        status.setError(
+                            text.length(),
+                            new ParseLog.Message() {
+                                @Override
+                                public String build() {
+                                    StringBuilder reason = new StringBuilder(256);
+                                    reason.append("Conflict found: ");
+                                    reason.append("Text {");
+                                    reason.append(t.toString());
+                                    reason.append("} with element ");
+                                    reason.append(element.name());
+                                    reason.append(" {");
+                                    reason.append(parsedValue);
+                                    reason.append("}, but parsed entity ");
+                                    reason.append("has element value {");
+                                    reason.append(entity.get(element));
+                                    reason.append("}.");
+                                    return reason.toString();
+                                }
+                            }
+                        );
                         return null;
                     }
                 }
@@ -3446,9 +3460,27 @@ public final class ChronoFormatter<T>
                 parsedResult = data.peek();
             }
 
+            // nächster oder-Block im selben Abschnitt (falls vorhanden)
+            int last = ((this.orBlockJumps == null) ? index : this.orBlockJumps[index]);
+
+            // Fehler, die ohnehin verworfen werden, brauchen keine Meldungstexte
+            boolean probing = (
+                ((last > index) || step.isNewOrBlockStarted() || (current > 0))
+                && !status.isSilent());
+
             // Delegation der Element-Verarbeitung
             status.clearWarning();
-            step.parse(text, status, attributes, parsedResult, quickPath);
+
+            if (probing) {
+                status.setSilent(true);
+                try {
+                    step.parse(text, status, attributes, parsedResult, quickPath);
+                } finally {
+                    status.setSilent(false);
+                }
+            } else {
+                step.parse(text, status, attributes, parsedResult, quickPath);
+            }
 
             // Im Warnzustand default-value verwenden?
             if (status.isWarning()) {
@@ -3463,19 +3495,7 @@ public final class ChronoFormatter<T>
 
             // Fehler-Auflösung
             if (status.isError()) {
-                // nächsten oder-Block suchen
                 int section = step.getSection();
-                int last = index;
-
-                if (!step.isNewOrBlockStarted()) {
-                    for (int j = index + 1; j < len; j++) {
-                        FormatStep test = this.steps.get(j);
-                        if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
-                            last = j;
-                            break;
-                        }
-                    }
-                }
 
                 if ((last > index) || step.isNewOrBlockStarted()) {
                     // wenn gefunden, zum nächsten oder-Block springen
@@ -3562,6 +3582,25 @@ public final class ChronoFormatter<T>
 
     }
 
+    private static void logError(
+        ParseLog status,
+        int errorIndex,
+        final String reason,
+        final ChronoEntity<?> parsed
+    ) {
+
+        status.setError(
+            errorIndex,
+            new ParseLog.Message() {
+                @Override
+                public String build() {
+                    return reason + getDescription(parsed);
+                }
+            }
+        );
+
+    }
+
     private static String getDescription(ChronoEntity<?> parsed) {
 
         Set<ChronoElement<?>> elements = parsed.getRegisteredElements();
@@ -3683,6 +3722,32 @@ public final class ChronoFormatter<T>
 
     }
 
+    // Index des nächsten oder-Blocks im selben Abschnitt pro Step (sonst der eigene Index)
+    private static int[] getOrBlockJumps(List<FormatStep> steps) {
+
+        int len = steps.size();
+        int[] jumps = new int[len];
+
+        for (int i = 0; i < len; i++) {
+            FormatStep step = steps.get(i);
+            jumps[i] = i;
+
+            if (!step.isNewOrBlockStarted()) {
+                int section = step.getSection();
+                for (int j = i + 1; j < len; j++) {
+                    FormatStep test = steps.get(j);
+                    if (test.isNewOrBlockStarted() && (test.getSection() == section)) {
+                        jumps[i] = j;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return jumps;
+
+    }
+
     private List<FormatStep> freeze(List<FormatStep> steps) {
 
         List<FormatStep> frozen = new ArrayList<FormatStep>(steps.size());
@@ -3730,6 +3795,10 @@ public final class ChronoFormatter<T>
         private static final AttributeKey<DayPeriod> CUSTOM_DAY_PERIOD =
             Attributes.createKey("CUSTOM_DAY_PERIOD", DayPeriod.class);
 
+        private static final int MAX_CACHED_PATTERNS = 500;
+        private static final ConcurrentMap<PatternKey, CompiledPattern> PATTERN_CACHE =
+            new ConcurrentHashMap<PatternKey, CompiledPattern>();
+
         //~ Instanzvariablen ----------------------------------------------
 
         private final Chronology<T> chronology;
@@ -5071,6 +5140,19 @@ public final class ChronoFormatter<T>
                 throw new NullPointerException("Missing pattern type.");
             }
 
+            // the translation of a pattern does not depend on the locale in most cases => reuse it
+            PatternKey key = null;
+
+            if (this.isInitial() && !patternType.isLocaleSensitive(this, formatPattern)) {
+                key = new PatternKey(formatPattern, patternType, this.chronology, this.override);
+                CompiledPattern compiled = PATTERN_CACHE.get(key);
+
+                if (compiled != null) {
+                    compiled.restore(this);
+                    return this;
+                }
+            }
+
             Map<ChronoElement<?>, ChronoElement<?>> replacement = Collections.emptyMap();
             int n = formatPattern.length();
             Locale loc = this.locale;
@@ -5175,6 +5257,11 @@ public final class ChronoFormatter<T>
 
             // ensure that pattern is only set if it is the only one
             this.pattern = ((this.pattern == null) ? formatPattern : "");
+
+            if ((key != null) && this.stack.isEmpty() && (PATTERN_CACHE.size() < MAX_CACHED_PATTERNS)) {
+                PATTERN_CACHE.putIfAbsent(key, new CompiledPattern(this));
+            }
+
             return this;
 
         }
@@ -6940,6 +7027,24 @@ public final class ChronoFormatter<T>
 
         }
 
+        // nothing has been added yet
+        private boolean isInitial() {
+
+            return (
+                this.steps.isEmpty()
+                && this.stack.isEmpty()
+                && (this.sectionID == 0)
+                && (this.reservedIndex == -1)
+                && (this.leftPadWidth == 0)
+                && (this.pattern == null)
+                && (this.dayPeriod == null)
+                && this.defaultMap.isEmpty()
+                && (this.deepestParser == this.chronology)
+                && (this.depthOfParser == 0)
+            );
+
+        }
+
         private static boolean isSymbol(char c) {
 
             return (
@@ -7436,4 +7541,110 @@ public final class ChronoFormatter<T>
 
     }
 
+    private static class PatternKey {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final String pattern;
+        private final PatternType type;
+        private final Chronology<?> chronology;
+        private final Chronology<?> override;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private PatternKey(
+            String pattern,
+            PatternType type,
+            Chronology<?> chronology,
+            Chronology<?> override
+        ) {
+            super();
+
+            this.pattern = pattern;
+            this.type = type;
+            this.chronology = chronology;
+            this.override = override;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof PatternKey) {
+                PatternKey that = (PatternKey) obj;
+                return (
+                    this.pattern.equals(that.pattern)
+                    && (this.type == that.type)
+                    && (this.chronology == that.chronology)
+                    && (this.override == that.override)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.pattern.hashCode() * 31 + this.type.hashCode();
+
+        }
+
+    }
+
+    // snapshot of builder state after translation of a locale-independent pattern
+    private static class CompiledPattern {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<FormatStep> steps;
+        private final int sectionID;
+        private final int reservedIndex;
+        private final int leftPadWidth;
+        private final String pattern;
+        private final Chronology<?> deepestParser;
+        private final int depthOfParser;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private CompiledPattern(Builder<?> builder) {
+            super();
+
+            this.steps = new ArrayList<FormatStep>(builder.steps);
+            this.sectionID = builder.sectionID;
+            this.reservedIndex = builder.reservedIndex;
+            this.leftPadWidth = builder.leftPadWidth;
+            this.pattern = builder.pattern;
+            this.deepestParser = builder.deepestParser;
+            this.depthOfParser = builder.depthOfParser;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        private void restore(Builder<?> builder) {
+
+            List<FormatStep> copy = new ArrayList<FormatStep>(this.steps.size());
+
+            for (FormatStep step : this.steps) {
+                copy.add(step.transferTo(builder.locale));
+            }
+
+            builder.steps = copy;
+            builder.sectionID = this.sectionID;
+            builder.reservedIndex = this.reservedIndex;
+            builder.leftPadWidth = this.leftPadWidth;
+            builder.pattern = this.pattern;
+            builder.deepestParser = this.deepestParser;
+            builder.depthOfParser = this.depthOfParser;
+
+        }
+
+    }
+
 }
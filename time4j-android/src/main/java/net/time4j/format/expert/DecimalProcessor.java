@@ -239,7 +239,7 @@ final class DecimalProcessor
         }
 
         if (pos >= len) {
-            status.setError(pos, "Missing digits for: " + this.element.name());
+            status.setError(pos, "Missing digits for: ", this.element);
             status.setWarning();
             return;
         }
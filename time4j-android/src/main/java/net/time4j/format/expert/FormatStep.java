@@ -30,6 +30,7 @@ import net.time4j.format.internal.DualFormatElement;
 
 import java.io.IOException;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Set;
 
 
@@ -484,6 +485,40 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>&Uuml;bertr&auml;gt die sektionalen Attribute dieses Formatierschritts
+     * auf die angegebene Sprach- und L&auml;ndereinstellung. </p>
+     *
+     * @param   locale      new language and country setting
+     * @return  copy of this instance maybe modified
+     */
+    FormatStep transferTo(Locale locale) {
+
+        if (this.sectionalAttrs == null) {
+            return this;
+        }
+
+        AttributeSet as = this.sectionalAttrs.transferTo(locale);
+
+        if (as == this.sectionalAttrs) {
+            return this;
+        }
+
+        return new FormatStep(
+            this.processor,
+            this.level,
+            this.section,
+            as,
+            this.fullAttrs,
+            this.reserved,
+            this.padLeft,
+            this.padRight,
+            this.orMarker,
+            this.lastOrBlockIndex
+        );
+
+    }
+
     /**
      * <p>Rechnet die angegebene Anzahl der zu reservierenden Zeichen
      * hinzu. </p>
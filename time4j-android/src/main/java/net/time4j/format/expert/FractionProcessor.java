@@ -44,6 +44,9 @@ final class FractionProcessor
     //~ Statische Felder/Initialisierungen --------------------------------
 
     private static final int MRD_MINUS_1 = 999999999;
+    private static final long[] TEN_POWERS = {
+        1000000000L, 100000000L, 10000000L, 1000000L, 100000L, 10000L, 1000L, 100L, 10L, 1L
+    };
 
     //~ Instanzvariablen --------------------------------------------------
 
@@ -142,25 +145,26 @@ final class FractionProcessor
         boolean quickPath
     ) throws IOException {
 
-        BigDecimal value = toDecimal(formattable.get(this.element));
-        BigDecimal min = toDecimal(formattable.getMinimum(this.element));
-        BigDecimal max = toDecimal(formattable.getMaximum(this.element));
+        int value = formattable.getInt(this.element);
 
-        if (value.compareTo(max) > 0) {
-            value = max;
+        if (value == Integer.MIN_VALUE) {
+            value = formattable.get(this.element).intValue(); // Fehlerbehandlung wie bisher
         }
 
-        BigDecimal fraction =
-            value.subtract(min).divide(
-                max.subtract(min).add(BigDecimal.ONE),
-                9,
-                RoundingMode.FLOOR);
+        int min = formattable.getMinimum(this.element).intValue();
+        int max = formattable.getMaximum(this.element).intValue();
 
-        fraction = (
-            (fraction.compareTo(BigDecimal.ZERO) == 0)
-            ? BigDecimal.ZERO
-            : fraction.stripTrailingZeros()
-        );
+        // Bruchteil mit neun Dezimalstellen ohne BigDecimal (entspricht Abrundung)
+        long range = (long) max - min + 1;
+        long fraction = ((long) Math.max(min, Math.min(value, max)) - min) * TEN_POWERS[0] / range;
+        int scale = 0;
+
+        if (fraction != 0) {
+            scale = 9;
+            while ((fraction % TEN_POWERS[scale - 1]) == 0) {
+                scale--;
+            }
+        }
 
         char zeroChar = (
             quickPath
@@ -174,7 +178,7 @@ final class FractionProcessor
             start = ((CharSequence) buffer).length();
         }
 
-        if (fraction.scale() == 0) {
+        if (scale == 0) {
             // scale ist 0, wenn value das Minimum ist
             if (this.minDigits > 0) {
                 if (this.hasDecimalSeparator()) {
@@ -206,15 +210,12 @@ final class FractionProcessor
 
             int outputScale =
                 Math.min(
-                    Math.max(fraction.scale(), this.minDigits),
+                    Math.max(scale, this.minDigits),
                     this.maxDigits);
-            fraction = fraction.setScale(outputScale, RoundingMode.FLOOR);
-            String digits = fraction.toPlainString();
-            int diff = zeroChar - '0';
 
-            for (int i = 2, n = digits.length(); i < n; i++) {
-                char c = (char) (digits.charAt(i) + diff);
-                buffer.append(c);
+            for (int i = 0; i < outputScale; i++) {
+                int digit = (int) ((fraction / TEN_POWERS[i + 1]) % 10);
+                buffer.append((char) (zeroChar + digit));
                 printed++;
             }
         }
@@ -256,8 +257,8 @@ final class FractionProcessor
             if (effectiveMin > 0) {
                 status.setError(
                     status.getPosition(),
-                    "Expected fraction digits not found for: "
-                        + this.element.name());
+                    "Expected fraction digits not found for: ",
+                    this.element);
             }
             return;
         }
@@ -480,12 +481,6 @@ final class FractionProcessor
 
     }
 
-    private static BigDecimal toDecimal(Number num) {
-
-        return BigDecimal.valueOf(num.longValue());
-
-    }
-
     private boolean hasDecimalSeparator() {
 
         return (this.decimalSeparator != null);
@@ -261,16 +261,27 @@ final class LiteralProcessor
         }
 
         if (error) {
-            StringBuilder msg = new StringBuilder("Cannot parse: \"");
-            msg.append(text);
-            msg.append("\" (expected: [");
-            msg.append(literal);
-            msg.append("], found: [");
-            if (c != '\u0000') {
-                msg.append(c);
-            }
-            msg.append("])");
-            status.setError(offset, msg.toString());
+            final CharSequence t = text;
+            final char expected = literal;
+            final char found = c;
+            status.setError(
+                offset,
+                new ParseLog.Message() {
+                    @Override
+                    public String build() {
+                        StringBuilder msg = new StringBuilder("Cannot parse: \"");
+                        msg.append(t);
+                        msg.append("\" (expected: [");
+                        msg.append(expected);
+                        msg.append("], found: [");
+                        if (found != '\u0000') {
+                            msg.append(found);
+                        }
+                        msg.append("])");
+                        return msg.toString();
+                    }
+                }
+            );
         } else {
             status.setPosition(offset + 1);
         }
@@ -508,19 +519,28 @@ final class LiteralProcessor
     }
 
     private void logError(
-        CharSequence text,
+        final CharSequence text,
         ParseLog status
     ) {
 
-        int offset = status.getPosition();
-        StringBuilder msg = new StringBuilder("Cannot parse: \"");
-        msg.append(text);
-        msg.append("\" (expected: [");
-        msg.append(this.multi);
-        msg.append("], found: [");
-        msg.append(text.subSequence(offset, Math.min(offset + this.multi.length(), text.length())));
-        msg.append("])");
-        status.setError(offset, msg.toString());
+        final int offset = status.getPosition();
+
+        status.setError(
+            offset,
+            new ParseLog.Message() {
+                @Override
+                public String build() {
+                    StringBuilder msg = new StringBuilder("Cannot parse: \"");
+                    msg.append(text);
+                    msg.append("\" (expected: [");
+                    msg.append(multi);
+                    msg.append("], found: [");
+                    msg.append(text.subSequence(offset, Math.min(offset + multi.length(), text.length())));
+                    msg.append("])");
+                    return msg.toString();
+                }
+            }
+        );
 
     }
 
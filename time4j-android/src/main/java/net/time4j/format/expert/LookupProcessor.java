@@ -153,7 +153,7 @@ final class LookupProcessor<V>
         }
 
         if (start >= len) {
-            status.setError(start, "Missing chars for: " + this.element.name());
+            status.setError(start, "Missing chars for: ", this.element);
             status.setWarning();
             return;
         }
@@ -196,7 +196,7 @@ final class LookupProcessor<V>
             }
         }
 
-        status.setError(start, "Element value could not be parsed: " + this.element.name());
+        status.setError(start, "Element value could not be parsed: ", this.element);
 
     }
 
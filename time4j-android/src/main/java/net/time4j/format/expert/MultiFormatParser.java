@@ -175,7 +175,7 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
     public T parse(CharSequence text)
         throws ParseException {
 
-        ParseLog status = new ParseLog();
+        ParseLog status = new ParseLog(0, true); // error messages of single parsers are not needed
 
         for (int i = 0; i < this.parsers.length; i++) {
             status.reset(); // initialization
@@ -312,7 +312,7 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         }
 
-        status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+        logError(text, status);
         return null;
 
     }
@@ -340,9 +340,26 @@ public final class MultiFormatParser<T extends ChronoEntity<T>>
 
         }
 
-        status.setError(status.getErrorIndex(), "Not matched by any format: " + text);
+        logError(text, status);
         return null;
 
     }
 
+    private static void logError(
+        final CharSequence text,
+        ParseLog status
+    ) {
+
+        status.setError(
+            status.getErrorIndex(),
+            new ParseLog.Message() {
+                @Override
+                public String build() {
+                    return "Not matched by any format: " + text;
+                }
+            }
+        );
+
+    }
+
 }
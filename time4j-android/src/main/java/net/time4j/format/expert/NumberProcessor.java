@@ -221,7 +221,7 @@ class NumberProcessor<V>
                 buffer.append('9');
                 appendTwoDigits(v - 1900, buffer, '0');
             } else {
-                buffer.append(Integer.toString(v));
+                appendDigits(v, count, buffer, '0');
             }
             printed += count;
         } else if (this.yearOfEra && (this.element instanceof DualFormatElement)) {
@@ -345,7 +345,7 @@ class NumberProcessor<V>
                         buffer.append((char) (9 + zeroChar));
                         appendTwoDigits(x - 1900, buffer, zeroChar);
                     } else {
-                        buffer.append(numsys.toNumeral(x));
+                        appendDigits(x, count, buffer, zeroChar);
                     }
                 } else {
                     count = numsys.toNumeral(x, buffer);
@@ -384,7 +384,7 @@ class NumberProcessor<V>
 
         if (quickPath && this.fixedInt) {
             if (start >= len) {
-                status.setError(start, "Missing digits for: " + this.element.name());
+                status.setError(start, "Missing digits for: ", this.element);
                 status.setWarning();
                 return;
             }
@@ -417,7 +417,8 @@ class NumberProcessor<V>
                 } else {
                     status.setError(
                         start,
-                        "Not enough digits found for: " + this.element.name());
+                        "Not enough digits found for: ",
+                        this.element);
                 }
                 return;
             }
@@ -433,7 +434,7 @@ class NumberProcessor<V>
         }
 
         if (start >= len) {
-            status.setError(start, "Missing digits for: " + this.element.name());
+            status.setError(start, "Missing digits for: ", this.element);
             status.setWarning();
             return;
         }
@@ -442,7 +443,7 @@ class NumberProcessor<V>
             DualFormatElement te = DualFormatElement.class.cast(this.element);
             Object value = te.parse(text, status.getPP(), attributes, parsedResult);
             if (status.isError()) {
-                status.setError(status.getErrorIndex(), "Unparseable element: " + this.element.name());
+                status.setError(status.getErrorIndex(), "Unparseable element: ", this.element);
             } else if (value == null) {
                 status.setError(start, "No interpretable value.");
             } else {
@@ -516,7 +517,8 @@ class NumberProcessor<V>
         if (pos >= len) {
             status.setError(
                 start,
-                "Missing digits for: " + this.element.name());
+                "Missing digits for: ",
+                this.element);
             return;
         }
 
@@ -600,7 +602,8 @@ class NumberProcessor<V>
             } else if (this.fixedWidth || !leniency.isLax()) {
                 status.setError(
                     start,
-                    "Not enough digits found for: " + this.element.name());
+                    "Not enough digits found for: ",
+                    this.element);
                 return;
             }
         }
@@ -826,4 +829,25 @@ class NumberProcessor<V>
 
     }
 
+    // schreibt die Ziffern direkt ohne Zwischen-String
+    private static void appendDigits(
+        int v, // must not be negative
+        int count,
+        Appendable buffer,
+        char zeroDigit
+    ) throws IOException {
+
+        int divisor = 1;
+
+        for (int i = 1; i < count; i++) {
+            divisor *= 10;
+        }
+
+        while (divisor > 0) {
+            buffer.append((char) ((v / divisor) % 10 + zeroDigit));
+            divisor /= 10;
+        }
+
+    }
+
 }
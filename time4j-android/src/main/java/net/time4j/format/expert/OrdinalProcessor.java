@@ -226,7 +226,7 @@ final class OrdinalProcessor
         }
 
         if (pos >= len) {
-            status.setError(pos, "Missing digits for: " + this.element.name());
+            status.setError(pos, "Missing digits for: ", this.element);
             status.setWarning();
             return;
         }
@@ -276,7 +276,8 @@ final class OrdinalProcessor
         if (pos < minPos) {
             status.setError(
                 start,
-                "Not enough digits found for: " + this.element.name());
+                "Not enough digits found for: ",
+                this.element);
             return;
         }
 
@@ -287,8 +288,8 @@ final class OrdinalProcessor
         if (endPos >= len) {
             status.setError(
                 pos,
-                "Missing or wrong ordinal indicator for: "
-                + this.element.name());
+                "Missing or wrong ordinal indicator for: ",
+                this.element);
             return;
         }
 
@@ -297,11 +298,20 @@ final class OrdinalProcessor
         if (test.equals(indicator)) {
             pos = endPos;
         } else if (!leniency.isLax()) {
+            final String expected = indicator;
+            final String found = test;
             status.setError(
                 pos,
-                "Wrong ordinal indicator for: "
-                + this.element.name()
-                + " (expected=" + indicator + ", found=" + test + ")");
+                new ParseLog.Message() {
+                    @Override
+                    public String build() {
+                        return (
+                            "Wrong ordinal indicator for: "
+                            + element.name()
+                            + " (expected=" + expected + ", found=" + found + ")");
+                    }
+                }
+            );
             return;
         }
 
@@ -19,6 +19,7 @@
 
 package net.time4j.format.expert;
 
+import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoEntity;
 
 import java.text.ParsePosition;
@@ -31,6 +32,12 @@ import java.text.ParsePosition;
  * <p>Note: This class is not <i>thread-safe</i>. Therefore a new instance
  * is to be created per thread (usually per parsing process). </p>
  *
+ * <p>Error messages which are combined from a constant reason and an affected
+ * element are only constructed on demand when {@link #getErrorMessage()} is called.
+ * Other detailed messages are constructed when the error is recorded. Applications
+ * which often probe texts with a high failure rate can use a <i>silent</i> instance
+ * which skips the construction of such messages and only records the error index. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.0
  */
@@ -41,6 +48,13 @@ import java.text.ParsePosition;
  * pro Thread jeweils eine neue Instanz zu erzeugen (in der Regel pro
  * Parse-Vorgang). </p>
  *
+ * <p>Fehlermeldungen, die aus einem konstanten Grund und einem betroffenen Element
+ * zusammengesetzt werden, werden erst bei Bedarf erzeugt, wenn {@link #getErrorMessage()}
+ * aufgerufen wird. Andere detaillierte Meldungen werden schon beim Aufzeichnen des Fehlers
+ * erzeugt. Anwendungen, die Texte mit hoher Fehlerquote sondieren, k&ouml;nnen eine
+ * <i>stille</i> Instanz verwenden, die solche Meldungen gar nicht erst erzeugt, sondern
+ * nur den Fehlerindex aufzeichnet. </p>
+ *
  * @author  Meno Hochschild
  * @since   3.0
  */
@@ -50,8 +64,11 @@ public class ParseLog {
 
     private ParsePosition pp;
     private String errorMessage;
+    private String errorReason;
+    private ChronoElement<?> errorElement;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private boolean silent;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -85,6 +102,40 @@ public class ParseLog {
      * @since   3.0
      */
     public ParseLog(int offset) {
+        this(offset, false);
+
+    }
+
+    /**
+     * <p>Creates a new instance with given start position and optionally in silent mode. </p>
+     *
+     * <p>A silent parse log only records the error index but no expensive message details.
+     * The method {@link #getErrorMessage()} will then usually yield a generic message. This mode
+     * is designed for probing parsers where most parse attempts are expected to fail and the
+     * error messages would be discarded anyway. </p>
+     *
+     * @param   offset      start position where parsing of text begins
+     * @param   silent      should the construction of detailed error messages be suppressed?
+     * @throws  IllegalArgumentException if the start position is negative
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Konstruiert eine neue Instanz mit der angegebenen Startposition und optional im stillen Modus. </p>
+     *
+     * <p>Ein stilles Protokoll zeichnet nur den Fehlerindex, aber keine aufwendigen Meldungsdetails auf.
+     * Die Methode {@link #getErrorMessage()} liefert dann in der Regel eine allgemeine Meldung. Dieser
+     * Modus ist f&uuml;r sondierende Interpretierer gedacht, bei denen die meisten Versuche erwartungsgem&auml;&szlig;
+     * scheitern und die Fehlermeldungen ohnehin verworfen w&uuml;rden. </p>
+     *
+     * @param   offset      start position where parsing of text begins
+     * @param   silent      should the construction of detailed error messages be suppressed?
+     * @throws  IllegalArgumentException if the start position is negative
+     * @since   5.9
+     */
+    public ParseLog(
+        int offset,
+        boolean silent
+    ) {
         super();
 
         if (offset < 0) {
@@ -93,8 +144,11 @@ public class ParseLog {
 
         this.pp = new ParsePosition(offset);
         this.errorMessage = "";
+        this.errorReason = null;
+        this.errorElement = null;
         this.rawValues = null;
         this.warning = false;
+        this.silent = silent;
 
     }
 
@@ -114,8 +168,11 @@ public class ParseLog {
         pp.setErrorIndex(-1);
         this.pp = pp;
         this.errorMessage = "";
+        this.errorReason = null;
+        this.errorElement = null;
         this.rawValues = null;
         this.warning = false;
+        this.silent = false;
 
     }
 
@@ -189,10 +246,42 @@ public class ParseLog {
      */
     public String getErrorMessage() {
 
+        if (this.errorMessage == null) {
+            int errorIndex = this.pp.getErrorIndex();
+
+            if (this.errorReason == null) {
+                this.errorMessage = "Error occurred at position: " + errorIndex;
+            } else if (this.errorElement == null) {
+                this.errorMessage = this.errorReason;
+            } else {
+                this.errorMessage = this.errorReason + this.errorElement.name();
+            }
+        }
+
         return this.errorMessage;
 
     }
 
+    /**
+     * <p>Queries if this instance suppresses the construction of detailed error messages. </p>
+     *
+     * @return  boolean
+     * @see     #ParseLog(int, boolean)
+     * @since   5.9
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob diese Instanz die Erzeugung detaillierter Fehlermeldungen unterdr&uuml;ckt. </p>
+     *
+     * @return  boolean
+     * @see     #ParseLog(int, boolean)
+     * @since   5.9
+     */
+    public boolean isSilent() {
+
+        return this.silent;
+
+    }
+
     /**
      * <p>Yields the parsed raw data as chronological entity. </p>
      *
@@ -230,7 +319,7 @@ public class ParseLog {
         sb.append(", error-index=");
         sb.append(this.getErrorIndex());
         sb.append(", error-message=\"");
-        sb.append(this.errorMessage);
+        sb.append(this.getErrorMessage());
         sb.append('\"');
         if (this.warning) {
             sb.append(", warning-active");
@@ -291,9 +380,11 @@ public class ParseLog {
 
         if (errorIndex >= 0) {
             this.errorMessage = (
-                ((errorMessage == null) || errorMessage.isEmpty())
-                ? ("Error occurred at position: " + errorIndex)
+                (this.silent || (errorMessage == null) || errorMessage.isEmpty())
+                ? null // lazy construction of generic message
                 : errorMessage);
+            this.errorReason = null;
+            this.errorElement = null;
         } else {
             throw new IllegalArgumentException("Undefined error index: " + errorIndex);
         }
@@ -302,6 +393,62 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Setzt eine Fehlerinformation, deren Meldungstext erst bei Bedarf
+     * aus einem konstanten Grund und dem Namen des betroffenen Elements
+     * zusammengesetzt wird. </p>
+     *
+     * @param   errorIndex      error index in parsed text
+     * @param   reason          constant error reason
+     * @param   element         affected element whose name will be appended to the reason (optional)
+     * @throws  IllegalArgumentException if given error index is negative
+     */
+    void setError(
+        int errorIndex,
+        String reason,
+        ChronoElement<?> element
+    ) {
+
+        if (errorIndex < 0) {
+            throw new IllegalArgumentException("Undefined error index: " + errorIndex);
+        }
+
+        this.errorMessage = null;
+        this.errorReason = reason;
+        this.errorElement = element;
+        this.pp.setErrorIndex(errorIndex);
+
+    }
+
+    /**
+     * <p>Setzt eine Fehlerinformation, deren Meldungstext im stillen Modus
+     * gar nicht erst erzeugt wird. </p>
+     *
+     * @param   errorIndex      error index in parsed text
+     * @param   message         builder of detailed error message
+     * @throws  IllegalArgumentException if given error index is negative
+     */
+    void setError(
+        int errorIndex,
+        Message message
+    ) {
+
+        this.setError(errorIndex, (this.silent ? null : message.build()));
+
+    }
+
+    /**
+     * <p>Schaltet den stillen Modus vor&uuml;bergehend um, etwa beim
+     * Sondieren von oder-Bl&ouml;cken. </p>
+     *
+     * @param   silent      new silent mode
+     */
+    void setSilent(boolean silent) {
+
+        this.silent = silent;
+
+    }
+
     /**
      * <p>Sets a warning to indicate if the current formatter should try
      * to use default values for chronological elements which could not
@@ -330,6 +477,8 @@ public class ParseLog {
 
         if (!this.isError()) {
             this.errorMessage = "Warning state active.";
+            this.errorReason = null;
+            this.errorElement = null;
             this.pp.setErrorIndex(this.getPosition());
         }
 
@@ -353,6 +502,8 @@ public class ParseLog {
         this.pp.setIndex(0);
         this.pp.setErrorIndex(-1);
         this.errorMessage = "";
+        this.errorReason = null;
+        this.errorElement = null;
         this.warning = false;
         this.rawValues = null;
 
@@ -376,6 +527,8 @@ public class ParseLog {
 
         this.pp.setErrorIndex(-1);
         this.errorMessage = "";
+        this.errorReason = null;
+        this.errorElement = null;
 
     }
 
@@ -421,4 +574,23 @@ public class ParseLog {
 
     }
 
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Erzeugt eine detaillierte Fehlermeldung nur bei Bedarf. </p>
+     */
+    interface Message {
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Baut den Meldungstext zusammen. </p>
+         *
+         * @return  error message
+         */
+        String build();
+
+    }
+
 }
@@ -1312,6 +1312,65 @@ public enum PatternType {
 
     }
 
+    /**
+     * <p>Ermittelt, ob die &Uuml;bersetzung des angegebenen Formatmusters in
+     * Formatierschritte von der Sprach- und L&auml;ndereinstellung abh&auml;ngt. </p>
+     *
+     * <p>Hinweis: Lokalisierte Texte werden erst beim Formatieren oder Interpretieren
+     * aufgel&ouml;st und spielen hier keine Rolle. Sprachabh&auml;ngig sind nur Symbole,
+     * deren Elemente selbst von der Sprache abh&auml;ngen, etwa Wochenmodelle, historische
+     * &Auml;ren oder Tagesabschnitte. </p>
+     *
+     * @param   builder         serves for construction of {@code ChronoFormatter}
+     * @param   formatPattern   pattern to be translated
+     * @return  {@code true} if the translation depends on the locale else {@code false}
+     */
+    boolean isLocaleSensitive(
+        ChronoFormatter.Builder<?> builder,
+        String formatPattern
+    ) {
+
+        if (this == DYNAMIC) {
+            return true; // elements of chronological extensions might depend on locale
+        }
+
+        boolean ethiopic = getCalendarType(getEffectiveChronology(builder)).equals("ethiopic");
+
+        for (int i = 0, n = formatPattern.length(); i < n; i++) {
+            char c = formatPattern.charAt(i);
+
+            if (c == '\'') {
+                int j = i + 1;
+                while ((j < n) && (formatPattern.charAt(j) != '\'')) {
+                    j++;
+                }
+                i = j; // doubled apostrophs are handled like two consecutive empty literals
+                continue;
+            }
+
+            switch (c) {
+                case 'G':
+                case 'w':
+                case 'W':
+                case 'e':
+                case 'c':
+                case 'b':
+                case 'B':
+                    return true;
+                case 'y':
+                    if (ethiopic) {
+                        return true; // special number system for amharic language
+                    }
+                    break;
+                default:
+                    // continue
+            }
+        }
+
+        return false;
+
+    }
+
     private static boolean isGeneralSymbol(char symbol) {
 
         switch (symbol) {
@@ -162,7 +162,7 @@ final class TextProcessor<V>
         }
 
         if (start >= len) {
-            status.setError(start, "Missing chars for: " + this.element.name());
+            status.setError(start, "Missing chars for: ", this.element);
             status.setWarning();
             return;
         }
@@ -182,7 +182,7 @@ final class TextProcessor<V>
             if (valueType.isEnum()) {
                 status.setError(status.getErrorIndex(), "No suitable enum found: " + valueType.getName());
             } else {
-                status.setError(status.getErrorIndex(), "Unparseable element: " + this.element.name());
+                status.setError(status.getErrorIndex(), "Unparseable element: ", this.element);
             }
         } else if (value == null) {
             status.setError(start, "No interpretable value.");
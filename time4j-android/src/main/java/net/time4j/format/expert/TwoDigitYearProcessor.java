@@ -184,7 +184,8 @@ final class TwoDigitYearProcessor
         if (start >= len) {
             status.setError(
                 start,
-                "Missing digits for: " + this.element.name());
+                "Missing digits for: ",
+                this.element);
             status.setWarning();
             return;
         }
@@ -238,7 +239,8 @@ final class TwoDigitYearProcessor
         if (pos < minPos) {
             status.setError(
                 start,
-                "Not enough digits found for: " + this.element.name());
+                "Not enough digits found for: ",
+                this.element);
             return;
         }
 
@@ -171,6 +171,7 @@ public final class LeapSeconds
             "data/leapseconds.data");
 
     private static final ExtendedLSE[] EMPTY_ARRAY = new ExtendedLSE[0];
+    private static final Index EMPTY_INDEX = new Index(EMPTY_ARRAY, false);
     private static final LeapSeconds INSTANCE = new LeapSeconds();
     private static final long UNIX_OFFSET = 2 * 365 * 86400;
     private static final long MJD_OFFSET = 40587;
@@ -179,8 +180,8 @@ public final class LeapSeconds
 
     private final LeapSecondProvider provider;
     private final List<ExtendedLSE> list;
-    private final ExtendedLSE[] reverseFinal;
-    private volatile ExtendedLSE[] reverseVolatile;
+    private final Index indexFinal;
+    private volatile Index indexVolatile;
     private final boolean supportsNegativeLS;
 
     //~ Konstruktoren -----------------------------------------------------
@@ -209,8 +210,8 @@ public final class LeapSeconds
         ) {
             this.provider = null;
             this.list = Collections.emptyList();
-            this.reverseFinal = EMPTY_ARRAY;
-            this.reverseVolatile = EMPTY_ARRAY;
+            this.indexFinal = EMPTY_INDEX;
+            this.indexVolatile = EMPTY_INDEX;
             this.supportsNegativeLS = false;
         } else {
             SortedSet<ExtendedLSE> sortedLS = new TreeSet<ExtendedLSE>(this);
@@ -242,8 +243,6 @@ public final class LeapSeconds
                 this.list = new CopyOnWriteArrayList<ExtendedLSE>(sortedLS);
             }
 
-            this.reverseFinal = this.initReverse();
-            this.reverseVolatile = this.reverseFinal;
             this.provider = loaded;
 
             if (FINAL_UTC_LEAPSECONDS) {
@@ -262,6 +261,9 @@ public final class LeapSeconds
             } else {
                 this.supportsNegativeLS = true;
             }
+
+            this.indexFinal = new Index(this.initReverse(), this.supportsNegativeLS);
+            this.indexVolatile = this.indexFinal;
         }
 
     }
@@ -539,21 +541,13 @@ public final class LeapSeconds
 
         // Schaltsekundenereignisse gibt es erst seit Juni 1972
         if (year >= 1972) {
+            Index index = this.getIndex();
+            long packed = toPacked(year, date.getMonth(), date.getDayOfMonth());
+            int i = Arrays.binarySearch(index.dates, packed);
 
-            ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-            for (int i = 0; i < events.length; i++) {
-                ExtendedLSE event = events[i];
-                GregorianDate lsDate = event.getDate();
-
-                // Ist es der Umstellungstag?
-                if (
-                    (year == lsDate.getYear())
-                    && (date.getMonth() == lsDate.getMonth())
-                    && (date.getDayOfMonth() == lsDate.getDayOfMonth())
-                ) {
-                    return event.getShift();
-                }
+            // Ist es der Umstellungstag?
+            if (i >= 0) {
+                return index.shifts[i];
             }
         }
 
@@ -585,18 +579,14 @@ public final class LeapSeconds
             return 0;
         }
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        // nur das erste Ereignis mit utc() >= utc kann den Schaltbereich enthalten
+        Index index = this.getIndex();
+        int i = countLess(index.utcs, utc);
 
-            if (utc > lse.utc()) {
-                return 0;
-            } else {
-                long start = lse.utc() - lse.getShift();
-                if (utc > start) { // Schaltbereich
-                    return (int) (utc - start);
-                }
+        if (i < index.utcs.length) {
+            long start = index.utcs[i] - index.shifts[i];
+            if (utc > start) { // Schaltbereich
+                return (int) (utc - start);
             }
         }
 
@@ -623,20 +613,9 @@ public final class LeapSeconds
      */
     public LeapSecondEvent getNextEvent(long utc) {
 
-        ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        LeapSecondEvent result = null;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
-
-            if (utc >= lse.utc()) {
-                break;
-            } else {
-                result = lse;
-            }
-        }
-
-        return result;
+        Index index = this.getIndex();
+        int i = countLessOrEqual(index.utcs, utc);
+        return ((i < index.utcs.length) ? index.events[index.utcs.length - 1 - i] : null);
 
     }
 
@@ -677,16 +656,11 @@ public final class LeapSeconds
             return epochTime;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Index index = this.getIndex();
+        int i = countLess(index.raws, epochTime) - 1;
 
-            if (lse.raw() < epochTime) {
-                return MathUtils.safeAdd(epochTime, lse.utc() - lse.raw());
-            }
+        if (i >= 0) {
+            return MathUtils.safeAdd(epochTime, index.deltas[i]);
         }
 
         return epochTime;
@@ -727,21 +701,11 @@ public final class LeapSeconds
             return utc + UNIX_OFFSET;
         }
 
-        // Lineare Suche hier besser als binäre Suche, weil in der
-        // Praxis meistens mit aktuellen Datumswerten gesucht wird
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-        boolean snls = this.supportsNegativeLS;
-
-        for (int i = 0; i < events.length; i++) {
-            ExtendedLSE lse = events[i];
+        Index index = this.getIndex();
+        int i = countLess(index.stripLimits, utc) - 1;
 
-            if (
-                (lse.utc() - lse.getShift() < utc)
-                || (snls && (lse.getShift() < 0) && (lse.utc() < utc))
-            ) {
-                utc = MathUtils.safeAdd(utc, lse.raw() - lse.utc());
-                break;
-            }
+        if (i >= 0) {
+            utc = MathUtils.safeAdd(utc, -index.deltas[i]);
         }
 
         return utc + UNIX_OFFSET;
@@ -772,19 +736,9 @@ public final class LeapSeconds
             return false;
         }
 
-        final ExtendedLSE[] events = this.getEventsInDescendingOrder();
-
-        for (int i = 0; i < events.length; i++) {
-            long comp = events[i].utc();
-
-            if (comp == utc) {
-                return (events[i].getShift() == 1);
-            } else if (comp < utc) {
-                break;
-            }
-        }
-
-        return false;
+        Index index = this.getIndex();
+        int i = countLess(index.utcs, utc);
+        return ((i < index.utcs.length) && (index.utcs[i] == utc) && (index.shifts[i] == 1));
 
     }
 
@@ -933,7 +887,7 @@ public final class LeapSeconds
                 throw new IllegalStateException("Leap seconds not activated.");
             }
 
-            ExtendedLSE last = this.reverseVolatile[0];
+            ExtendedLSE last = this.indexVolatile.events[0];
             GregorianDate date = last.getDate();
             boolean ok = false;
 
@@ -958,7 +912,7 @@ public final class LeapSeconds
             GregorianDate newDate =
                 this.provider.getDateOfEvent(year, month, dayOfMonth);
             this.list.add(createLSE(newDate, shift, last));
-            this.reverseVolatile = this.initReverse();
+            this.indexVolatile = new Index(this.initReverse(), this.supportsNegativeLS);
         }
 
     }
@@ -966,14 +920,67 @@ public final class LeapSeconds
     // Ereignisse in zeitlich absteigender Reihenfolge auf (das neueste zuerst)
     private ExtendedLSE[] getEventsInDescendingOrder() {
 
+        return this.getIndex().events;
+
+    }
+
+    private Index getIndex() {
+
         if (SUPPRESS_UTC_LEAPSECONDS || FINAL_UTC_LEAPSECONDS) {
-            return this.reverseFinal;
+            return this.indexFinal;
         } else {
-            return this.reverseVolatile;
+            return this.indexVolatile;
         }
 
     }
 
+    // Anzahl der Elemente < key in aufsteigend sortiertem Array, aktuelle Werte zuerst geprüft
+    private static int countLess(
+        long[] sorted,
+        long key
+    ) {
+
+        int high = sorted.length;
+
+        if ((high == 0) || (sorted[high - 1] < key)) {
+            return high;
+        }
+
+        int low = 0;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+
+    }
+
+    // Anzahl der Elemente <= key in aufsteigend sortiertem Array
+    private static int countLessOrEqual(
+        long[] sorted,
+        long key
+    ) {
+
+        return ((key == Long.MAX_VALUE) ? sorted.length : countLess(sorted, key + 1));
+
+    }
+
+    private static long toPacked(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return ((((long) year) << 32) | (month << 16) | dayOfMonth);
+
+    }
+
     private static void extend(SortedSet<ExtendedLSE> sortedColl) {
 
         List<ExtendedLSE> tmp = new ArrayList<ExtendedLSE>(sortedColl.size());
@@ -1044,6 +1051,58 @@ public final class LeapSeconds
 
     //~ Innere Klassen ----------------------------------------------------
 
+    /**
+     * <p>Unver&auml;nderlicher Index &uuml;ber alle Schaltsekundenereignisse, der mit jeder
+     * Registrierung eines neuen Ereignisses komplett ersetzt wird. </p>
+     *
+     * <p>Alle Arrays au&szlig;er {@code events} sind zeitlich aufsteigend sortiert. </p>
+     */
+    private static final class Index {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ExtendedLSE[] events; // absteigend
+        private final long[] dates;
+        private final long[] raws;
+        private final long[] utcs;
+        private final long[] stripLimits;
+        private final long[] deltas;
+        private final int[] shifts;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Index(
+            ExtendedLSE[] events,
+            boolean snls
+        ) {
+            super();
+
+            int n = events.length;
+
+            this.events = events;
+            this.dates = new long[n];
+            this.raws = new long[n];
+            this.utcs = new long[n];
+            this.stripLimits = new long[n];
+            this.deltas = new long[n];
+            this.shifts = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                ExtendedLSE lse = events[n - 1 - i];
+                GregorianDate date = lse.getDate();
+                int shift = lse.getShift();
+                this.dates[i] = toPacked(date.getYear(), date.getMonth(), date.getDayOfMonth());
+                this.raws[i] = lse.raw();
+                this.utcs[i] = lse.utc();
+                this.deltas[i] = lse.utc() - lse.raw();
+                this.shifts[i] = shift;
+                this.stripLimits[i] = (((shift < 0) && snls) ? lse.utc() : lse.utc() - shift);
+            }
+
+        }
+
+    }
+
     private static class SimpleLeapSecondEvent
         implements ExtendedLSE, Serializable {
 
@@ -0,0 +1,157 @@
+package net.time4j;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+
+@RunWith(JUnit4.class)
+public class LatencyRecorderTest {
+
+    @Test
+    public void percentilesWithinRelativeError() {
+        for (int precision = 1; precision <= 10; precision++) {
+            LatencyRecorder recorder = new LatencyRecorder(precision);
+            Random random = new Random(precision);
+            long[] values = new long[10000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (long) Math.exp(random.nextDouble() * 30); // up to 10 seconds
+                recorder.record(values[i]);
+            }
+            Arrays.sort(values);
+            LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+            assertThat(snapshot.getCount(), is((long) values.length));
+            assertThat(snapshot.getMin(), is(toMachineTime(values[0])));
+            assertThat(snapshot.getMax(), is(toMachineTime(values[values.length - 1])));
+            for (double p : new double[] {0.1, 1.0, 25.0, 50.0, 90.0, 99.0, 99.9, 100.0}) {
+                long exact = values[(int) Math.ceil(p / 100.0 * values.length) - 1];
+                long estimate = toNanos(snapshot.getPercentile(p));
+                long tolerance = exact >> (precision - 1);
+                assertTrue(
+                    "precision=" + precision + ", p=" + p + ", exact=" + exact + ", estimate=" + estimate,
+                    (estimate >= exact) && (estimate <= exact + tolerance));
+            }
+        }
+    }
+
+    @Test
+    public void mean() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(100);
+        recorder.record(200);
+        recorder.record(MachineTime.ofPosixUnits(0, 600));
+        assertThat(recorder.snapshot().getMean(), is(toMachineTime(300)));
+    }
+
+    @Test
+    public void smallValuesExact() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i);
+        }
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+        assertThat(snapshot.getPercentile(50.0), is(toMachineTime(50)));
+        assertThat(snapshot.getPercentile(99.0), is(toMachineTime(99)));
+        assertThat(snapshot.getPercentile(100.0), is(toMachineTime(100)));
+    }
+
+    @Test
+    public void largeValues() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(Long.MAX_VALUE);
+        recorder.record(0);
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+        assertThat(snapshot.getPercentile(100.0), is(toMachineTime(Long.MAX_VALUE)));
+        assertThat(snapshot.getPercentile(50.0), is(toMachineTime(0)));
+    }
+
+    @Test
+    public void concurrentRecording() throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final int threads = 8;
+        final int perThread = 20000;
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 1; i <= perThread; i++) {
+                        recorder.record(i + id);
+                    }
+                    latch.countDown();
+                }
+            }.start();
+        }
+        latch.await();
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+        assertThat(snapshot.getCount(), is((long) threads * perThread));
+        assertThat(snapshot.getMin(), is(toMachineTime(1)));
+        assertThat(snapshot.getMax(), is(toMachineTime(perThread + threads - 1)));
+        long sum = 0;
+        for (int t = 0; t < threads; t++) {
+            sum += (long) perThread * (perThread + 1) / 2 + (long) t * perThread;
+        }
+        assertThat(toNanos(snapshot.getMean()), is(Math.round((double) sum / (threads * perThread))));
+    }
+
+    @Test
+    public void startStop() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = recorder.start();
+        long elapsed = recorder.stop(start);
+        assertTrue(elapsed >= 0);
+        assertThat(recorder.snapshot().getCount(), is(1L));
+        assertThat(recorder.snapshot().getMax(), is(toMachineTime(elapsed)));
+    }
+
+    @Test
+    public void reset() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(1000);
+        recorder.reset();
+        assertThat(recorder.snapshot().getCount(), is(0L));
+        recorder.record(5);
+        assertThat(recorder.snapshot().getMin(), is(toMachineTime(5)));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void emptySnapshot() {
+        new LatencyRecorder().snapshot().getPercentile(50.0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeLatency() {
+        new LatencyRecorder().record(-1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void percentileOutOfRange() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(1);
+        recorder.snapshot().getPercentile(0.0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void precisionOutOfRange() {
+        new LatencyRecorder(11);
+    }
+
+    private static MachineTime<TimeUnit> toMachineTime(long nanos) {
+        return MachineTime.ofPosixUnits(nanos / 1000000000, (int) (nanos % 1000000000));
+    }
+
+    private static long toNanos(MachineTime<?> duration) {
+        return duration.getSeconds() * 1000000000 + duration.getFraction();
+    }
+
+}
@@ -0,0 +1,225 @@
+package net.time4j;
+
+import net.time4j.scale.TimeScale;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MomentColumnTest {
+
+    private static final Moment LEAP_SECOND = // 2016-12-31T23:59:60.5Z
+        Moment.of(1483228800L - 1, 500000000, TimeScale.POSIX).plus(1, SI.SECONDS);
+
+    @Test
+    public void leapSecondRegistered() {
+        assertThat(LEAP_SECOND.isLeapSecond(), is(true));
+    }
+
+    @Test
+    public void appendAndGet() {
+        List<Moment> moments = sortedMoments(1000, 1L);
+        MomentColumn column = new MomentColumn(0);
+        for (Moment m : moments) {
+            column.append(m);
+        }
+        assertThat(column.size(), is(moments.size()));
+        for (int i = 0; i < moments.size(); i++) {
+            Moment expected = moments.get(i);
+            assertThat(column.get(i), is(expected));
+            assertThat(column.getPosixTime(i), is(expected.getPosixTime()));
+            assertThat(column.getNanosecond(i), is(expected.getNanosecond()));
+            assertThat(column.isLeapSecond(i), is(expected.isLeapSecond()));
+        }
+        int index = 0;
+        for (Moment m : column) {
+            assertThat(m, is(moments.get(index++)));
+        }
+        assertThat(index, is(moments.size()));
+    }
+
+    @Test
+    public void leapSecondRoundTrip() {
+        MomentColumn column = new MomentColumn(4);
+        Moment before = LEAP_SECOND.minus(1, SI.SECONDS);
+        Moment after = LEAP_SECOND.plus(1, SI.SECONDS);
+        column.append(before);
+        column.append(LEAP_SECOND);
+        column.append(after);
+        assertThat(column.isLeapSecond(1), is(true));
+        assertThat(column.get(1), is(LEAP_SECOND));
+        assertThat(column.get(1).isLeapSecond(), is(true));
+        assertThat(column.ceilingIndex(LEAP_SECOND), is(1));
+        assertThat(column.ceilingIndex(after), is(2));
+        MomentColumn copy = MomentColumn.wrap(column.getSecondsBuffer(), column.getFractionsBuffer(), 3);
+        assertThat(copy.get(1), is(LEAP_SECOND));
+    }
+
+    @Test
+    public void ceilingIndexAndCount() {
+        List<Moment> moments = sortedMoments(500, 2L);
+        MomentColumn column = new MomentColumn(moments.size());
+        for (Moment m : moments) {
+            column.append(m);
+        }
+        Random random = new Random(3L);
+        for (int i = 0; i < 1000; i++) {
+            Moment key = Moment.of(random.nextInt(2000000000), random.nextInt(1000000000), TimeScale.POSIX);
+            int expected = 0;
+            while ((expected < moments.size()) && moments.get(expected).isBefore(key)) {
+                expected++;
+            }
+            assertThat(column.ceilingIndex(key), is(expected));
+        }
+        Moment start = moments.get(100);
+        Moment end = moments.get(200);
+        assertThat(column.count(start, end), is(100));
+        assertThat(column.count(end, start), is(0));
+    }
+
+    @Test
+    public void subColumn() {
+        List<Moment> moments = sortedMoments(100, 4L);
+        MomentColumn column = new MomentColumn(10);
+        for (Moment m : moments) {
+            column.append(m);
+        }
+        MomentColumn view = column.subColumn(20, 30);
+        assertThat(view.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(view.get(i), is(moments.get(20 + i)));
+        }
+    }
+
+    @Test
+    public void wrapPersistedBuffers() {
+        List<Moment> moments = sortedMoments(300, 5L);
+        MomentColumn column = new MomentColumn(1);
+        for (Moment m : moments) {
+            column.append(m);
+        }
+        ByteBuffer sb = copy(column.getSecondsBuffer());
+        ByteBuffer fb = copy(column.getFractionsBuffer());
+        MomentColumn restored = MomentColumn.wrap(sb, fb, moments.size());
+        assertThat(restored.size(), is(moments.size()));
+        for (int i = 0; i < moments.size(); i++) {
+            assertThat(restored.get(i), is(moments.get(i)));
+        }
+        Moment last = moments.get(moments.size() - 1).plus(1, SI.SECONDS);
+        restored.append(last); // grows beyond the wrapped capacity
+        assertThat(restored.get(moments.size()), is(last));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void appendUnsorted() {
+        MomentColumn column = new MomentColumn(2);
+        column.append(Moment.of(1000, TimeScale.POSIX));
+        column.append(Moment.of(999, TimeScale.POSIX));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapUnsorted() {
+        ByteBuffer sb = ByteBuffer.allocate(24).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(12).order(ByteOrder.nativeOrder());
+        sb.asLongBuffer().put(new long[] {1000, 2000, 1500});
+        MomentColumn.wrap(sb, fb, 3);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapUnsortedFraction() {
+        ByteBuffer sb = ByteBuffer.allocate(16).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+        sb.asLongBuffer().put(new long[] {1000, 1000});
+        fb.asIntBuffer().put(new int[] {5, 4});
+        MomentColumn.wrap(sb, fb, 2);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapInvalidNanosecond() {
+        ByteBuffer sb = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder());
+        sb.asLongBuffer().put(0, 1000);
+        fb.asIntBuffer().put(0, 1000000000);
+        MomentColumn.wrap(sb, fb, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapUnregisteredLeapSecond() {
+        ByteBuffer sb = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder());
+        sb.asLongBuffer().put(0, 1483228800L); // 2017-01-01T00:00:00Z
+        fb.asIntBuffer().put(0, 0x40000000);
+        MomentColumn.wrap(sb, fb, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapLeapSecondAtEpoch() {
+        ByteBuffer sb = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder());
+        fb.asIntBuffer().put(0, 0x40000000);
+        MomentColumn.wrap(sb, fb, 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrapBuffersTooSmall() {
+        MomentColumn.wrap(ByteBuffer.allocate(16), ByteBuffer.allocate(4), 2);
+    }
+
+    @Test
+    public void getAfterCorruptedLeapBit() {
+        ByteBuffer sb = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder());
+        ByteBuffer fb = ByteBuffer.allocate(4).order(ByteOrder.nativeOrder());
+        sb.asLongBuffer().put(0, 1483228800L);
+        MomentColumn column = MomentColumn.wrap(sb, fb, 1);
+        fb.asIntBuffer().put(0, 0x40000000); // shared buffer modified after wrapping
+        try {
+            column.get(0);
+            throw new AssertionError("Invalid leap second bit not detected.");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeCapacity() {
+        new MomentColumn(-1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void capacityOverflow() {
+        new MomentColumn(Integer.MAX_VALUE / 8 + 1);
+    }
+
+    private static List<Moment> sortedMoments(
+        int count,
+        long seed
+    ) {
+        Random random = new Random(seed);
+        List<Moment> moments = new ArrayList<Moment>(count);
+        long posix = 0;
+        for (int i = 0; i < count; i++) {
+            posix += random.nextInt(5000000);
+            int nano = random.nextInt(1000000000);
+            moments.add(Moment.of(posix, nano, TimeScale.POSIX));
+        }
+        return moments;
+    }
+
+    private static ByteBuffer copy(ByteBuffer buffer) {
+        ByteBuffer bb = ByteBuffer.allocate(buffer.remaining()).order(buffer.order());
+        bb.put(buffer.duplicate()).flip();
+        return bb;
+    }
+
+}
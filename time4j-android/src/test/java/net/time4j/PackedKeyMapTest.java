@@ -0,0 +1,162 @@
+package net.time4j;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PackedKeyMapTest {
+
+    @Test
+    public void putAndGet() {
+        PackedKeyMap map = new PackedKeyMap(0);
+        map.put(30L, 3L);
+        map.put(10L, 1L);
+        map.put(20L, 2L);
+        map.put(20L, 22L);
+        assertThat(map.size(), is(3));
+        assertThat(map.get(10L, -1L), is(1L));
+        assertThat(map.get(20L, -1L), is(22L));
+        assertThat(map.get(30L, -1L), is(3L));
+        assertThat(map.get(15L, -1L), is(-1L));
+        assertThat(map.containsKey(30L), is(true));
+        assertThat(map.containsKey(31L), is(false));
+        assertThat(map.keyAt(0), is(10L));
+        assertThat(map.valueAt(2), is(3L));
+        assertThat(map.toString(), is("{10=1, 20=22, 30=3}"));
+    }
+
+    @Test
+    public void add() {
+        PackedKeyMap map = new PackedKeyMap();
+        assertThat(map.add(5L, 2L), is(2L));
+        assertThat(map.add(5L, 3L), is(5L));
+        assertThat(map.add(1L, -4L), is(-4L));
+        assertThat(map.size(), is(2));
+        assertThat(map.get(5L, 0L), is(5L));
+        assertThat(map.get(1L, 0L), is(-4L));
+    }
+
+    @Test
+    public void sameAsTreeMap() {
+        Random random = new Random(29L);
+        PackedKeyMap map = new PackedKeyMap();
+        TreeMap<Long, Long> expected = new TreeMap<Long, Long>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(5000) - 2500;
+            long amount = random.nextInt(100);
+            if (random.nextBoolean()) {
+                map.put(key, amount);
+                expected.put(key, amount);
+            } else {
+                map.add(key, amount);
+                Long old = expected.get(key);
+                expected.put(key, (old == null) ? amount : old + amount);
+            }
+        }
+        assertThat(map.size(), is(expected.size()));
+        int index = 0;
+        for (Long key : expected.keySet()) {
+            assertThat(map.keyAt(index), is(key.longValue()));
+            assertThat(map.valueAt(index), is(expected.get(key).longValue()));
+            assertThat(map.indexOf(key), is(index));
+            index++;
+        }
+        for (int i = 0; i < 1000; i++) {
+            long from = random.nextInt(6000) - 3000;
+            long to = from + random.nextInt(1000);
+            long sum = 0;
+            for (Long value : expected.subMap(from, to).values()) {
+                sum += value;
+            }
+            assertThat(map.count(from, to), is(expected.subMap(from, to).size()));
+            assertThat(map.sum(from, to), is(sum));
+            assertThat(map.keys(from, to).length, is(expected.subMap(from, to).size()));
+            Long ceiling = expected.ceilingKey(from);
+            int ceilingIndex = map.ceilingIndex(from);
+            if (ceiling == null) {
+                assertThat(ceilingIndex, is(map.size()));
+            } else {
+                assertThat(map.keyAt(ceilingIndex), is(ceiling.longValue()));
+            }
+        }
+    }
+
+    @Test
+    public void ceilingIndex() {
+        PackedKeyMap map = new PackedKeyMap();
+        map.put(10L, 1L);
+        map.put(20L, 2L);
+        assertThat(map.ceilingIndex(5L), is(0));
+        assertThat(map.ceilingIndex(10L), is(0));
+        assertThat(map.ceilingIndex(11L), is(1));
+        assertThat(map.ceilingIndex(20L), is(1));
+        assertThat(map.ceilingIndex(21L), is(2));
+        assertThat(map.indexOf(15L) < 0, is(true));
+    }
+
+    @Test
+    public void rangeQueries() {
+        PackedKeyMap map = new PackedKeyMap();
+        for (int day = 1; day <= 31; day++) {
+            map.add(PrimitiveCodec.packDate(PlainDate.of(2024, 1, day)), day);
+        }
+        long from = PrimitiveCodec.packDate(PlainDate.of(2024, 1, 10));
+        long to = PrimitiveCodec.packDate(PlainDate.of(2024, 1, 20)); // exclusive
+        assertThat(map.count(from, to), is(10));
+        assertThat(map.sum(from, to), is(145L));
+        long[] keys = map.keys(from, to);
+        long[] values = map.values(from, to);
+        assertThat(keys.length, is(10));
+        assertThat(PrimitiveCodec.unpackDate(keys[0]), is(PlainDate.of(2024, 1, 10)));
+        assertThat(PrimitiveCodec.unpackDate(keys[9]), is(PlainDate.of(2024, 1, 19)));
+        assertThat(values[9], is(19L));
+        assertThat(map.count(to, from), is(0));
+        assertThat(map.sum(to, from), is(0L));
+        assertThat(map.keys(to, to).length, is(0));
+        assertThat(map.values(to, from).length, is(0));
+    }
+
+    @Test
+    public void equalsAndClear() {
+        PackedKeyMap m1 = new PackedKeyMap();
+        PackedKeyMap m2 = new PackedKeyMap(1);
+        m1.put(2L, 20L);
+        m1.put(1L, 10L);
+        m2.put(1L, 10L);
+        m2.put(2L, 20L);
+        assertThat(m1.equals(m2), is(true));
+        assertThat(m1.hashCode(), is(m2.hashCode()));
+        m2.put(2L, 21L);
+        assertThat(m1.equals(m2), is(false));
+        m1.clear();
+        assertThat(m1.size(), is(0));
+        assertThat(m1.containsKey(1L), is(false));
+        assertThat(m1.equals(new PackedKeyMap()), is(true));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void keyAtOutOfRange() {
+        PackedKeyMap map = new PackedKeyMap();
+        map.put(1L, 1L);
+        map.keyAt(1);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void valueAtOutOfRange() {
+        new PackedKeyMap().valueAt(0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeCapacity() {
+        new PackedKeyMap(-1);
+    }
+
+}
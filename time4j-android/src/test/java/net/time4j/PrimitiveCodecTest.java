@@ -0,0 +1,120 @@
+package net.time4j;
+
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PrimitiveCodecTest {
+
+    @Test
+    public void dateRoundTrip() {
+        PlainDate date = PlainDate.of(1600, 1, 1);
+        PlainDate end = PlainDate.of(2400, 12, 31);
+        long previous = Long.MIN_VALUE;
+        while (!date.isAfter(end)) {
+            long packed = PrimitiveCodec.packDate(date);
+            assertThat(PrimitiveCodec.unpackDate(packed), is(date));
+            assertThat(packed > previous, is(true)); // order preserving
+            assertThat(packed, is(GregorianMath.toPackedDate(date.get(EpochDays.MODIFIED_JULIAN_DATE))));
+            previous = packed;
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+    }
+
+    @Test
+    public void dateExtremes() {
+        PlainDate min = PlainDate.axis().getMinimum();
+        PlainDate max = PlainDate.axis().getMaximum();
+        assertThat(PrimitiveCodec.unpackDate(PrimitiveCodec.packDate(min)), is(min));
+        assertThat(PrimitiveCodec.unpackDate(PrimitiveCodec.packDate(max)), is(max));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void epochDayOutOfRange() {
+        PrimitiveCodec.packEpochDay(PlainDate.axis().getMinimum());
+    }
+
+    @Test
+    public void epochDayRoundTrip() {
+        assertThat(PrimitiveCodec.packEpochDay(PlainDate.of(1970, 1, 1)), is(0));
+        assertThat(PrimitiveCodec.packEpochDay(PlainDate.of(1972, 1, 1)), is(730));
+        for (int epochDay = -200000; epochDay <= 200000; epochDay += 7) {
+            PlainDate date = PrimitiveCodec.unpackEpochDay(epochDay);
+            assertThat(PrimitiveCodec.packEpochDay(date), is(epochDay));
+        }
+    }
+
+    @Test
+    public void timeRoundTrip() {
+        Random random = new Random(29L);
+        for (int i = 0; i < 100000; i++) {
+            PlainTime time =
+                PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000000000));
+            assertThat(PrimitiveCodec.unpackTime(PrimitiveCodec.packTime(time)), is(time));
+        }
+        assertThat(PrimitiveCodec.packTime(PlainTime.midnightAtStartOfDay()), is(0L));
+        PlainTime endOfDay = PlainTime.midnightAtEndOfDay();
+        assertThat(PrimitiveCodec.packTime(endOfDay), is(86400L * 1000000000L));
+        assertThat(PrimitiveCodec.unpackTime(PrimitiveCodec.packTime(endOfDay)), is(endOfDay));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timeNegative() {
+        PrimitiveCodec.unpackTime(-1L);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void timeBeyondDay() {
+        PrimitiveCodec.unpackTime(86400L * 1000000000L + 1);
+    }
+
+    @Test
+    public void timestampRoundTrip() {
+        Random random = new Random(30L);
+        for (int i = 0; i < 100000; i++) {
+            PlainTimestamp tsp =
+                PlainTimestamp.of(
+                    PlainDate.of(1700 + random.nextInt(500), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                    PlainTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000000000)));
+            assertThat(PrimitiveCodec.unpackTimestamp(PrimitiveCodec.packTimestamp(tsp)), is(tsp));
+        }
+        assertThat(PrimitiveCodec.packTimestamp(PlainTimestamp.of(1970, 1, 1, 0, 0)), is(0L));
+        PlainTimestamp beforeEpoch = PlainTimestamp.of(1969, 12, 31, 23, 59, 59);
+        assertThat(PrimitiveCodec.packTimestamp(beforeEpoch), is(-1000000000L));
+        assertThat(PrimitiveCodec.unpackTimestamp(-1000000000L), is(beforeEpoch));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void timestampOutOfRange() {
+        PrimitiveCodec.packTimestamp(PlainTimestamp.of(2300, 1, 1, 0, 0));
+    }
+
+    @Test
+    public void momentRoundTrip() {
+        Random random = new Random(31L);
+        for (int i = 0; i < 100000; i++) {
+            long posix = (long) (random.nextDouble() * 8000000000L) - 4000000000L;
+            Moment moment = Moment.of(posix, random.nextInt(1000000000), TimeScale.POSIX);
+            assertThat(PrimitiveCodec.unpackMoment(PrimitiveCodec.packMoment(moment)), is(moment));
+        }
+        assertThat(PrimitiveCodec.packMoment(Moment.UNIX_EPOCH), is(0L));
+        assertThat(PrimitiveCodec.unpackMoment(-1L), is(Moment.of(-1, 999999999, TimeScale.POSIX)));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void momentOutOfRange() {
+        PrimitiveCodec.packMoment(Moment.of(10000000000L, TimeScale.POSIX));
+    }
+
+}
@@ -0,0 +1,68 @@
+package net.time4j;
+
+import net.time4j.base.GregorianDate;
+import net.time4j.scale.LeapSecondProvider;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * <p>Leap second table for unit tests on the JVM where the Android assets are not available. </p>
+ */
+public class TestLeapSecondProvider
+    implements LeapSecondProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int[][] EVENTS = {
+        {1972, 6, 30}, {1972, 12, 31}, {1973, 12, 31}, {1974, 12, 31}, {1975, 12, 31},
+        {1976, 12, 31}, {1977, 12, 31}, {1978, 12, 31}, {1979, 12, 31}, {1981, 6, 30},
+        {1982, 6, 30}, {1983, 6, 30}, {1985, 6, 30}, {1987, 12, 31}, {1989, 12, 31},
+        {1990, 12, 31}, {1992, 6, 30}, {1993, 6, 30}, {1994, 6, 30}, {1995, 12, 31},
+        {1997, 6, 30}, {1998, 12, 31}, {2005, 12, 31}, {2008, 12, 31}, {2012, 6, 30},
+        {2015, 6, 30}, {2016, 12, 31}
+    };
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Map<GregorianDate, Integer> getLeapSecondTable() {
+
+        Map<GregorianDate, Integer> table = new HashMap<GregorianDate, Integer>();
+
+        for (int[] event : EVENTS) {
+            table.put(this.getDateOfEvent(event[0], event[1], event[2]), Integer.valueOf(1));
+        }
+
+        return Collections.unmodifiableMap(table);
+
+    }
+
+    @Override
+    public boolean supportsNegativeLS() {
+
+        return false;
+
+    }
+
+    @Override
+    public GregorianDate getDateOfEvent(
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+
+        return PlainDate.of(year, month, dayOfMonth);
+
+    }
+
+    @Override
+    public GregorianDate getDateOfExpiration() {
+
+        return PlainDate.of(2030, 1, 1);
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package net.time4j;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ServiceLoader;
+
+
+/**
+ * <p>Resource loader for unit tests on the JVM which reads the Android assets of this module
+ * directly from the file system. </p>
+ *
+ * <p>Configured by the system property {@code net.time4j.base.ResourceLoader} in the build script.
+ * Services are looked up via {@code ServiceLoader} in the test resources. </p>
+ */
+public class TestResourceLoader
+    extends ResourceLoader {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final File ASSETS = new File("src/main/assets/net/time4j");
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public URI locate(
+        String moduleName,
+        Class<?> moduleRef,
+        String path
+    ) {
+
+        File file = new File(new File(ASSETS, moduleName), path);
+        return (file.exists() ? file.toURI() : null);
+
+    }
+
+    @Override
+    public InputStream load(
+        URI uri,
+        boolean noCache
+    ) {
+
+        if (uri == null) {
+            return null;
+        }
+
+        try {
+            return new FileInputStream(new File(uri));
+        } catch (IOException ioe) {
+            return null;
+        }
+
+    }
+
+    @Override
+    public <S> Iterable<S> services(Class<S> serviceInterface) {
+
+        return ServiceLoader.load(serviceInterface, serviceInterface.getClassLoader());
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package net.time4j.base;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class GregorianMathTest {
+
+    @Test
+    public void addDaysSameAsMJD() {
+        long packed = GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 1, 1));
+        for (int i = 0; i < 800; i++) {
+            long mjd = GregorianMath.toMJD(2024, 1, 1) + i;
+            for (int days = -40; days <= 40; days++) {
+                assertThat(GregorianMath.addDays(packed, days), is(GregorianMath.toPackedDate(mjd + days)));
+            }
+            packed = GregorianMath.addDays(packed, 1);
+        }
+    }
+
+    @Test
+    public void addDaysCanonicalResult() {
+        long canonical = GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 2, 10));
+        long stray = canonical | 0xFF000000L | 0xFF00L; // unused bits set
+        assertThat(GregorianMath.addDays(stray, 1), is(GregorianMath.addDays(canonical, 1)));
+        assertThat(GregorianMath.addDays(stray, 30), is(GregorianMath.addDays(canonical, 30)));
+        assertThat(GregorianMath.addDays(stray, 0), is(canonical));
+    }
+
+    @Test
+    public void addDaysBulk() {
+        long[] dates = {
+            GregorianMath.toPackedDate(GregorianMath.toMJD(2023, 12, 31)),
+            GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 2, 28))
+        };
+        GregorianMath.addDays(dates, 1);
+        assertThat(dates[0], is(GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 1, 1))));
+        assertThat(dates[1], is(GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 2, 29))));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void addDaysInvalidDate() {
+        GregorianMath.addDays(GregorianMath.toPackedDate(GregorianMath.toMJD(2024, 2, 10)) + 20, 1);
+    }
+
+}
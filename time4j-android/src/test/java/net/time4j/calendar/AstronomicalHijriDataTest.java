@@ -0,0 +1,125 @@
+package net.time4j.calendar;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class AstronomicalHijriDataTest {
+
+    private static final String[] VARIANTS = {"islamic-umalqura", "islamic-icu4j", "islamic-diyanet"};
+
+    @Test
+    public void indexSameAsProperties() throws IOException {
+        for (String variant : VARIANTS) {
+            AstronomicalHijriData indexed = readIndex(variant);
+            AstronomicalHijriData parsed = readProperties(variant);
+            assertThat(variant, indexed.getVersion(), is(parsed.getVersion()));
+            assertThat(variant, indexed.getMinimumSinceUTC(), is(parsed.getMinimumSinceUTC()));
+            assertThat(variant, indexed.getMaximumSinceUTC(), is(parsed.getMaximumSinceUTC()));
+            Properties header = readHeader(variant);
+            int min = Integer.parseInt(header.getProperty("min"));
+            int max = Integer.parseInt(header.getProperty("max"));
+            for (int year = min; year <= max; year++) {
+                for (int month = 1; month <= 12; month++) {
+                    boolean valid = parsed.isValid(HijriEra.ANNO_HEGIRAE, year, month, 1);
+                    assertThat(variant, indexed.isValid(HijriEra.ANNO_HEGIRAE, year, month, 1), is(valid));
+                    if (valid) {
+                        assertThat(
+                            variant + "-" + year + "-" + month,
+                            indexed.getLengthOfMonth(HijriEra.ANNO_HEGIRAE, year, month),
+                            is(parsed.getLengthOfMonth(HijriEra.ANNO_HEGIRAE, year, month)));
+                    }
+                }
+            }
+            assertThat(variant, indexed.isValid(HijriEra.ANNO_HEGIRAE, max + 1, 1, 1), is(false));
+        }
+    }
+
+    @Test
+    public void indexMatchesHeader() throws IOException {
+        for (String variant : VARIANTS) {
+            assertThat(variant, readIndex(variant).matches(readHeader(variant)), is(true));
+        }
+    }
+
+    @Test
+    public void indexDoesNotMatchChangedHeader() throws IOException {
+        for (String variant : VARIANTS) {
+            AstronomicalHijriData indexed = readIndex(variant);
+            Properties header = readHeader(variant);
+            header.setProperty("version", header.getProperty("version") + "-custom");
+            assertThat(variant, indexed.matches(header), is(false));
+            header = readHeader(variant);
+            header.setProperty("max", String.valueOf(Integer.parseInt(header.getProperty("max")) + 1));
+            assertThat(variant, indexed.matches(header), is(false));
+            header = readHeader(variant);
+            header.setProperty("iso-start", "2000-01-01");
+            assertThat(variant, indexed.matches(header), is(false));
+        }
+    }
+
+    @Test
+    public void loadedSameAsProperties() throws IOException {
+        for (String variant : VARIANTS) {
+            AstronomicalHijriData loaded = new AstronomicalHijriData(variant);
+            AstronomicalHijriData parsed = readProperties(variant);
+            assertThat(variant, loaded.getVersion(), is(parsed.getVersion()));
+            for (long utcDays = parsed.getMinimumSinceUTC(); utcDays <= parsed.getMaximumSinceUTC(); utcDays += 7) {
+                assertThat(variant, loaded.transform(utcDays), is(parsed.transform(utcDays)));
+            }
+        }
+    }
+
+    private static AstronomicalHijriData readIndex(String variant) throws IOException {
+        InputStream is = open(variant, ".idx");
+        try {
+            return AstronomicalHijriData.readIndex(variant, is);
+        } finally {
+            is.close();
+        }
+    }
+
+    private static AstronomicalHijriData readProperties(String variant) throws IOException {
+        InputStream is = open(variant, ".data");
+        try {
+            return AstronomicalHijriData.readProperties(variant, variant + ".data", is);
+        } finally {
+            is.close();
+        }
+    }
+
+    private static Properties readHeader(String variant) throws IOException {
+        InputStream is = open(variant, ".data");
+        try {
+            return AstronomicalHijriData.readHeader(is);
+        } finally {
+            is.close();
+        }
+    }
+
+    private static InputStream open(
+        String variant,
+        String extension
+    ) throws IOException {
+        String name = "data/" + variant.replace('-', '_') + extension;
+        URI uri = ResourceLoader.getInstance().locate("calendar", AstronomicalHijriData.class, name);
+        InputStream is = ResourceLoader.getInstance().load(uri, true);
+        if (is == null) {
+            throw new IOException("Missing resource: " + name);
+        }
+        return is;
+    }
+
+}
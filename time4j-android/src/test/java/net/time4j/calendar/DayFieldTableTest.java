@@ -0,0 +1,203 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarEra;
+import net.time4j.engine.CalendarSystem;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.EpochDays;
+import net.time4j.history.HistoricEra;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class DayFieldTableTest {
+
+    private static final long START = PlainDate.of(1990, 12, 17).getDaysSinceEpochUTC();
+    private static final long END = PlainDate.of(2031, 3, 5).getDaysSinceEpochUTC();
+
+    @Test
+    public void gregorian() {
+        DayFieldTable table = DayFieldTable.of(PlainDate.axis(), START, END);
+        assertThat(table.size(), is((int) (END - START)));
+        for (int i = 0; i < table.size(); i++) {
+            PlainDate date = PlainDate.of(START + i, EpochDays.UTC);
+            assertThat(table.getUtcDays(i), is(START + i));
+            assertThat(table.getEra(i), nullValue());
+            assertThat(table.getYear(i), is(date.getYear()));
+            assertThat(table.getMonth(i), is(date.getMonth()));
+            assertThat(table.getDayOfMonth(i), is(date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    public void julian() {
+        DayFieldTable table = DayFieldTable.of(JulianCalendar.axis(), START, END);
+        CalendarSystem<JulianCalendar> calsys = JulianCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            JulianCalendar date = calsys.transform(START + i);
+            check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void coptic() {
+        DayFieldTable table = DayFieldTable.of(CopticCalendar.axis(), START, END);
+        CalendarSystem<CopticCalendar> calsys = CopticCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            CopticCalendar date = calsys.transform(START + i);
+            check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void ethiopian() {
+        DayFieldTable table = DayFieldTable.of(EthiopianCalendar.axis(), START, END);
+        CalendarSystem<EthiopianCalendar> calsys = EthiopianCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            EthiopianCalendar date = calsys.transform(START + i);
+            check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void persian() {
+        DayFieldTable table = DayFieldTable.of(PersianCalendar.axis(), START, END);
+        CalendarSystem<PersianCalendar> calsys = PersianCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            PersianCalendar date = calsys.transform(START + i);
+            check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void hebrew() {
+        DayFieldTable table = DayFieldTable.of(HebrewCalendar.axis(), START, END);
+        CalendarSystem<HebrewCalendar> calsys = HebrewCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            HebrewCalendar date = calsys.transform(START + i);
+            int month = date.getMonth().getCivilValue(date.isLeapYear());
+            check(table, i, date.getEra(), date.getYear(), month, date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void hijri() {
+        for (String variant : new String[] {
+            HijriCalendar.VARIANT_UMALQURA, HijriAlgorithm.WEST_ISLAMIC_ASTRO.getVariant()}
+        ) {
+            DayFieldTable table = DayFieldTable.of(HijriCalendar.family(), variant, START, END);
+            CalendarSystem<HijriCalendar> calsys = HijriCalendar.family().getCalendarSystem(variant);
+            for (int i = 0; i < table.size(); i++) {
+                HijriCalendar date = calsys.transform(START + i);
+                check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+            }
+        }
+    }
+
+    @Test
+    public void indian() {
+        DayFieldTable table = DayFieldTable.of(IndianCalendar.axis(), START, END);
+        CalendarSystem<IndianCalendar> calsys = IndianCalendar.axis().getCalendarSystem();
+        for (int i = 0; i < table.size(); i++) {
+            IndianCalendar date = calsys.transform(START + i);
+            check(table, i, date.getEra(), date.getYear(), date.getMonth().getValue(), date.getDayOfMonth());
+        }
+    }
+
+    @Test
+    public void julianEraChange() {
+        long start = JulianCalendar.of(HistoricEra.BC, 1, 12, 20).getDaysSinceEpochUTC();
+        DayFieldTable table = DayFieldTable.of(JulianCalendar.axis(), start, start + 20);
+        assertThat(table.getEra(0), is((CalendarEra) HistoricEra.BC));
+        assertThat(table.getEra(19), is((CalendarEra) HistoricEra.AD));
+        assertThat(table.getYear(11), is(1));
+        assertThat(table.getMonth(12), is(1));
+        assertThat(table.getDayOfMonth(12), is(1));
+    }
+
+    @Test
+    public void emptyRange() {
+        assertThat(DayFieldTable.of(PlainDate.axis(), START, START).size(), is(0));
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void indexOutOfRange() {
+        DayFieldTable.of(PlainDate.axis(), START, START + 10).getUtcDays(10);
+    }
+
+    @Test
+    public void indexCheckedByAllAccessors() {
+        DayFieldTable table = DayFieldTable.of(PlainDate.axis(), START, START + 10);
+        for (int index : new int[] {-1, 10}) {
+            for (int accessor = 0; accessor < 5; accessor++) {
+                try {
+                    switch (accessor) {
+                        case 0:
+                            table.getUtcDays(index);
+                            break;
+                        case 1:
+                            table.getEra(index);
+                            break;
+                        case 2:
+                            table.getYear(index);
+                            break;
+                        case 3:
+                            table.getMonth(index);
+                            break;
+                        default:
+                            table.getDayOfMonth(index);
+                    }
+                    fail("Missing exception for accessor " + accessor);
+                } catch (IndexOutOfBoundsException ex) {
+                    assertThat(ex.getClass().getName(), is(IndexOutOfBoundsException.class.getName()));
+                    assertThat(ex.getMessage(), is("Index out of range: " + index));
+                }
+            }
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidRange() {
+        DayFieldTable.of(PlainDate.axis(), START, START - 1);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void missingVariant() {
+        DayFieldTable.of(HijriCalendar.family(), "", START, END);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void unsupportedCalendar() {
+        DayFieldTable.of((Chronology<?>) ThaiSolarCalendar.axis(), START, END);
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void outOfBounds() {
+        long max = HijriCalendar.family().getCalendarSystem(HijriCalendar.VARIANT_UMALQURA).getMaximumSinceUTC();
+        DayFieldTable.of(HijriCalendar.family(), HijriCalendar.VARIANT_UMALQURA, max - 10, max + 2);
+    }
+
+    private static void check(
+        DayFieldTable table,
+        int index,
+        CalendarEra era,
+        int year,
+        int month,
+        int dayOfMonth
+    ) {
+        String msg = "index=" + index;
+        assertThat(msg, table.getEra(index), is(era));
+        assertThat(msg, table.getYear(index), is(year));
+        assertThat(msg, table.getMonth(index), is(month));
+        assertThat(msg, table.getDayOfMonth(index), is(dayOfMonth));
+    }
+
+}
@@ -0,0 +1,86 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarEra;
+import net.time4j.tz.ZonalOffset;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianCSTest {
+
+    private static final EastAsianCS<ChineseCalendar> CHINESE = ChineseCalendar.ofNewYear(2000).getCalendarSystem();
+
+    @Test
+    public void monthIterationHitsYearCache() {
+        EastAsianCS<ChineseCalendar> calsys = new WithoutTable();
+        long start = PlainDate.of(2021, 6, 1).getDaysSinceEpochUTC();
+        assertThat(calsys.transform(start), is(CHINESE.transform(start)));
+        long misses = calsys.getYearCacheMisses();
+        long hits = calsys.getYearCacheHits();
+        assertThat(misses > 0, is(true));
+        for (int i = 1; i < 30; i++) {
+            assertThat(calsys.transform(start + i), is(CHINESE.transform(start + i)));
+        }
+        assertThat(calsys.getYearCacheMisses(), is(misses));
+        assertThat(calsys.getYearCacheHits() - hits >= 29, is(true));
+    }
+
+    @Test
+    public void tableYearsBypassYearCache() {
+        long start = PlainDate.of(2021, 6, 1).getDaysSinceEpochUTC();
+        long misses = CHINESE.getYearCacheMisses();
+        long hits = CHINESE.getYearCacheHits();
+        for (int i = 0; i < 30; i++) {
+            CHINESE.transform(start + i);
+        }
+        assertThat(CHINESE.getYearCacheMisses(), is(misses));
+        assertThat(CHINESE.getYearCacheHits(), is(hits));
+    }
+
+    // Chinese calendar system which has to use astronomical calculations only
+    private static class WithoutTable
+        extends EastAsianCS<ChineseCalendar> {
+
+        @Override
+        public List<CalendarEra> getEras() {
+            return CHINESE.getEras();
+        }
+
+        @Override
+        ChineseCalendar create(
+            int cycle,
+            int yearOfCycle,
+            EastAsianMonth eam,
+            int dayOfMonth,
+            long utcDays
+        ) {
+            return CHINESE.create(cycle, yearOfCycle, eam, dayOfMonth, utcDays);
+        }
+
+        @Override
+        ZonalOffset getOffset(long utcDays) {
+            return CHINESE.getOffset(utcDays);
+        }
+
+        @Override
+        int[] getLeapMonths() {
+            return CHINESE.getLeapMonths();
+        }
+
+        @Override
+        String getDataName() {
+            return "missing";
+        }
+
+    }
+
+}
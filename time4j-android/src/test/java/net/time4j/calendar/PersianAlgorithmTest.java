@@ -0,0 +1,65 @@
+package net.time4j.calendar;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.calendar.astro.AstronomicalSeason;
+import net.time4j.calendar.astro.SolarTime;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class PersianAlgorithmTest {
+
+    @Test
+    public void nowruzAtStandardOffset() { // precomputed table
+        checkNowruz(PersianAlgorithm.STD_OFFSET);
+    }
+
+    @Test
+    public void nowruzAtSummerOffset() { // fixed season cache
+        checkNowruz(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 4));
+    }
+
+    @Test
+    public void nowruzAtUnknownOffsets() { // direct calculation
+        checkNowruz(ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 3));
+        checkNowruz(ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 31));
+        checkNowruz(ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 51, 25, 0.0)); // Tehran
+    }
+
+    @Test
+    public void roundTripAtUnknownOffset() {
+        ZonalOffset offset = ZonalOffset.atLongitude(OffsetSign.AHEAD_OF_UTC, 51, 25, 0.0);
+        long start = PlainDate.of(1990, 1, 1).getDaysSinceEpochUTC();
+        for (long utcDays = start; utcDays < start + 20000; utcDays++) {
+            PersianCalendar date = PersianAlgorithm.ASTRONOMICAL.transform(utcDays, offset);
+            assertThat(PersianAlgorithm.ASTRONOMICAL.transform(date, offset), is(utcDays));
+        }
+    }
+
+    private static void checkNowruz(ZonalOffset offset) {
+        for (int pyear = 1; pyear <= 2378; pyear += 3) {
+            long expected = vernalEquinox(pyear, offset).getDaysSinceEpochUTC();
+            long actual = PersianAlgorithm.ASTRONOMICAL.transform(PersianCalendar.of(pyear, 1, 1), offset);
+            assertThat("offset=" + offset + ", year=" + pyear, actual, is(expected));
+        }
+    }
+
+    private static PlainDate vernalEquinox(
+        int pyear,
+        ZonalOffset offset
+    ) {
+        PlainTimestamp tsp = AstronomicalSeason.VERNAL_EQUINOX.inYear(pyear + 621).get(SolarTime.apparentAt(offset));
+        return ((tsp.getHour() >= 12) ? tsp.getCalendarDate().plus(1, CalendarUnit.DAYS) : tsp.getCalendarDate());
+    }
+
+}
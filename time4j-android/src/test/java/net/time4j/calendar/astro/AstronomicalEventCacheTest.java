@@ -0,0 +1,56 @@
+package net.time4j.calendar.astro;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class AstronomicalEventCacheTest {
+
+    @Test
+    public void lunationsSameAsUncachedCalculation() {
+        AstronomicalEventCache.clear();
+        for (int round = 0; round < 2; round++) { // second round served by cache
+            for (int n = -2000; n <= 2000; n += 3) {
+                for (MoonPhase phase : MoonPhase.values()) {
+                    assertThat(phase + ", n=" + n, phase.atLunation(n), is(phase.calculate(n)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void seasonsSameAsUncachedCalculation() {
+        AstronomicalEventCache.clear();
+        for (int round = 0; round < 2; round++) { // second round served by cache
+            for (int year = -2000; year <= 3000; year += 5) {
+                for (AstronomicalSeason season : AstronomicalSeason.values()) {
+                    assertThat(season + ", year=" + year, season.inYear(year), is(season.calculate(year)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void slotCollisions() {
+        // lunations with distance 2048 and years with distance 1024 share the same slot
+        for (int i = 0; i < 3; i++) {
+            assertThat(MoonPhase.NEW_MOON.atLunation(100), is(MoonPhase.NEW_MOON.calculate(100)));
+            assertThat(MoonPhase.NEW_MOON.atLunation(2148), is(MoonPhase.NEW_MOON.calculate(2148)));
+            assertThat(AstronomicalSeason.VERNAL_EQUINOX.inYear(1000), is(AstronomicalSeason.VERNAL_EQUINOX.calculate(1000)));
+            assertThat(AstronomicalSeason.VERNAL_EQUINOX.inYear(2024), is(AstronomicalSeason.VERNAL_EQUINOX.calculate(2024)));
+        }
+    }
+
+    @Test
+    public void clear() {
+        MoonPhase.FULL_MOON.atLunation(0);
+        AstronomicalEventCache.clear();
+        assertThat(MoonPhase.FULL_MOON.atLunation(0), is(MoonPhase.FULL_MOON.calculate(0)));
+    }
+
+}
@@ -0,0 +1,121 @@
+package net.time4j.calendar.astro;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class DailyEventsTest {
+
+    private static final PlainDate FROM = PlainDate.of(2024, 1, 1);
+    private static final PlainDate TO = PlainDate.of(2024, 12, 31);
+
+    @Test
+    public void sameAsDailyFunctions() {
+        double[][] locations = {{53.55, 10.0}, {-33.9, 18.4}, {0.0, -78.5}, {40.7, -74.0}, {60.0, 25.0}};
+        for (StdSolarCalculator calculator : StdSolarCalculator.values()) {
+            for (double[] location : locations) {
+                SolarTime st = SolarTime.ofLocation(location[0], location[1], 0, calculator);
+                check(st, st.dailyEvents(FROM, TO), null);
+            }
+        }
+    }
+
+    @Test
+    public void polarDays() {
+        double[][] locations = {{78.2, 15.6}, {-77.8, 166.7}, {69.6, 18.9}, {89.9, 0.0}};
+        for (StdSolarCalculator calculator : new StdSolarCalculator[] {StdSolarCalculator.NOAA, StdSolarCalculator.TIME4J}) {
+            for (double[] location : locations) {
+                SolarTime st = SolarTime.ofLocation(location[0], location[1], 0, calculator);
+                SolarTime.DailyEvents events = st.dailyEvents(FROM, TO);
+                check(st, events, null);
+                int polarNights = 0;
+                int midnightSuns = 0;
+                for (int i = 0; i < events.size(); i++) {
+                    if (events.isPolarNight(i)) {
+                        polarNights++;
+                        assertThat(events.getSunrise(i), is(SolarTime.DailyEvents.NO_EVENT));
+                    } else if (events.isMidnightSun(i)) {
+                        midnightSuns++;
+                        assertThat(events.getSunset(i), is(SolarTime.DailyEvents.NO_EVENT));
+                    }
+                }
+                assertThat(calculator + ": " + st, (polarNights > 0) && (midnightSuns > 0), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void twilight() {
+        for (Twilight twilight : Twilight.values()) {
+            SolarTime st = SolarTime.ofLocation(65.0, 25.0, 0, StdSolarCalculator.NOAA);
+            check(st, st.dailyEvents(FROM, TO, twilight), twilight);
+        }
+    }
+
+    @Test
+    public void singleDay() {
+        SolarTime st = SolarTime.ofLocation(53.55, 10.0, 0, StdSolarCalculator.NOAA);
+        SolarTime.DailyEvents events = st.dailyEvents(FROM, FROM);
+        assertThat(events.size(), is(1));
+        assertThat(events.getDate(0), is(FROM));
+    }
+
+    @Test
+    public void arrayCopies() {
+        SolarTime st = SolarTime.ofLocation(53.55, 10.0, 0, StdSolarCalculator.NOAA);
+        SolarTime.DailyEvents events = st.dailyEvents(FROM, TO);
+        events.getSunrises()[0] = 0L;
+        events.getSunsets()[0] = 0L;
+        events.getNoons()[0] = 0L;
+        assertThat(events.getSunrise(0) == 0L, is(false));
+        assertThat(events.getSunset(0) == 0L, is(false));
+        assertThat(events.getNoon(0) == 0L, is(false));
+        assertThat(events.getSunrises().length, is(366));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidRange() {
+        SolarTime.ofLocation(53.55, 10.0).dailyEvents(TO, FROM);
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void indexOutOfRange() {
+        SolarTime.ofLocation(53.55, 10.0).dailyEvents(FROM, TO).getDate(366);
+    }
+
+    static void check(
+        SolarTime st,
+        SolarTime.DailyEvents events,
+        Twilight twilight
+    ) {
+        assertThat(events.size(), is((int) CalendarUnit.DAYS.between(FROM, TO) + 1));
+        for (int i = 0; i < events.size(); i++) {
+            PlainDate date = FROM.plus(i, CalendarUnit.DAYS);
+            String msg = st + ", " + date;
+            assertThat(msg, events.getDate(i), is(date));
+            Moment sunrise = date.get((twilight == null) ? st.sunrise() : st.sunrise(twilight));
+            Moment sunset = date.get((twilight == null) ? st.sunset() : st.sunset(twilight));
+            assertThat(msg, events.getSunrise(i), is(toSeconds(sunrise)));
+            assertThat(msg, events.getSunset(i), is(toSeconds(sunset)));
+            assertThat(msg, events.getNoon(i), is(toSeconds(date.get(st.transitAtNoon()))));
+            if (twilight == null) {
+                assertThat(msg, events.isPolarNight(i), is(st.polarNight().test(date)));
+                assertThat(msg, events.isMidnightSun(i), is(st.midnightSun().test(date)));
+            }
+        }
+    }
+
+    private static long toSeconds(Moment moment) {
+        return ((moment == null) ? SolarTime.DailyEvents.NO_EVENT : moment.getPosixTime());
+    }
+
+}
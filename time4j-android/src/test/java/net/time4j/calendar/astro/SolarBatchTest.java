@@ -0,0 +1,199 @@
+package net.time4j.calendar.astro;
+
+import net.time4j.PlainDate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class SolarBatchTest {
+
+    private static final PlainDate FROM = PlainDate.of(2024, 1, 1);
+    private static final PlainDate TO = PlainDate.of(2024, 12, 31);
+
+    @Test
+    public void randomLocationsNearDailyEvents() {
+        SolarBatch batch = createBatch(400, StdSolarCalculator.NOAA);
+        List<SolarTime.DailyEvents> results = batch.calculate(FROM, TO);
+        assertThat(results.size(), is(400));
+        for (int j = 0; j < batch.size(); j++) {
+            SolarTime st = batch.getLocation(j);
+            SolarTime.DailyEvents expected = st.dailyEvents(FROM, TO);
+            SolarTime.DailyEvents actual = results.get(j);
+            assertThat(actual.size(), is(expected.size()));
+            for (int i = 0; i < expected.size(); i++) {
+                String msg = st + ", " + expected.getDate(i);
+                assertThat(msg, actual.getDate(i), is(expected.getDate(i)));
+                assertNear(msg, actual.getSunrise(i), expected.getSunrise(i));
+                assertNear(msg, actual.getSunset(i), expected.getSunset(i));
+                assertNear(msg, actual.getNoon(i), expected.getNoon(i));
+                assertThat(msg, actual.isPolarNight(i), is(expected.isPolarNight(i)));
+                assertThat(msg, actual.isMidnightSun(i), is(expected.isMidnightSun(i)));
+            }
+        }
+    }
+
+    @Test
+    public void parallelSameAsSerial() throws InterruptedException {
+        SolarBatch batch = createBatch(200, StdSolarCalculator.NOAA);
+        List<SolarTime.DailyEvents> serial = batch.calculate(FROM, TO);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<SolarTime.DailyEvents> parallel = batch.calculate(FROM, TO, executor);
+            assertThat(parallel.size(), is(serial.size()));
+            for (int j = 0; j < serial.size(); j++) {
+                SolarTime.DailyEvents s = serial.get(j);
+                SolarTime.DailyEvents p = parallel.get(j);
+                for (int i = 0; i < s.size(); i++) {
+                    assertThat(p.getSunrise(i), is(s.getSunrise(i)));
+                    assertThat(p.getSunset(i), is(s.getSunset(i)));
+                    assertThat(p.getNoon(i), is(s.getNoon(i)));
+                    assertThat(p.isPolarNight(i), is(s.isPolarNight(i)));
+                    assertThat(p.isMidnightSun(i), is(s.isMidnightSun(i)));
+                }
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void failureCancelsOutstandingTasks() {
+        SolarBatch batch = createBatch(200, StdSolarCalculator.TIME4J);
+        FailingExecutor executor = new FailingExecutor();
+        try {
+            batch.calculate(FROM, TO, executor);
+            fail("Missing exception.");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(ex.getMessage(), is("Simulated failure."));
+        }
+        assertThat(executor.tasks.size(), is(4));
+        for (int i = 1; i < executor.tasks.size(); i++) {
+            assertThat(executor.tasks.get(i).isCancelled(), is(true));
+        }
+    }
+
+    @Test
+    public void emptyBatch() {
+        SolarBatch batch = SolarBatch.of(new double[0], new double[0], new int[0], StdSolarCalculator.NOAA);
+        assertThat(batch.size(), is(0));
+        assertThat(batch.calculate(FROM, TO).isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void differentArrayLengths() {
+        SolarBatch.of(new double[2], new double[1], new int[2], StdSolarCalculator.NOAA);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidRange() {
+        createBatch(1, StdSolarCalculator.NOAA).calculate(TO, FROM);
+    }
+
+    private static SolarBatch createBatch(
+        int n,
+        StdSolarCalculator calculator
+    ) {
+        Random random = new Random(2024L);
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        int[] altitudes = new int[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = random.nextDouble() * 178.0 - 89.0;
+            longitudes[i] = random.nextDouble() * 360.0 - 180.0;
+            altitudes[i] = random.nextInt(2000);
+        }
+        return SolarBatch.of(latitudes, longitudes, altitudes, calculator);
+    }
+
+    private static void assertNear(
+        String msg,
+        long actual,
+        long expected
+    ) {
+        if ((actual == SolarTime.DailyEvents.NO_EVENT) || (expected == SolarTime.DailyEvents.NO_EVENT)) {
+            assertThat(msg, actual, is(expected));
+        } else {
+            assertThat(msg + " => " + (actual - expected), Math.abs(actual - expected) <= 1, is(true));
+        }
+    }
+
+    // runs the first task immediately and lets it fail, the other tasks remain pending
+    private static class FailingExecutor
+        extends AbstractExecutorService {
+
+        private final List<FutureTask<?>> tasks = new ArrayList<FutureTask<?>>();
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+            FutureTask<T> task;
+            if (this.tasks.isEmpty()) {
+                task = new FutureTask<T>(
+                    new Callable<T>() {
+                        @Override
+                        public T call() {
+                            throw new UnsupportedOperationException("Simulated failure.");
+                        }
+                    }
+                );
+            } else {
+                task = new FutureTask<T>(callable);
+            }
+            this.tasks.add(task);
+            return task;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (command == this.tasks.get(0)) {
+                command.run();
+            }
+        }
+
+        @Override
+        public void shutdown() {}
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<Runnable>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(
+            long timeout,
+            TimeUnit unit
+        ) {
+            return false;
+        }
+
+    }
+
+}
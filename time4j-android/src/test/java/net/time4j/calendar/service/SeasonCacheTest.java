@@ -0,0 +1,76 @@
+package net.time4j.calendar.service;
+
+import net.time4j.calendar.astro.AstronomicalSeason;
+import net.time4j.calendar.astro.SolarTime;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.ZonalOffset;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SeasonCacheTest {
+
+    private static final SeasonCache[] FIXED = {
+        SeasonCache.PARIS_AUTUMNAL_EQUINOX, SeasonCache.IRAN_VERNAL_EQUINOX, SeasonCache.IRAN_SUMMER_VERNAL_EQUINOX
+    };
+
+    @Test
+    public void sameAsUncachedCalculation() {
+        for (SeasonCache cache : FIXED) {
+            for (int year = -2000; year <= 3000; year += 7) {
+                assertThat(
+                    cache + ", year=" + year,
+                    cache.apparentTimeInYear(year),
+                    is(cache.getSeason().inYear(year).get(SolarTime.apparentAt(cache.getOffset()))));
+            }
+        }
+    }
+
+    @Test
+    public void repeatedAccess() {
+        for (int year = 1790; year < 1900; year++) {
+            assertThat(
+                SeasonCache.PARIS_AUTUMNAL_EQUINOX.apparentTimeInYear(year),
+                sameInstance(SeasonCache.PARIS_AUTUMNAL_EQUINOX.apparentTimeInYear(year)));
+        }
+    }
+
+    @Test
+    public void findFixed() {
+        for (SeasonCache cache : FIXED) {
+            assertThat(SeasonCache.find(cache.getSeason(), cache.getOffset()), sameInstance(cache));
+        }
+        assertThat(
+            SeasonCache.find(AstronomicalSeason.VERNAL_EQUINOX, ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30)),
+            sameInstance(SeasonCache.IRAN_VERNAL_EQUINOX));
+    }
+
+    @Test
+    public void findUnknown() {
+        assertThat(
+            SeasonCache.find(AstronomicalSeason.VERNAL_EQUINOX, ZonalOffset.ofHours(OffsetSign.AHEAD_OF_UTC, 3)),
+            nullValue());
+        assertThat(
+            SeasonCache.find(AstronomicalSeason.AUTUMNAL_EQUINOX, ZonalOffset.ofHoursMinutes(OffsetSign.AHEAD_OF_UTC, 3, 30)),
+            nullValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void yearTooSmall() {
+        SeasonCache.IRAN_VERNAL_EQUINOX.apparentTimeInYear(-2001);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void yearTooLarge() {
+        SeasonCache.IRAN_VERNAL_EQUINOX.apparentTimeInYear(3001);
+    }
+
+}
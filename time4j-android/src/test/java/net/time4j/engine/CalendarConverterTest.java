@@ -0,0 +1,72 @@
+package net.time4j.engine;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.HijriAlgorithm;
+import net.time4j.calendar.HijriCalendar;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CalendarConverterTest {
+
+    private static final String VARIANT = HijriAlgorithm.WEST_ISLAMIC_CIVIL.getVariant();
+
+    @Test
+    public void sameAsDirectConversion() {
+        CalendarConverter<PlainDate, HijriCalendar> converter =
+            CalendarConverter.of(PlainDate.axis(), "", HijriCalendar.family(), VARIANT);
+        CalendarSystem<HijriCalendar> target = HijriCalendar.family().getCalendarSystem(VARIANT);
+        Random random = new Random(1L);
+        long start = PlainDate.of(2000, 1, 1).getDaysSinceEpochUTC();
+        for (int i = 0; i < 100000; i++) {
+            long utcDays = start + random.nextInt(3000);
+            PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
+            assertThat(converter.convert(date), is(target.transform(utcDays)));
+            assertThat(converter.convert(utcDays), is(target.transform(utcDays)));
+        }
+    }
+
+    @Test
+    public void backwardConversion() {
+        CalendarConverter<HijriCalendar, PlainDate> converter =
+            CalendarConverter.of(HijriCalendar.family(), VARIANT, PlainDate.axis(), "");
+        HijriCalendar hijri = HijriCalendar.of(VARIANT, 1440, 1, 1);
+        for (int i = 0; i < 1000; i++) {
+            HijriCalendar current = hijri.plus(CalendarDays.of(i));
+            assertThat(converter.convert(current), is(current.transform(PlainDate.class)));
+        }
+    }
+
+    @Test
+    public void calendarSystems() {
+        CalendarConverter<PlainDate, HijriCalendar> converter =
+            CalendarConverter.of(
+                PlainDate.axis().getCalendarSystem(),
+                HijriCalendar.family().getCalendarSystem(VARIANT));
+        PlainDate date = PlainDate.of(2021, 4, 13);
+        assertThat(converter.convert(date), is(date.transform(HijriCalendar.class, VARIANT)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void wrongSourceVariant() {
+        CalendarConverter<HijriCalendar, PlainDate> converter =
+            CalendarConverter.of(HijriCalendar.family(), VARIANT, PlainDate.axis(), "");
+        converter.convert(HijriCalendar.of(HijriAlgorithm.EAST_ISLAMIC_CIVIL.getVariant(), 1440, 1, 1));
+    }
+
+    @Test(expected=ArithmeticException.class)
+    public void outOfTargetRange() {
+        CalendarConverter<PlainDate, HijriCalendar> converter =
+            CalendarConverter.of(PlainDate.axis(), "", HijriCalendar.family(), VARIANT);
+        converter.convert(PlainDate.of(1, 1, 1));
+    }
+
+}